@@ -0,0 +1,37 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.ToString;
+
+/**
+ * Bell that wakes up the {@link Routine}, when something happens
+ * that must not wait for the next regular cycle, like a GitHub webhook.
+ * @since 2.1
+ */
+@ToString
+public final class Bell {
+
+    /**
+     * Is it ringing?
+     */
+    private final transient AtomicBoolean ringing = new AtomicBoolean();
+
+    /**
+     * Ring it.
+     */
+    public void ring() {
+        this.ringing.set(true);
+    }
+
+    /**
+     * Answer it, if it's ringing.
+     * @return TRUE if it was ringing
+     */
+    public boolean answer() {
+        return this.ringing.getAndSet(false);
+    }
+}
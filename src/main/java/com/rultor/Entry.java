@@ -8,7 +8,6 @@ import co.stateful.RtSttc;
 import co.stateful.Sttc;
 import co.stateful.cached.CdSttc;
 import co.stateful.retry.ReSttc;
-import com.google.common.collect.EvictingQueue;
 import com.jcabi.aspects.Cacheable;
 import com.jcabi.aspects.LogExceptions;
 import com.jcabi.dynamo.Credentials;
@@ -22,17 +21,14 @@ import com.jcabi.log.Logger;
 import com.jcabi.urn.URN;
 import com.rultor.cached.CdTalks;
 import com.rultor.dynamo.DyTalks;
+import com.rultor.jfr.JfrWire;
 import com.rultor.spi.Pulse;
 import com.rultor.spi.Talks;
-import com.rultor.spi.Tick;
 import com.rultor.web.TkApp;
 import io.sentry.Sentry;
+import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.concurrent.TimeUnit;
 import org.cactoos.scalar.IoChecked;
 import org.cactoos.scalar.LengthOf;
 import org.takes.http.Exit;
@@ -90,14 +86,18 @@ public final class Entry {
                 this.dynamo(), this.sttc().counters().get("rt-talk")
             )
         );
+        final Bell bell = new Bell();
         Logger.info(this, "Starting the Routine...");
         final Routine routine = new Routine(
-            talks, Entry.pulse(), this.github(), this.sttc()
+            talks, Entry.pulse(), this.github(), this.sttc(), bell
         );
         Logger.info(this, "Starting the web front to run forever...");
         try {
             new FtCli(
-                new TkApp(talks, Entry.pulse(), new Toggles.InFile()),
+                new TkApp(
+                    talks, Entry.pulse(), new Toggles.InFile(),
+                    this.github(), bell
+                ),
                 this.arguments
             ).start(Exit.NEVER);
         } finally {
@@ -114,10 +114,10 @@ public final class Entry {
             github = new MkGitHub();
         } else {
             github = new RtGitHub(
-                new RtGitHub(token).entry().through(
-                    RetryCarefulWire.class,
-                    100
-                )
+                new RtGitHub(token).entry()
+                    .through(JfrWire.class)
+                    .through(MeteredWire.class)
+                    .through(RetryCarefulWire.class, 100)
             );
         }
         Logger.info(this, "GitHub object instantiated...");
@@ -170,38 +170,17 @@ public final class Entry {
         );
     }
 
+    /**
+     * Pulse, saved to the directory from the manifest, or to
+     * the temporary one if it's not configured.
+     * @return Pulse
+     */
     @Cacheable(forever = true)
     private static Pulse pulse() {
-        final Collection<Tick> ticks = Collections.synchronizedCollection(
-            EvictingQueue.create((int) TimeUnit.HOURS.toMinutes(1L))
-        );
-        final Collection<Throwable> error = Collections.synchronizedCollection(
-            new ArrayList<>(1)
-        );
-        // @checkstyle AnonInnerLengthCheck (50 lines)
-        return new Pulse() {
-            @Override
-            public void add(final Tick tick) {
-                ticks.add(tick);
-            }
-
-            @Override
-            public Iterable<Tick> ticks() {
-                return Collections.unmodifiableCollection(ticks);
-            }
-
-            @Override
-            public Iterable<Throwable> error() {
-                return Collections.unmodifiableCollection(error);
-            }
-
-            @Override
-            public void error(final Iterable<Throwable> errors) {
-                error.clear();
-                for (final Throwable err : errors) {
-                    error.add(err);
-                }
-            }
-        };
+        String dir = Env.read("Rultor-PulseDir");
+        if (dir.startsWith("${")) {
+            dir = "/tmp/rultor-pulse";
+        }
+        return new FilePulse(new File(dir));
     }
 }
@@ -0,0 +1,305 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor;
+
+import com.google.common.collect.EvictingQueue;
+import com.jcabi.log.Logger;
+import com.rultor.spi.Pulse;
+import com.rultor.spi.Tick;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.ToString;
+
+/**
+ * Pulse that is saved to files, to survive restarts.
+ *
+ * <p>Ticks are saved in three rings, each one a file of fixed-size records.
+ * The position of a record is defined by the time of the tick, so a new
+ * tick overwrites the record of the same slot, left there one ring ago.
+ * The first ring keeps ticks as they are, for the last hour. The second
+ * one merges them into five-minute slots, for two days. The third
+ * one merges them into hourly slots, for five weeks. Every record keeps
+ * the start of its first tick, total duration of all its ticks, maximum
+ * number of talks and the number of ticks merged.</p>
+ *
+ * <p>Ticks of the last hour are also kept in memory, since they are
+ * rendered by the front page very often. The errors are not saved.</p>
+ *
+ * @since 2.1
+ */
+@ToString(of = "dir")
+public final class FilePulse implements Pulse {
+
+    /**
+     * Size of one record, in bytes.
+     */
+    private static final int BYTES = 24;
+
+    /**
+     * Rings: raw ticks, five-minute slots and hourly slots.
+     */
+    private static final FilePulse.Ring[] RINGS = {
+        new FilePulse.Ring("raw", TimeUnit.SECONDS.toMillis(5L), 720),
+        new FilePulse.Ring("5min", TimeUnit.MINUTES.toMillis(5L), 576),
+        new FilePulse.Ring("1h", TimeUnit.HOURS.toMillis(1L), 840),
+    };
+
+    /**
+     * Directory with rings.
+     */
+    private final transient File dir;
+
+    /**
+     * Lock for files and the memory.
+     */
+    private final transient ReentrantLock lock;
+
+    /**
+     * Ticks of the last hour, the oldest first.
+     */
+    private final transient Queue<Tick> recent;
+
+    /**
+     * Are they loaded from the file already?
+     */
+    private final transient AtomicBoolean loaded;
+
+    /**
+     * Recent errors.
+     */
+    private final transient Collection<Throwable> errors;
+
+    /**
+     * Ctor.
+     * @param path Directory with files
+     */
+    public FilePulse(final File path) {
+        this.dir = path;
+        this.lock = new ReentrantLock();
+        this.recent = EvictingQueue.create(FilePulse.RINGS[0].size);
+        this.loaded = new AtomicBoolean();
+        this.errors = Collections.synchronizedCollection(new ArrayList<>(1));
+    }
+
+    @Override
+    public void add(final Tick tick) {
+        this.lock.lock();
+        try {
+            this.memory().add(tick);
+            for (final FilePulse.Ring ring : FilePulse.RINGS) {
+                ring.put(this.dir, tick);
+            }
+        } catch (final IOException ex) {
+            Logger.warn(
+                this, "Failed to save the tick to %s: %[exception]s",
+                this.dir, ex
+            );
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Iterable<Tick> ticks() {
+        this.lock.lock();
+        try {
+            return Collections.unmodifiableList(new ArrayList<>(this.memory()));
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Iterable<Tick> history(final long from, final long till) {
+        final long now = System.currentTimeMillis();
+        FilePulse.Ring ring = FilePulse.RINGS[FilePulse.RINGS.length - 1];
+        for (final FilePulse.Ring candidate : FilePulse.RINGS) {
+            if (now - from <= candidate.window()) {
+                ring = candidate;
+                break;
+            }
+        }
+        this.lock.lock();
+        try {
+            return ring.read(this.dir, from, till);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    @Override
+    public Iterable<Throwable> error() {
+        return Collections.unmodifiableCollection(this.errors);
+    }
+
+    @Override
+    public void error(final Iterable<Throwable> list) {
+        synchronized (this.errors) {
+            this.errors.clear();
+            for (final Throwable err : list) {
+                this.errors.add(err);
+            }
+        }
+    }
+
+    /**
+     * Ticks of the last hour, loaded from the file, if not yet.
+     * Ticks older than an hour are dropped, no matter how many
+     * of them are there. Must be called under the lock.
+     * @return Modifiable collection
+     */
+    private Collection<Tick> memory() {
+        final long now = System.currentTimeMillis();
+        if (!this.loaded.getAndSet(true)) {
+            try {
+                this.recent.addAll(
+                    FilePulse.RINGS[0].read(
+                        this.dir, now - FilePulse.RINGS[0].window(), now
+                    )
+                );
+            } catch (final IOException ex) {
+                Logger.warn(
+                    this, "Failed to load ticks from %s: %[exception]s",
+                    this.dir, ex
+                );
+            }
+        }
+        final long oldest = now - FilePulse.RINGS[0].window();
+        while (!this.recent.isEmpty()
+            && this.recent.peek().start() < oldest) {
+            this.recent.remove();
+        }
+        return this.recent;
+    }
+
+    /**
+     * One ring of records.
+     *
+     * @since 2.1
+     */
+    private static final class Ring {
+
+        /**
+         * Name of the file.
+         */
+        private final transient String name;
+
+        /**
+         * Duration of one slot, in milliseconds.
+         */
+        private final transient long slot;
+
+        /**
+         * Number of slots.
+         */
+        private final transient int size;
+
+        /**
+         * Ctor.
+         * @param file Name of the file
+         * @param msec Duration of one slot
+         * @param total Number of slots
+         */
+        Ring(final String file, final long msec, final int total) {
+            this.name = file;
+            this.slot = msec;
+            this.size = total;
+        }
+
+        /**
+         * How long it remembers.
+         * @return Milliseconds
+         */
+        long window() {
+            return this.slot * (long) this.size;
+        }
+
+        /**
+         * Put a tick into its slot, merging it with the record
+         * of the same slot, if it's there.
+         * @param dir Directory
+         * @param tick The tick
+         * @throws IOException If fails
+         */
+        void put(final File dir, final Tick tick) throws IOException {
+            if (dir.mkdirs()) {
+                Logger.info(this, "Directory %s created", dir);
+            }
+            try (RandomAccessFile file = new RandomAccessFile(
+                new File(dir, this.name), "rw"
+            )) {
+                final long pos = tick.start() / this.slot % (long) this.size
+                    * (long) FilePulse.BYTES;
+                final ByteBuffer rec = ByteBuffer.allocate(FilePulse.BYTES);
+                if (file.length() >= pos + (long) FilePulse.BYTES) {
+                    file.seek(pos);
+                    file.readFully(rec.array());
+                }
+                final long start = rec.getLong(0);
+                if (start > 0L
+                    && start / this.slot == tick.start() / this.slot) {
+                    rec.putLong(8, rec.getLong(8) + tick.duration())
+                        .putInt(16, Math.max(rec.getInt(16), tick.total()))
+                        .putInt(20, rec.getInt(20) + 1);
+                } else {
+                    rec.putLong(0, tick.start())
+                        .putLong(8, tick.duration())
+                        .putInt(16, tick.total())
+                        .putInt(20, 1);
+                }
+                file.seek(pos);
+                file.write(rec.array());
+            }
+        }
+
+        /**
+         * Read ticks between two moments.
+         * @param dir Directory
+         * @param from Start, in milliseconds since epoch, inclusive
+         * @param till End, exclusive
+         * @return Ticks, in chronological order
+         * @throws IOException If fails
+         */
+        List<Tick> read(final File dir, final long from, final long till)
+            throws IOException {
+            final File path = new File(dir, this.name);
+            final List<Tick> ticks = new ArrayList<>(this.size);
+            if (path.exists()) {
+                final long oldest = System.currentTimeMillis() - this.window();
+                try (RandomAccessFile file = new RandomAccessFile(path, "r")) {
+                    final byte[] all = new byte[(int) file.length()];
+                    file.readFully(all);
+                    final ByteBuffer buf = ByteBuffer.wrap(all);
+                    while (buf.remaining() >= FilePulse.BYTES) {
+                        final long start = buf.getLong();
+                        final long msec = buf.getLong();
+                        final int total = buf.getInt();
+                        final int count = buf.getInt();
+                        if (count > 0 && start >= from && start < till
+                            && start >= oldest) {
+                            ticks.add(new Tick(start, msec / count, total));
+                        }
+                    }
+                }
+            }
+            ticks.sort(Comparator.comparingLong(Tick::start));
+            return ticks;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that records latency of GitHub calls to {@link Metrics},
+ * by HTTP method, failed calls too.
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString(of = "origin")
+@EqualsAndHashCode(of = "origin")
+public final class MeteredWire implements Wire {
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Ctor.
+     * @param wire Original wire
+     */
+    public MeteredWire(final Wire wire) {
+        this.origin = wire;
+    }
+
+    // @checkstyle ParameterNumberCheck (3 lines)
+    @Override
+    public Response send(final Request req, final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content, final int connect, final int read)
+        throws IOException {
+        final long start = System.nanoTime();
+        try {
+            return this.origin.send(
+                req, home, method, headers, content, connect, read
+            );
+        } finally {
+            new Metrics().observe(
+                "rultor_github_seconds", "method", method,
+                System.nanoTime() - start
+            );
+        }
+    }
+}
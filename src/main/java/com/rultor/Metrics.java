@@ -0,0 +1,259 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor;
+
+import com.jcabi.aspects.Immutable;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Metrics of the whole application, in memory.
+ *
+ * <p>Latencies go to histograms with fixed buckets, from five
+ * milliseconds to five minutes, events go to counters, and current
+ * values, like the load of build hosts, go to gauges. Recording is just
+ * a few {@link LongAdder} increments, without locks, so it's
+ * cheap enough to be done around every agent. All of them are printed
+ * in Prometheus text format by {@link #text()}.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode
+public final class Metrics {
+
+    /**
+     * Upper bounds of histogram buckets, in milliseconds.
+     */
+    private static final long[] BUCKETS = {
+        5L, 10L, 25L, 50L, 100L, 250L, 500L, 1_000L, 2_500L, 5_000L,
+        10_000L, 30_000L, 60_000L, 300_000L,
+    };
+
+    /**
+     * Histograms, by metric names and labels.
+     */
+    private static final ConcurrentMap<String, ConcurrentMap<String,
+        Metrics.Histogram>> HISTOGRAMS = new ConcurrentSkipListMap<>();
+
+    /**
+     * Counters, by metric names and labels.
+     */
+    private static final ConcurrentMap<String, ConcurrentMap<String,
+        LongAdder>> COUNTERS = new ConcurrentSkipListMap<>();
+
+    /**
+     * Gauges, by metric names and labels.
+     */
+    private static final ConcurrentMap<String, ConcurrentMap<String,
+        Double>> GAUGES = new ConcurrentSkipListMap<>();
+
+    /**
+     * Observe one latency.
+     * @param name Name of the histogram, like "rultor_agent_seconds"
+     * @param label Name of the label, like "agent"
+     * @param value Value of the label
+     * @param nanos How long it took, in nanoseconds
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public void observe(final String name, final String label,
+        final String value, final long nanos) {
+        Metrics.HISTOGRAMS
+            .computeIfAbsent(name, key -> new ConcurrentSkipListMap<>())
+            .computeIfAbsent(
+                Metrics.labels(label, value), key -> new Metrics.Histogram()
+            )
+            .add(nanos);
+    }
+
+    /**
+     * Count one event.
+     * @param name Name of the counter, like "rultor_agent_failures_total"
+     * @param label Name of the label, like "agent"
+     * @param value Value of the label
+     */
+    public void increment(final String name, final String label,
+        final String value) {
+        Metrics.COUNTERS
+            .computeIfAbsent(name, key -> new ConcurrentSkipListMap<>())
+            .computeIfAbsent(
+                Metrics.labels(label, value), key -> new LongAdder()
+            )
+            .increment();
+    }
+
+    /**
+     * Set the current value.
+     * @param name Name of the gauge, like "rultor_host_disk_ratio"
+     * @param label Name of the label, like "host"
+     * @param value Value of the label
+     * @param current The current value
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public void gauge(final String name, final String label,
+        final String value, final double current) {
+        Metrics.GAUGES
+            .computeIfAbsent(name, key -> new ConcurrentSkipListMap<>())
+            .put(Metrics.labels(label, value), current);
+    }
+
+    /**
+     * Forget all gauges with this label.
+     * @param label Name of the label, like "host"
+     * @param value Value of the label
+     */
+    public void unset(final String label, final String value) {
+        final String labels = Metrics.labels(label, value);
+        for (final ConcurrentMap<String, Double> gauges
+            : Metrics.GAUGES.values()) {
+            gauges.remove(labels);
+        }
+    }
+
+    /**
+     * Print them all in Prometheus text format.
+     * @return Text
+     */
+    public String text() {
+        final StringBuilder text = new StringBuilder(10_000);
+        for (final Map.Entry<String, ConcurrentMap<String, LongAdder>> ent
+            : Metrics.COUNTERS.entrySet()) {
+            text.append(String.format("# TYPE %s counter\n", ent.getKey()));
+            for (final Map.Entry<String, LongAdder> counter
+                : ent.getValue().entrySet()) {
+                text.append(
+                    String.format(
+                        "%s{%s} %d\n",
+                        ent.getKey(), counter.getKey(), counter.getValue().sum()
+                    )
+                );
+            }
+        }
+        for (final Map.Entry<String, ConcurrentMap<String, Double>> ent
+            : Metrics.GAUGES.entrySet()) {
+            text.append(String.format("# TYPE %s gauge\n", ent.getKey()));
+            for (final Map.Entry<String, Double> gauge
+                : ent.getValue().entrySet()) {
+                text.append(
+                    String.format(
+                        Locale.ENGLISH, "%s{%s} %.6f\n",
+                        ent.getKey(), gauge.getKey(), gauge.getValue()
+                    )
+                );
+            }
+        }
+        for (final Map.Entry<String, ConcurrentMap<String, Metrics.Histogram>>
+            ent : Metrics.HISTOGRAMS.entrySet()) {
+            text.append(String.format("# TYPE %s histogram\n", ent.getKey()));
+            for (final Map.Entry<String, Metrics.Histogram> hist
+                : ent.getValue().entrySet()) {
+                hist.getValue().print(ent.getKey(), hist.getKey(), text);
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Make labels.
+     * @param label Name of the label
+     * @param value Its value
+     * @return Text, like "agent=\"Foo\""
+     */
+    private static String labels(final String label, final String value) {
+        return String.format(
+            "%s=\"%s\"", label,
+            value.replace("\\", "\\\\").replace("\"", "\\\"")
+                .replace("\n", "\\n")
+        );
+    }
+
+    /**
+     * Histogram with fixed buckets.
+     *
+     * @since 2.1
+     */
+    private static final class Histogram {
+
+        /**
+         * Counts in buckets, not cumulative, the last one is "+Inf".
+         */
+        private final transient LongAdder[] counts;
+
+        /**
+         * Total of all observations, in nanoseconds.
+         */
+        private final transient LongAdder sum;
+
+        /**
+         * Ctor.
+         */
+        Histogram() {
+            this.counts = new LongAdder[Metrics.BUCKETS.length + 1];
+            for (int idx = 0; idx < this.counts.length; ++idx) {
+                this.counts[idx] = new LongAdder();
+            }
+            this.sum = new LongAdder();
+        }
+
+        /**
+         * Add one observation.
+         * @param nanos Nanoseconds
+         */
+        void add(final long nanos) {
+            final long msec = TimeUnit.NANOSECONDS.toMillis(nanos);
+            int idx = 0;
+            while (idx < Metrics.BUCKETS.length
+                && msec > Metrics.BUCKETS[idx]) {
+                ++idx;
+            }
+            this.counts[idx].increment();
+            this.sum.add(nanos);
+        }
+
+        /**
+         * Print it.
+         * @param name Name of the metric
+         * @param labels Labels
+         * @param text Where to print
+         */
+        void print(final String name, final String labels,
+            final StringBuilder text) {
+            long total = 0L;
+            for (int idx = 0; idx < this.counts.length; ++idx) {
+                total += this.counts[idx].sum();
+                final String bound;
+                if (idx < Metrics.BUCKETS.length) {
+                    bound = String.format(
+                        Locale.ENGLISH, "%.3f",
+                        (double) Metrics.BUCKETS[idx]
+                            / (double) TimeUnit.SECONDS.toMillis(1L)
+                    );
+                } else {
+                    bound = "+Inf";
+                }
+                text.append(
+                    String.format(
+                        "%s_bucket{%s,le=\"%s\"} %d\n",
+                        name, labels, bound, total
+                    )
+                );
+            }
+            text.append(
+                String.format(
+                    Locale.ENGLISH, "%s_sum{%s} %.6f\n", name, labels,
+                    (double) this.sum.sum()
+                        / (double) TimeUnit.SECONDS.toNanos(1L)
+                )
+            ).append(String.format("%s_count{%s} %d\n", name, labels, total));
+        }
+    }
+}
@@ -15,6 +15,7 @@ import com.rultor.agents.github.qtn.RepoNotFoundException;
 import com.rultor.profiles.Profiles;
 import com.rultor.spi.Profile;
 import com.rultor.spi.Pulse;
+import com.rultor.spi.SuperAgent;
 import com.rultor.spi.Talk;
 import com.rultor.spi.Talks;
 import com.rultor.spi.Tick;
@@ -27,6 +28,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.validation.constraints.NotNull;
 import org.cactoos.iterable.Mapped;
 import org.cactoos.list.ListOf;
@@ -45,10 +47,15 @@ import org.cactoos.list.ListOf;
  *  com.rultor.agents.github.Reports#process(com.jcabi.xml.XML) should be
  *  removed.
  */
-@ScheduleWithFixedDelay
+@ScheduleWithFixedDelay(delay = 5, unit = TimeUnit.SECONDS)
 @SuppressWarnings("PMD.ConstructorShouldDoInitialization")
 final class Routine implements Runnable, Closeable {
 
+    /**
+     * Interval between regular cycles, in milliseconds.
+     */
+    private static final long PERIOD = TimeUnit.MINUTES.toMillis(1L);
+
     /**
      * How many talks to process in one cycle.
      */
@@ -79,18 +86,39 @@ final class Routine implements Runnable, Closeable {
      */
     private final transient Agents agents;
 
+    /**
+     * Starter super agent, created once.
+     */
+    private final transient SuperAgent starter;
+
+    /**
+     * Bell that wakes us up earlier.
+     */
+    private final transient Bell bell;
+
+    /**
+     * When the last cycle started.
+     */
+    private final transient AtomicLong last = new AtomicLong();
+
     /**
      * Ctor.
      * @param tlks Talks
      * @param pls Pulse
      * @param github GitHub client
      * @param sttc Sttc client
+     * @param bll The bell
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (5 lines)
      */
     Routine(@NotNull final Talks tlks, final Pulse pls,
-        final GitHub github, final Sttc sttc) {
+        final GitHub github, final Sttc sttc, final Bell bll)
+        throws IOException {
         this.talks = tlks;
         this.pulse = pls;
         this.agents = new Agents(github, sttc);
+        this.starter = this.agents.starter();
+        this.bell = bll;
     }
 
     @Override
@@ -98,11 +126,20 @@ final class Routine implements Runnable, Closeable {
         this.down.set(true);
     }
 
+    /**
+     * Run a cycle, if it's time or if the bell is ringing.
+     *
+     * <p>It is called every few seconds, but normally processes talks
+     * only once in {@link #PERIOD}. When a webhook rings the bell, the
+     * cycle starts immediately.</p>
+     */
     @Override
     public void run() {
-        new VerboseRunnable(
-            () -> this.safe(System.currentTimeMillis()), true
-        ).run();
+        final long now = System.currentTimeMillis();
+        if (this.bell.answer() || now - this.last.get() >= Routine.PERIOD) {
+            this.last.set(now);
+            new VerboseRunnable(() -> this.safe(now), true).run();
+        }
     }
 
     private void safe(final long begin) {
@@ -160,7 +197,7 @@ final class Routine implements Runnable, Closeable {
     }
 
     private int process(final List<Talk> active) throws IOException {
-        this.agents.starter().execute(this.talks);
+        this.starter.execute(this.talks);
         final Profiles profiles = new Profiles();
         Collections.reverse(active);
         int total = 0;
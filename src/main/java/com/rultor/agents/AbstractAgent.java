@@ -7,6 +7,7 @@ package com.rultor.agents;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.immutable.Array;
 import com.jcabi.xml.XML;
+import com.rultor.Metrics;
 import com.rultor.spi.Agent;
 import com.rultor.spi.Talk;
 import java.io.IOException;
@@ -16,6 +17,10 @@ import org.xembly.Directive;
 
 /**
  * Abstract agent.
+ *
+ * <p>Every time the XPath preconditions match, it is counted as a hit
+ * in {@link Metrics}, labelled by the simple name of the class.</p>
+ *
  * @since 1.0
  */
 @Immutable
@@ -44,6 +49,10 @@ public abstract class AbstractAgent implements Agent {
     @Override
     public final void execute(final Talk talk) throws IOException {
         if (new Required(this.xpaths).isIt(talk)) {
+            new Metrics().increment(
+                "rultor_agent_hits_total", "agent",
+                this.getClass().getSimpleName()
+            );
             talk.modify(this.process(talk.read()));
         }
     }
@@ -22,7 +22,10 @@ import com.rultor.agents.aws.PrunesInstances;
 import com.rultor.agents.aws.ShootsInstance;
 import com.rultor.agents.aws.StartsInstance;
 import com.rultor.agents.aws.TerminatesInstance;
+import com.rultor.agents.aws.WarmsInstances;
 import com.rultor.agents.daemons.ArchivesDaemon;
+import com.rultor.agents.daemons.BackfillsCatalog;
+import com.rultor.agents.daemons.CatalogsLogs;
 import com.rultor.agents.daemons.DismountDaemon;
 import com.rultor.agents.daemons.DropsDaemon;
 import com.rultor.agents.daemons.EndsDaemon;
@@ -33,6 +36,8 @@ import com.rultor.agents.daemons.StartsDaemon;
 import com.rultor.agents.daemons.StopsDaemon;
 import com.rultor.agents.daemons.WipesDaemon;
 import com.rultor.agents.docker.DockerExec;
+import com.rultor.agents.docker.PullsImages;
+import com.rultor.agents.docker.TracksImages;
 import com.rultor.agents.github.CommentsTag;
 import com.rultor.agents.github.Dephantomizes;
 import com.rultor.agents.github.DropsTalk;
@@ -40,6 +45,7 @@ import com.rultor.agents.github.Invitations;
 import com.rultor.agents.github.Question;
 import com.rultor.agents.github.ReleaseBinaries;
 import com.rultor.agents.github.Reports;
+import com.rultor.agents.github.Self;
 import com.rultor.agents.github.Stars;
 import com.rultor.agents.github.StartsTalks;
 import com.rultor.agents.github.Understands;
@@ -71,11 +77,16 @@ import com.rultor.agents.github.qtn.QnStop;
 import com.rultor.agents.github.qtn.QnUnlock;
 import com.rultor.agents.github.qtn.QnVersion;
 import com.rultor.agents.github.qtn.QnWithAuthor;
+import com.rultor.agents.req.AdmitsRequests;
+import com.rultor.agents.req.Admitted;
 import com.rultor.agents.req.EndsRequest;
 import com.rultor.agents.req.StartsRequest;
+import com.rultor.agents.shells.Hosts;
+import com.rultor.agents.shells.MeasuresHosts;
 import com.rultor.agents.shells.PfShell;
 import com.rultor.agents.shells.RegistersShell;
 import com.rultor.agents.shells.RemovesShell;
+import com.rultor.agents.shells.SamplesHosts;
 import com.rultor.agents.twitter.OAuthTwitter;
 import com.rultor.agents.twitter.Tweets;
 import com.rultor.spi.Agent;
@@ -83,6 +94,7 @@ import com.rultor.spi.Profile;
 import com.rultor.spi.SuperAgent;
 import com.rultor.spi.Talk;
 import java.io.IOException;
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -101,7 +113,7 @@ import org.cactoos.text.UncheckedText;
 public final class Agents {
 
     /**
-     * Host to connect to.
+     * Host to connect to, the only one in the pool of hosts.
      */
     private static final String HOST = "b4.rultor.com";
 
@@ -115,6 +127,12 @@ public final class Agents {
      */
     private static final String LOGIN = "rultor";
 
+    /**
+     * Execution of a daemon agent longer than this is reported,
+     * in milliseconds.
+     */
+    private static final long SLOW = TimeUnit.SECONDS.toMillis(30L);
+
     /**
      * GitHub client.
      */
@@ -137,31 +155,131 @@ public final class Agents {
 
     /**
      * Create super agent, starter.
+     *
+     * <p>Notifications are polled rarely, since mentions are delivered
+     * by the GitHub webhook, polling is just a safety net. The starter
+     * must be created once and reused, since it keeps the time of the
+     * last polling.</p>
+     *
      * @return The starter
      * @throws IOException If fails
      */
     public SuperAgent starter() throws IOException {
         return new SuperAgent.Iterative(
             new Array<>(
-                new StartsTalks(this.github),
-                new Invitations(this.github),
-                new IndexesRequests(),
+                new PacedSuperAgent(
+                    new MeteredSuperAgent(
+                        new StartsTalks(
+                            this.github, TimeUnit.MINUTES.toMillis(12L)
+                        )
+                    ),
+                    TimeUnit.MINUTES.toMillis(10L)
+                ),
+                new MeteredSuperAgent(new Invitations(this.github)),
+                new MeteredSuperAgent(new IndexesRequests()),
+                new SuperAgent.Quiet(
+                    new MeteredSuperAgent(
+                        new AdmitsRequests(this.github, 16, 4)
+                    )
+                ),
+                new SuperAgent.Quiet(
+                    new MeteredSuperAgent(
+                        new BackfillsCatalog(
+                            new ReRegion(
+                                new Region.Simple(
+                                    Env.read("Rultor-S3Key"),
+                                    Env.read("Rultor-S3Secret")
+                                )
+                            ).bucket(Env.read("Rultor-S3Bucket")),
+                            50
+                        )
+                    )
+                ),
+                new SuperAgent.Quiet(
+                    new MeteredSuperAgent(
+                        new PrunesInstances(
+                            new AwsEc2(
+                                Env.read("Rultor-EC2Key"),
+                                Env.read("Rultor-EC2Secret")
+                            ),
+                            TimeUnit.HOURS.toMillis(3L)
+                        )
+                    )
+                ),
+                new SuperAgent.Quiet(
+                    new MeteredSuperAgent(
+                        new WarmsInstances(
+                            new AwsEc2(
+                                Env.read("Rultor-EC2Key"),
+                                Env.read("Rultor-EC2Secret")
+                            ),
+                            new PfShell(
+                                Profile.EMPTY, "none", Agents.PORT,
+                                "ubuntu", Agents.priv()
+                            ),
+                            Collections.singletonMap(
+                                Env.read("Rultor-EC2Type"), 2
+                            ),
+                            TimeUnit.HOURS.toMillis(1L),
+                            Env.read("Rultor-EC2Image"),
+                            Env.read("Rultor-EC2Group"),
+                            Env.read("Rultor-EC2Subnet")
+                        )
+                    )
+                ),
                 new SuperAgent.Quiet(
-                    new PrunesInstances(
-                        new AwsEc2(
-                            Env.read("Rultor-EC2Key"),
-                            Env.read("Rultor-EC2Secret")
+                    new PacedSuperAgent(
+                        new MeteredSuperAgent(
+                            new SamplesHosts(Agents.hosts())
                         ),
-                        TimeUnit.HOURS.toMillis(3L)
+                        TimeUnit.MINUTES.toMillis(5L)
                     )
                 ),
                 new SuperAgent.Disabled(
-                    new DockerExec(
-                        new Ssh(
-                            Agents.HOST, Agents.PORT, Agents.LOGIN,
-                            Agents.priv()
-                        ),
-                        "prune.sh"
+                    new MeteredSuperAgent(
+                        new MeasuresHosts(
+                            Agents.hosts(),
+                            Collections.singletonMap(
+                                Agents.HOST,
+                                new Ssh(
+                                    Agents.HOST, Agents.PORT, Agents.LOGIN,
+                                    Agents.priv()
+                                )
+                            )
+                        )
+                    )
+                ),
+                new SuperAgent.Disabled(
+                    new MeteredSuperAgent(
+                        new DockerExec(
+                            new Ssh(
+                                Agents.HOST, Agents.PORT, Agents.LOGIN,
+                                Agents.priv()
+                            ),
+                            "prune.sh"
+                        )
+                    )
+                ),
+                new SuperAgent.Disabled(
+                    new MeteredSuperAgent(
+                        new DockerExec(
+                            new Ssh(
+                                Agents.HOST, Agents.PORT, Agents.LOGIN,
+                                Agents.priv()
+                            ),
+                            "images.sh"
+                        )
+                    )
+                ),
+                new SuperAgent.Disabled(
+                    new MeteredSuperAgent(
+                        new PullsImages(
+                            new Ssh(
+                                Agents.HOST, Agents.PORT, Agents.LOGIN,
+                                Agents.priv()
+                            ),
+                            4
+                        )
                     )
                 )
             )
@@ -176,8 +294,10 @@ public final class Agents {
     public SuperAgent closer() throws IOException {
         return new SuperAgent.Iterative(
             new Array<>(
-                new UnlocksRepo(this.sttc.locks(), this.github),
-                new DeactivatesTalks()
+                new MeteredSuperAgent(
+                    new UnlocksRepo(this.sttc.locks(), this.github)
+                ),
+                new MeteredSuperAgent(new DeactivatesTalks())
             )
         );
     }
@@ -195,7 +315,7 @@ public final class Agents {
             49_092_213,
             new QnNotSelf(
                 new QnReferredTo(
-                    this.github.users().self().login(),
+                    new Self(this.github).login(),
                     new QnReaction(
                         new QnParametrized(
                             new QnWithAuthor(
@@ -245,95 +365,139 @@ public final class Agents {
         );
         return new VerboseAgent(
             new Agent.Iterative(
-                new Agent.Quiet(new SanitizesDaemon()),
-                new WipesDaemon(),
-                new DropsTalk(),
-                new Understands(
-                    this.github,
-                    new QnSafe(question)
+                new Agent.Quiet(new MeteredAgent(new SanitizesDaemon())),
+                new MeteredAgent(new WipesDaemon()),
+                new MeteredAgent(new DropsTalk()),
+                new MeteredAgent(
+                    new Understands(
+                        this.github,
+                        new QnSafe(question)
+                    )
                 ),
-                new StartsRequest(profile),
+                new Agent.Quiet(new MeteredAgent(new TracksImages(profile))),
+                new Admitted(new MeteredAgent(new StartsRequest(profile))),
                 new Agent.Quiet(
                     new Agent.Disabled(
-                        new StartsInstance(
-                            profile,
-                            aws,
-                            Env.read("Rultor-EC2Image"),
-                            Env.read("Rultor-EC2Type"),
-                            Env.read("Rultor-EC2Group"),
-                            Env.read("Rultor-EC2Subnet")
+                        new MeteredAgent(
+                            new StartsInstance(
+                                profile,
+                                aws,
+                                Env.read("Rultor-EC2Image"),
+                                Env.read("Rultor-EC2Type"),
+                                Env.read("Rultor-EC2Group"),
+                                Env.read("Rultor-EC2Subnet")
+                            )
                         ),
                         false
                     )
                 ),
-                new Agent.Quiet(new DescribesInstance(aws)),
+                new Agent.Quiet(new MeteredAgent(new DescribesInstance(aws))),
                 new Agent.Quiet(
-                    new ConnectsInstance(
-                        aws,
-                        new PfShell(
-                            profile,
-                            "none",
-                            Agents.PORT,
-                            "ubuntu",
-                            Agents.priv()
+                    new MeteredAgent(
+                        new ConnectsInstance(
+                            aws,
+                            new PfShell(
+                                profile,
+                                "none",
+                                Agents.PORT,
+                                "ubuntu",
+                                Agents.priv()
+                            )
                         )
                     )
                 ),
                 new Agent.Disabled(
-                    new RegistersShell(
-                        profile,
-                        Agents.HOST, Agents.PORT, Agents.LOGIN,
-                        Agents.priv()
+                    new MeteredAgent(
+                        new RegistersShell(
+                            profile,
+                            Agents.hosts(), Agents.PORT, Agents.LOGIN,
+                            Agents.priv()
+                        )
                     ),
                     true
                 ),
-                new DismountDaemon(TimeUnit.HOURS.toMinutes(5L)),
+                new MeteredAgent(
+                    new DismountDaemon(TimeUnit.HOURS.toMinutes(5L))
+                ),
                 new Agent.Quiet(
-                    new DropsDaemon(TimeUnit.HOURS.toMinutes(1L))
+                    new MeteredAgent(
+                        new DropsDaemon(TimeUnit.HOURS.toMinutes(1L))
+                    )
                 ),
-                new Agent.Quiet(new MkdirDaemon()),
-                new TimedAgent(new StartsDaemon(profile)),
+                new Agent.Quiet(new MeteredAgent(new MkdirDaemon())),
+                new MeteredAgent(new StartsDaemon(profile), Agents.SLOW),
                 new Agent.SkipIfName(
-                    new Agent.Quiet(new KillsDaemon(TimeUnit.HOURS.toMinutes(1L))),
+                    new Agent.Quiet(
+                        new MeteredAgent(
+                            new KillsDaemon(TimeUnit.HOURS.toMinutes(1L))
+                        )
+                    ),
                     "^(objectionary|yegor256|zerocracy)/.*$"
                 ),
-                new Agent.Quiet(new KillsDaemon(TimeUnit.HOURS.toMinutes(5L))),
-                new TimedAgent(new StopsDaemon()),
-                new TimedAgent(new Agent.Quiet(new EndsDaemon())),
-                new EndsRequest(),
+                new Agent.Quiet(
+                    new MeteredAgent(
+                        new KillsDaemon(TimeUnit.HOURS.toMinutes(5L))
+                    )
+                ),
+                new MeteredAgent(new StopsDaemon(), Agents.SLOW),
+                new Agent.Quiet(
+                    new MeteredAgent(new EndsDaemon(), Agents.SLOW)
+                ),
+                new MeteredAgent(new EndsRequest()),
                 new SafeAgent(
-                    new Tweets(
-                        this.github,
-                        new OAuthTwitter(
-                            Env.read("Rultor-TwitterKey"),
-                            Env.read("Rultor-TwitterSecret"),
-                            Env.read("Rultor-TwitterToken"),
-                            Env.read("Rultor-TwitterTokenSecret")
+                    new MeteredAgent(
+                        new Tweets(
+                            this.github,
+                            new OAuthTwitter(
+                                Env.read("Rultor-TwitterKey"),
+                                Env.read("Rultor-TwitterSecret"),
+                                Env.read("Rultor-TwitterToken"),
+                                Env.read("Rultor-TwitterTokenSecret")
+                            )
                         )
                     )
                 ),
-                new CommentsTag(this.github, profile),
-                new ReleaseBinaries(this.github, profile),
-                new Dephantomizes(this.github),
-                new Reports(this.github),
-                new Agent.Quiet(new TerminatesInstance(aws)),
-                new Agent.Quiet(new PingsInstance()),
-                new Agent.Quiet(new DropsInstance(aws)),
-                new Agent.Quiet(new DetachesInstance(aws)),
-                new Agent.Quiet(new ShootsInstance(aws, TimeUnit.MINUTES.toMillis(15L))),
-                new RemovesShell(),
+                new MeteredAgent(new CommentsTag(this.github, profile)),
+                new MeteredAgent(new ReleaseBinaries(this.github, profile)),
+                new MeteredAgent(new Dephantomizes(this.github)),
+                new MeteredAgent(new Reports(this.github)),
+                new Agent.Quiet(new MeteredAgent(new TerminatesInstance(aws))),
+                new Agent.Quiet(new MeteredAgent(new PingsInstance())),
+                new Agent.Quiet(new MeteredAgent(new DropsInstance(aws))),
+                new Agent.Quiet(new MeteredAgent(new DetachesInstance(aws))),
                 new Agent.Quiet(
-                    new ArchivesDaemon(
-                        new ReRegion(
-                            new Region.Simple(
-                                Env.read("Rultor-S3Key"),
-                                Env.read("Rultor-S3Secret")
-                            )
-                        ).bucket(Env.read("Rultor-S3Bucket"))
+                    new MeteredAgent(
+                        new ShootsInstance(aws, TimeUnit.MINUTES.toMillis(15L))
+                    )
+                ),
+                new MeteredAgent(new RemovesShell(Agents.hosts())),
+                new Agent.Quiet(
+                    new MeteredAgent(
+                        new ArchivesDaemon(
+                            new ReRegion(
+                                new Region.Simple(
+                                    Env.read("Rultor-S3Key"),
+                                    Env.read("Rultor-S3Secret")
+                                )
+                            ).bucket(Env.read("Rultor-S3Bucket"))
+                        )
+                    )
+                ),
+                new Agent.Quiet(
+                    new MeteredAgent(
+                        new CatalogsLogs(
+                            new ReRegion(
+                                new Region.Simple(
+                                    Env.read("Rultor-S3Key"),
+                                    Env.read("Rultor-S3Secret")
+                                )
+                            ).bucket(Env.read("Rultor-S3Bucket"))
+                        )
                     )
                 ),
-                new Publishes(profile, this.github),
-                new SafeAgent(new Stars(this.github))
+                new Agent.Quiet(new MeteredAgent(new RecordsTrace())),
+                new MeteredAgent(new Publishes(profile, this.github)),
+                new SafeAgent(new MeteredAgent(new Stars(this.github)))
             )
         );
     }
@@ -386,6 +550,10 @@ public final class Agents {
         );
     }
 
+    private static Hosts hosts() {
+        return new Hosts(Collections.singletonMap(Agents.HOST, 8));
+    }
+
     private static String priv() {
         String priv = System.getenv("PRIVATE_SSH_KEY");
         if (priv == null) {
@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.log.Logger;
+import com.rultor.Metrics;
+import com.rultor.jfr.AgentExecute;
+import com.rultor.spi.Agent;
+import com.rultor.spi.Talk;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Agent that records its latency and failures to {@link Metrics}
+ * and to {@link AgentExecute} events.
+ *
+ * <p>The agent is labelled by the simple name of its class, so it has
+ * to wrap the real agent, not a decorator like {@link Agent.Quiet}.
+ * For the same reason it reports executions longer than the limit,
+ * if there is one, by the name of the real agent, instead of
+ * being wrapped by {@link TimedAgent}.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = "origin")
+public final class MeteredAgent implements Agent {
+
+    /**
+     * Name of the label.
+     */
+    private static final String LABEL = "agent";
+
+    /**
+     * Agent.
+     */
+    private final transient Agent origin;
+
+    /**
+     * Longest execution to tolerate silently, in milliseconds.
+     */
+    private final transient long limit;
+
+    /**
+     * Ctor.
+     * @param agent Original agent
+     */
+    public MeteredAgent(final Agent agent) {
+        this(agent, Long.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param agent Original agent
+     * @param msec Longest execution to tolerate silently, in milliseconds
+     */
+    public MeteredAgent(final Agent agent, final long msec) {
+        this.origin = agent;
+        this.limit = msec;
+    }
+
+    @Override
+    public void execute(final Talk talk) throws IOException {
+        final String name = this.origin.getClass().getSimpleName();
+        final long start = System.nanoTime();
+        final AgentExecute event = new AgentExecute();
+        event.begin();
+        boolean done = false;
+        try {
+            this.origin.execute(talk);
+            done = true;
+        } finally {
+            final Metrics metrics = new Metrics();
+            if (!done) {
+                metrics.increment(
+                    "rultor_agent_failures_total", MeteredAgent.LABEL, name
+                );
+            }
+            final long nanos = System.nanoTime() - start;
+            metrics.observe(
+                "rultor_agent_seconds", MeteredAgent.LABEL, name, nanos
+            );
+            final long msec = TimeUnit.NANOSECONDS.toMillis(nanos);
+            if (msec > this.limit) {
+                Logger.error(
+                    this, "%s#execute() took %[ms]s, it's too long!",
+                    this.origin.getClass().getCanonicalName(), msec
+                );
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.with(talk.name(), name);
+                event.commit();
+            }
+        }
+    }
+}
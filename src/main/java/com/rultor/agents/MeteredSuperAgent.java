@@ -0,0 +1,77 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents;
+
+import com.jcabi.aspects.Immutable;
+import com.rultor.Metrics;
+import com.rultor.jfr.AgentExecute;
+import com.rultor.spi.SuperAgent;
+import com.rultor.spi.Talks;
+import java.io.IOException;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Super agent that records its latency and failures to {@link Metrics}
+ * and to {@link AgentExecute} events.
+ *
+ * <p>The agent is labelled by the simple name of its class, so it has
+ * to wrap the real agent, not a decorator like {@link SuperAgent.Quiet}.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = "origin")
+public final class MeteredSuperAgent implements SuperAgent {
+
+    /**
+     * Name of the label.
+     */
+    private static final String LABEL = "agent";
+
+    /**
+     * Agent.
+     */
+    private final transient SuperAgent origin;
+
+    /**
+     * Ctor.
+     * @param agent Original agent
+     */
+    public MeteredSuperAgent(final SuperAgent agent) {
+        this.origin = agent;
+    }
+
+    @Override
+    public void execute(final Talks talks) throws IOException {
+        final String name = this.origin.getClass().getSimpleName();
+        final long start = System.nanoTime();
+        final AgentExecute event = new AgentExecute();
+        event.begin();
+        boolean done = false;
+        try {
+            this.origin.execute(talks);
+            done = true;
+        } finally {
+            final Metrics metrics = new Metrics();
+            if (!done) {
+                metrics.increment(
+                    "rultor_superagent_failures_total",
+                    MeteredSuperAgent.LABEL, name
+                );
+            }
+            metrics.observe(
+                "rultor_superagent_seconds", MeteredSuperAgent.LABEL, name,
+                System.nanoTime() - start
+            );
+            event.end();
+            if (event.shouldCommit()) {
+                event.with("", name);
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents;
+
+import com.jcabi.log.Logger;
+import com.rultor.spi.SuperAgent;
+import com.rultor.spi.Talks;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Super agent that runs not more often than once in a given interval,
+ * skipping all cycles in between.
+ * @since 2.1
+ */
+public final class PacedSuperAgent implements SuperAgent {
+
+    /**
+     * Agent.
+     */
+    private final transient SuperAgent origin;
+
+    /**
+     * Interval, in milliseconds.
+     */
+    private final transient long interval;
+
+    /**
+     * When it was executed last time.
+     */
+    private final transient AtomicLong last = new AtomicLong();
+
+    /**
+     * Ctor.
+     * @param agent Original agent
+     * @param msec Interval between executions, in milliseconds
+     */
+    public PacedSuperAgent(final SuperAgent agent, final long msec) {
+        this.origin = agent;
+        this.interval = msec;
+    }
+
+    @Override
+    public void execute(final Talks talks) throws IOException {
+        final long now = System.currentTimeMillis();
+        final long before = this.last.get();
+        if (now - before >= this.interval
+            && this.last.compareAndSet(before, now)) {
+            this.origin.execute(talks);
+        } else {
+            Logger.debug(
+                this, "%s skipped, it was executed %[ms]s ago",
+                this.origin.getClass().getCanonicalName(), now - before
+            );
+        }
+    }
+}
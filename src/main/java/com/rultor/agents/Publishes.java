@@ -7,8 +7,8 @@ package com.rultor.agents;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.github.Coordinates;
 import com.jcabi.github.GitHub;
-import com.jcabi.github.Repo;
 import com.jcabi.xml.XML;
+import com.rultor.agents.github.RepoMeta;
 import com.rultor.spi.Profile;
 import java.io.IOException;
 import lombok.EqualsAndHashCode;
@@ -53,7 +53,7 @@ public final class Publishes extends AbstractAgent {
     public Iterable<Directive> process(final XML xml) throws IOException {
         boolean pub;
         try {
-            pub = !new Repo.Smart(
+            pub = !new RepoMeta(
                 this.github.repos().get(
                     new Coordinates.Simple(this.profile.name())
                 )
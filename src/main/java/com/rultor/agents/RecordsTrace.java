@@ -0,0 +1,55 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.log.Logger;
+import com.jcabi.xml.XML;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.xembly.Directive;
+import org.xembly.Directives;
+
+/**
+ * Moves the finished trace of the request from the talk to
+ * {@link Traces}.
+ *
+ * <p>The trace is finished when the request is reported and its
+ * daemon, if there was one, is archived. That's why this agent must
+ * go after {@link com.rultor.agents.daemons.ArchivesDaemon}.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(callSuper = false)
+public final class RecordsTrace extends AbstractAgent {
+
+    /**
+     * Ctor.
+     */
+    public RecordsTrace() {
+        super(
+            String.join(
+                "",
+                "/talk[not(daemon) and not(request)]",
+                "/trace[span[@name='reported']]"
+            ),
+            "/talk/wire/github-repo"
+        );
+    }
+
+    @Override
+    public Iterable<Directive> process(final XML xml) {
+        final String repo = xml.xpath("/talk/wire/github-repo/text()").get(0);
+        final XML trace = xml.nodes("/talk/trace").get(0);
+        new Traces().add(repo, trace);
+        Logger.info(
+            this, "trace #%s of %s recorded",
+            trace.xpath("@id").get(0), repo
+        );
+        return new Directives().xpath("/talk/trace").remove();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents;
+
+import com.jcabi.aspects.Immutable;
+import com.rultor.Time;
+import java.util.Iterator;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.xembly.Directive;
+import org.xembly.Directives;
+
+/**
+ * Directives that mark the moment when the current request reached
+ * a phase of its lifecycle, in {@code /talk/trace}.
+ *
+ * <p>The trace is started by {@link com.rultor.agents.github.Understands},
+ * when the request is created. If there is no trace in the talk or the
+ * phase is already there, nothing happens.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = "phase")
+public final class Span implements Iterable<Directive> {
+
+    /**
+     * Name of the phase.
+     */
+    private final transient String phase;
+
+    /**
+     * Ctor.
+     * @param name Name of the phase, like "started"
+     */
+    public Span(final String name) {
+        this.phase = name;
+    }
+
+    @Override
+    public Iterator<Directive> iterator() {
+        return new Directives()
+            .xpath(
+                String.format(
+                    "/talk/trace[not(span[@name='%s'])]", this.phase
+                )
+            )
+            .add("span")
+            .attr("name", this.phase)
+            .attr("at", new Time().iso())
+            .iterator();
+    }
+}
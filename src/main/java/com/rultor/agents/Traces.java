@@ -0,0 +1,236 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.log.Logger;
+import com.jcabi.xml.XML;
+import com.rultor.Time;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Traces of finished requests, in memory.
+ *
+ * <p>When a request is reported and its daemon is archived, its trace,
+ * made of {@link Span}s, is added here by {@link RecordsTrace}. The
+ * report shows percentiles of every phase and of whole requests per
+ * repo, and the waterfall of the most recent requests. Only the last
+ * {@link #MAX} traces are kept.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode
+public final class Traces {
+
+    /**
+     * How many traces to keep.
+     */
+    private static final int MAX = 1000;
+
+    /**
+     * How many recent traces to show as waterfalls.
+     */
+    private static final int RECENT = 20;
+
+    /**
+     * Finished traces, the most recent first.
+     */
+    private static final Deque<Traces.Trace> ALL = new ArrayDeque<>(0);
+
+    /**
+     * Add a finished trace.
+     * @param repo Name of the repo, like "yegor256/rultor"
+     * @param trace The XML of "/talk/trace"
+     */
+    public void add(final String repo, final XML trace) {
+        final Map<String, Long> spans = new LinkedHashMap<>(0);
+        for (final XML span : trace.nodes("span")) {
+            spans.put(
+                span.xpath("@name").get(0),
+                new Time(span.xpath("@at").get(0)).msec()
+            );
+        }
+        synchronized (Traces.ALL) {
+            Traces.ALL.addFirst(
+                new Traces.Trace(
+                    String.format("%s#%s", repo, trace.xpath("@id").get(0)),
+                    repo, spans
+                )
+            );
+            while (Traces.ALL.size() > Traces.MAX) {
+                Traces.ALL.removeLast();
+            }
+        }
+    }
+
+    /**
+     * Print the report.
+     * @return Text
+     */
+    public String text() {
+        final List<Traces.Trace> all;
+        synchronized (Traces.ALL) {
+            all = new ArrayList<>(Traces.ALL);
+        }
+        final Map<String, List<Long>> phases = new LinkedHashMap<>(0);
+        final Map<String, List<Long>> repos = new TreeMap<>();
+        for (final Traces.Trace trace : all) {
+            for (final Map.Entry<String, Long> ent
+                : trace.phases().entrySet()) {
+                phases.computeIfAbsent(ent.getKey(), key -> new ArrayList<>(0))
+                    .add(ent.getValue());
+            }
+            repos.computeIfAbsent(trace.repo(), key -> new ArrayList<>(0))
+                .add(trace.total());
+        }
+        final StringBuilder text = new StringBuilder(10_000);
+        text.append(
+            String.format(
+                "%d request(s) traced since restart%n%n", all.size()
+            )
+        ).append("Phases, time since the previous one, p50/p90/p99:\n");
+        for (final Map.Entry<String, List<Long>> ent : phases.entrySet()) {
+            text.append(Traces.line(ent.getKey(), ent.getValue()));
+        }
+        text.append("\nWhole requests by repo, p50/p90/p99:\n");
+        for (final Map.Entry<String, List<Long>> ent : repos.entrySet()) {
+            text.append(Traces.line(ent.getKey(), ent.getValue()));
+        }
+        text.append("\nRecent requests:\n");
+        for (final Traces.Trace trace
+            : all.subList(0, Math.min(all.size(), Traces.RECENT))) {
+            text.append(trace.waterfall());
+        }
+        return text.toString();
+    }
+
+    /**
+     * Print percentiles.
+     * @param name Name of the line
+     * @param values Durations, in milliseconds
+     * @return Text
+     */
+    private static String line(final String name, final List<Long> values) {
+        final List<Long> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+        return Logger.format(
+            "  %-40s %[ms]s / %[ms]s / %[ms]s (%d)\n",
+            name,
+            Traces.percentile(sorted, 50),
+            Traces.percentile(sorted, 90),
+            Traces.percentile(sorted, 99),
+            sorted.size()
+        );
+    }
+
+    /**
+     * Percentile.
+     * @param sorted Sorted values
+     * @param pct Percentile, like 90
+     * @return Value
+     */
+    private static long percentile(final List<Long> sorted, final int pct) {
+        final int idx = (int) Math.ceil(pct / 100.0d * sorted.size()) - 1;
+        return sorted.get(Math.max(0, idx));
+    }
+
+    /**
+     * One trace.
+     *
+     * @since 2.1
+     */
+    private static final class Trace {
+
+        /**
+         * Name, like "yegor256/rultor#42".
+         */
+        private final transient String name;
+
+        /**
+         * Repo.
+         */
+        private final transient String rpo;
+
+        /**
+         * Phases and their moments, in chronological order.
+         */
+        private final transient Map<String, Long> spans;
+
+        /**
+         * Ctor.
+         * @param label Name of the trace
+         * @param repo Repo
+         * @param map Phases and their moments
+         */
+        Trace(final String label, final String repo,
+            final Map<String, Long> map) {
+            this.name = label;
+            this.rpo = repo;
+            this.spans = map;
+        }
+
+        /**
+         * Repo.
+         * @return Name of the repo
+         */
+        String repo() {
+            return this.rpo;
+        }
+
+        /**
+         * Durations of phases, since the previous ones.
+         * @return Phases and durations, in milliseconds
+         */
+        Map<String, Long> phases() {
+            final Map<String, Long> phases = new LinkedHashMap<>(0);
+            long prev = -1L;
+            for (final Map.Entry<String, Long> ent : this.spans.entrySet()) {
+                if (prev >= 0L) {
+                    phases.put(ent.getKey(), ent.getValue() - prev);
+                }
+                prev = ent.getValue();
+            }
+            return phases;
+        }
+
+        /**
+         * From the first phase to the last one.
+         * @return Milliseconds
+         */
+        long total() {
+            final List<Long> moments = new ArrayList<>(this.spans.values());
+            return moments.get(moments.size() - 1) - moments.get(0);
+        }
+
+        /**
+         * Print it as a waterfall.
+         * @return Text
+         */
+        String waterfall() {
+            final StringBuilder text = new StringBuilder(100);
+            text.append("  ").append(this.name).append(':');
+            final long start = this.spans.values().iterator().next();
+            for (final Map.Entry<String, Long> ent : this.spans.entrySet()) {
+                text.append(
+                    Logger.format(
+                        " %s +%[ms]s", ent.getKey(), ent.getValue() - start
+                    )
+                );
+            }
+            return text.append('\n').toString();
+        }
+    }
+}
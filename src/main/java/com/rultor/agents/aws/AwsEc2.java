@@ -4,21 +4,61 @@
  */
 package com.rultor.agents.aws;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.jcabi.aspects.Immutable;
+import com.jcabi.log.Logger;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import lombok.ToString;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesRequest;
+import software.amazon.awssdk.services.ec2.model.Filter;
+import software.amazon.awssdk.services.ec2.model.Instance;
+import software.amazon.awssdk.services.ec2.model.Reservation;
 
 /**
  * Amazon EC2 client.
+ *
+ * <p>The client is built once per credentials and region, and then shared
+ * by all agents, together with its HTTP connection pool. Instances
+ * started by Rultor are described by a single call, which is made once
+ * per cycle, and then all agents take their states from this snapshot,
+ * instead of asking EC2 about every instance separately. The snapshot
+ * must be {@link #forget() forgotten} after instances are started,
+ * terminated or tagged.</p>
+ *
  * @since 1.77
  */
 @Immutable
 @ToString
 public final class AwsEc2 {
 
+    /**
+     * Clients, by credentials and regions.
+     */
+    private static final ConcurrentMap<String, Ec2Client> CLIENTS =
+        new ConcurrentHashMap<>(1);
+
+    /**
+     * Instances started by Rultor, by credentials and regions.
+     */
+    private static final Cache<String, Map<String, Instance>> SNAPSHOTS =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(30L, TimeUnit.SECONDS)
+            .build();
+
     /**
      * Access key.
      */
@@ -60,12 +100,94 @@ public final class AwsEc2 {
      * @return AWS EC2 client
      */
     public Ec2Client aws() {
-        return Ec2Client.builder()
-            .region(Region.of(this.region)).credentialsProvider(
-                StaticCredentialsProvider.create(
-                    AwsBasicCredentials.create(this.key, this.secret)
+        return AwsEc2.CLIENTS.computeIfAbsent(
+            this.id(),
+            id -> Ec2Client.builder()
+                .region(Region.of(this.region)).credentialsProvider(
+                    StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(this.key, this.secret)
+                    )
                 )
-            )
-            .build();
+                .build()
+        );
+    }
+
+    /**
+     * All instances started by Rultor, including terminated ones.
+     * @return Instances
+     */
+    public Collection<Instance> instances() {
+        return this.snapshot().values();
+    }
+
+    /**
+     * Find the instance, in the snapshot or, if it is not there, in EC2.
+     * @param instance ID of the instance
+     * @return The instance, if it exists
+     */
+    public Optional<Instance> instance(final String instance) {
+        Optional<Instance> found = Optional.ofNullable(
+            this.snapshot().get(instance)
+        );
+        if (!found.isPresent()) {
+            found = this.aws().describeInstances(
+                DescribeInstancesRequest.builder()
+                    .instanceIds(instance)
+                    .build()
+            ).reservations().stream()
+                .flatMap(rsrv -> rsrv.instances().stream())
+                .findFirst();
+        }
+        return found;
+    }
+
+    /**
+     * Forget the snapshot, since EC2 has changed.
+     */
+    public void forget() {
+        AwsEc2.SNAPSHOTS.invalidate(this.id());
+    }
+
+    /**
+     * Instances started by Rultor, by IDs.
+     * @return Instances
+     */
+    private Map<String, Instance> snapshot() {
+        try {
+            return AwsEc2.SNAPSHOTS.get(this.id(), this::describe);
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        } catch (final UncheckedExecutionException ex) {
+            throw (RuntimeException) ex.getCause();
+        } catch (final ExecutionError ex) {
+            throw (Error) ex.getCause();
+        }
+    }
+
+    /**
+     * Describe all instances started by Rultor, in one call.
+     * @return Instances, by IDs
+     */
+    private Map<String, Instance> describe() {
+        final Map<String, Instance> all = new LinkedHashMap<>(0);
+        for (final Reservation rsrv : this.aws().describeInstancesPaginator(
+            DescribeInstancesRequest.builder().filters(
+                Filter.builder().name("tag:rultor").values("yes").build()
+            ).build()
+        ).reservations()) {
+            for (final Instance instance : rsrv.instances()) {
+                all.put(instance.instanceId(), instance);
+            }
+        }
+        Logger.info(this, "Described %d AWS instances", all.size());
+        return all;
+    }
+
+    /**
+     * Unique ID of credentials and region.
+     * @return ID
+     */
+    private String id() {
+        return String.join(":", this.key, this.region);
     }
 }
@@ -9,13 +9,12 @@ import com.jcabi.log.Logger;
 import com.jcabi.ssh.Shell;
 import com.jcabi.xml.XML;
 import com.rultor.agents.AbstractAgent;
+import com.rultor.agents.Span;
 import com.rultor.agents.shells.PfShell;
 import java.io.IOException;
 import lombok.ToString;
 import org.xembly.Directive;
 import org.xembly.Directives;
-import software.amazon.awssdk.services.ec2.model.DescribeInstanceStatusRequest;
-import software.amazon.awssdk.services.ec2.model.DescribeInstancesRequest;
 
 /**
  * Connects a running EC2 instance: detects its IP.
@@ -66,7 +65,8 @@ public final class ConnectsInstance extends AbstractAgent {
                 .add("host").set(host).up()
                 .add("port").set(Integer.toString(this.shell.port())).up()
                 .add("login").set(this.shell.login()).up()
-                .add("key").set(this.shell.key());
+                .add("key").set(this.shell.key())
+                .append(new Span("booted"));
             Logger.info(
                 this, "AWS instance %s launched for %s and running at %s",
                 instance, name, host
@@ -76,31 +76,18 @@ public final class ConnectsInstance extends AbstractAgent {
                 this,
                 "Can't connect %s to AWS instance %s at %s (%[ms]s old, \"%s\")",
                 name, instance, host,
-                ConnectsInstance.age(this.api, instance),
-                ConnectsInstance.status(this.api, instance)
+                this.api.instance(instance).map(
+                    found -> System.currentTimeMillis()
+                        - found.launchTime().toEpochMilli()
+                ).orElse(0L),
+                this.api.instance(instance).map(
+                    found -> found.state().nameAsString()
+                ).orElse("absent")
             );
         }
         return dirs;
     }
 
-    private static long age(final AwsEc2 api, final String instance) {
-        return System.currentTimeMillis() - api.aws().describeInstances(
-            DescribeInstancesRequest.builder()
-                .instanceIds(instance)
-                .build()
-        ).reservations().get(0).instances().get(0)
-            .launchTime().toEpochMilli();
-    }
-
-    private static String status(final AwsEc2 api, final String instance) {
-        return api.aws().describeInstanceStatus(
-            DescribeInstanceStatusRequest.builder()
-                .includeAllInstances(true)
-                .instanceIds(instance)
-                .build()
-        ).instanceStatuses().get(0).instanceState().nameAsString();
-    }
-
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
     private boolean alive(final String host) {
         boolean alive = false;
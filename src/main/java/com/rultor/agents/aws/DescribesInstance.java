@@ -9,11 +9,10 @@ import com.jcabi.log.Logger;
 import com.jcabi.xml.XML;
 import com.rultor.agents.AbstractAgent;
 import java.io.IOException;
+import java.util.Optional;
 import lombok.ToString;
 import org.xembly.Directive;
 import org.xembly.Directives;
-import software.amazon.awssdk.services.ec2.model.DescribeInstanceStatusRequest;
-import software.amazon.awssdk.services.ec2.model.DescribeInstancesRequest;
 import software.amazon.awssdk.services.ec2.model.Instance;
 
 /**
@@ -45,21 +44,14 @@ public final class DescribesInstance extends AbstractAgent {
     @Override
     public Iterable<Directive> process(final XML xml) throws IOException {
         final String instance = xml.xpath("/talk/ec2/instance/text()").get(0);
-        final String state = this.api.aws().describeInstanceStatus(
-            DescribeInstanceStatusRequest.builder()
-                .includeAllInstances(true)
-                .instanceIds(instance)
-                .build()
-        ).instanceStatuses().get(0).instanceState().nameAsString();
+        final Optional<Instance> found = this.api.instance(instance);
+        final String state = found.map(
+            ready -> ready.state().nameAsString()
+        ).orElse("absent");
         Logger.info(this, "AWS instance %s state: %s", instance, state);
         final Directives dirs = new Directives();
         if ("running".equals(state)) {
-            final Instance ready = this.api.aws().describeInstances(
-                DescribeInstancesRequest.builder()
-                    .instanceIds(instance)
-                    .build()
-            ).reservations().get(0).instances().get(0);
-            final String host = ready.publicIpAddress();
+            final String host = found.get().publicIpAddress();
             dirs.xpath("/talk/ec2").add("host").set(host);
             Logger.info(this, "AWS instance %s is at %s", instance, host);
         }
@@ -12,8 +12,6 @@ import java.io.IOException;
 import lombok.ToString;
 import org.xembly.Directive;
 import org.xembly.Directives;
-import software.amazon.awssdk.services.ec2.model.DescribeInstancesRequest;
-import software.amazon.awssdk.services.ec2.model.DescribeInstancesResponse;
 
 /**
  * Deletes the "ec2" XML element if the instance doesn't exist in EC2 --
@@ -42,13 +40,8 @@ public final class DropsInstance extends AbstractAgent {
     @Override
     public Iterable<Directive> process(final XML xml) throws IOException {
         final String instance = xml.xpath("/talk/ec2/instance/text()").get(0);
-        final DescribeInstancesResponse res = this.api.aws().describeInstances(
-            DescribeInstancesRequest.builder()
-                .instanceIds(instance)
-                .build()
-        );
         final Directives dirs = new Directives();
-        if (res.reservations().isEmpty()) {
+        if (!this.api.instance(instance).isPresent()) {
             dirs.xpath("/talk/ec2").strict(1).remove();
             Logger.warn(
                 this, "AWS instance %s is absent, deleting the link from %s",
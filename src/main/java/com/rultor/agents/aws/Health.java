@@ -0,0 +1,343 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.aws;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.log.Logger;
+import com.jcabi.log.VerboseThreads;
+import com.jcabi.ssh.Shell;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.ToString;
+
+/**
+ * Health of EC2 instances, checked by SSH in background.
+ *
+ * <p>Instances are known by their IDs, not by their addresses, since
+ * EC2 gives the address of a terminated instance to a new one, which
+ * must not inherit the verdict. Every host has its own schedule:
+ * a healthy host is checked once in {@link #PERIOD}, while a failing
+ * one is checked again after a delay, which doubles with every failure,
+ * up to {@link #PERIOD}. After {@link #FAILURES} failures in a row
+ * the host is dead, and it is not checked anymore for {@link #COOLDOWN},
+ * after which one more check may bring it back to life. Checks never
+ * run in the thread of the caller, it only gets the latest verdict.
+ * A check that doesn't finish in time is a failure: its SSH session
+ * is interrupted and left to its own thread, so that a hung host
+ * doesn't take threads of other checks.
+ * A check is a {@code whoami} by default, or any other command, see
+ * {@link #with(String)}.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+final class Health {
+
+    /**
+     * How many failures in a row make a host dead.
+     */
+    static final int FAILURES = 3;
+
+    /**
+     * Period of checks of a healthy host, in milliseconds.
+     */
+    private static final long PERIOD = TimeUnit.MINUTES.toMillis(1L);
+
+    /**
+     * Delay before checking a dead host again, in milliseconds.
+     */
+    private static final long COOLDOWN = TimeUnit.MINUTES.toMillis(5L);
+
+    /**
+     * How long to remember a host nobody asks about, in milliseconds.
+     */
+    private static final long MEMORY = TimeUnit.HOURS.toMillis(1L);
+
+    /**
+     * Threads that run checks.
+     */
+    private static final Executor THREADS = Executors.newFixedThreadPool(
+        4, new VerboseThreads(Health.class)
+    );
+
+    /**
+     * Threads that talk to hosts by SSH, and may hang there.
+     */
+    private static final ExecutorService SESSIONS =
+        Executors.newCachedThreadPool(new VerboseThreads("health-ssh"));
+
+    /**
+     * States of hosts, by IDs of their instances.
+     */
+    private static final ConcurrentMap<String, Health.Host> HOSTS =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * Where checks run.
+     */
+    private final transient Executor executor;
+
+    /**
+     * Delay after the first failure, in milliseconds.
+     */
+    private final transient long backoff;
+
+    /**
+     * How long a check may take, in milliseconds.
+     */
+    private final transient long timeout;
+
+    /**
+     * Command to check a host with.
+     */
+    private final transient String command;
+
+    /**
+     * Ctor.
+     */
+    Health() {
+        this(Health.THREADS);
+    }
+
+    /**
+     * Ctor.
+     * @param exec Where checks run
+     */
+    Health(final Executor exec) {
+        this(exec, TimeUnit.SECONDS.toMillis(10L));
+    }
+
+    /**
+     * Ctor.
+     * @param exec Where checks run
+     * @param delay Delay after the first failure, in milliseconds
+     */
+    Health(final Executor exec, final long delay) {
+        this(exec, delay, TimeUnit.MINUTES.toMillis(1L));
+    }
+
+    /**
+     * Ctor.
+     * @param exec Where checks run
+     * @param delay Delay after the first failure, in milliseconds
+     * @param msec How long a check may take, in milliseconds
+     */
+    Health(final Executor exec, final long delay, final long msec) {
+        this(exec, delay, msec, "whoami");
+    }
+
+    /**
+     * Ctor.
+     * @param exec Where checks run
+     * @param delay Delay after the first failure, in milliseconds
+     * @param msec How long a check may take, in milliseconds
+     * @param cmd Command to check a host with
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private Health(final Executor exec, final long delay, final long msec,
+        final String cmd) {
+        this.executor = exec;
+        this.backoff = delay;
+        this.timeout = msec;
+        this.command = cmd;
+    }
+
+    /**
+     * The same health, but checking hosts with this command.
+     * @param cmd Command to run, which must succeed on a healthy host
+     * @return New health
+     */
+    Health with(final String cmd) {
+        return new Health(this.executor, this.backoff, this.timeout, cmd);
+    }
+
+    /**
+     * The latest verdict about the host, starting a check if it's time.
+     * @param instance ID of the instance
+     * @param host Address of the host
+     * @param shell Shell to check it with
+     * @return Verdict
+     */
+    Health.Verdict verdict(final String instance, final String host,
+        final Shell shell) {
+        final long now = System.currentTimeMillis();
+        Health.HOSTS.values().removeIf(
+            state -> state.asked < now - Health.MEMORY
+        );
+        final Health.Host state = Health.HOSTS.computeIfAbsent(
+            instance, key -> new Health.Host()
+        );
+        if (state.due(now)) {
+            this.executor.execute(() -> this.check(host, state, shell));
+        }
+        return state.verdict();
+    }
+
+    /**
+     * Check the host.
+     * @param host Address of the host
+     * @param state Its state
+     * @param shell Shell to check it with
+     */
+    private void check(final String host, final Health.Host state,
+        final Shell shell) {
+        final Future<Integer> exec = Health.SESSIONS.submit(
+            () -> new Shell.Empty(new Shell.Safe(shell)).exec(this.command)
+        );
+        try {
+            exec.get(this.timeout, TimeUnit.MILLISECONDS);
+            state.succeeded(System.currentTimeMillis());
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            this.failed(host, state, exec, ex);
+        } catch (final ExecutionException | TimeoutException ex) {
+            this.failed(host, state, exec, ex);
+        }
+    }
+
+    /**
+     * The check of the host failed.
+     * @param host Address of the host
+     * @param state Its state
+     * @param exec The check, to stop if it's still running
+     * @param error Why it failed
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private void failed(final String host, final Health.Host state,
+        final Future<Integer> exec, final Exception error) {
+        exec.cancel(true);
+        final int failures = state.failed(
+            System.currentTimeMillis(), this.backoff
+        );
+        Logger.warn(
+            this, "Failed to ping %s (failure no.%d): %s",
+            host, failures, error
+        );
+    }
+
+    /**
+     * Verdict about a host.
+     *
+     * @since 2.1
+     */
+    enum Verdict {
+        /**
+         * Not checked yet, or recently failed a few times.
+         */
+        UNKNOWN,
+
+        /**
+         * Answered the latest check.
+         */
+        ALIVE,
+
+        /**
+         * Failed too many checks in a row.
+         */
+        DEAD
+    }
+
+    /**
+     * State of a host.
+     *
+     * @since 2.1
+     */
+    private static final class Host {
+
+        /**
+         * When somebody asked about it last time.
+         */
+        private volatile long asked;
+
+        /**
+         * Failures in a row.
+         */
+        private int failures;
+
+        /**
+         * When to check it next time.
+         */
+        private long next;
+
+        /**
+         * Is it being checked right now?
+         */
+        private boolean running;
+
+        /**
+         * Did it answer the latest check?
+         */
+        private boolean alive;
+
+        /**
+         * Is it time to check it? If so, it's being checked from now on.
+         * @param now Current time
+         * @return TRUE if the caller has to check it
+         */
+        synchronized boolean due(final long now) {
+            this.asked = now;
+            final boolean due = !this.running && now >= this.next;
+            if (due) {
+                this.running = true;
+            }
+            return due;
+        }
+
+        /**
+         * The latest verdict.
+         * @return Verdict
+         */
+        synchronized Health.Verdict verdict() {
+            final Health.Verdict verdict;
+            if (this.failures >= Health.FAILURES) {
+                verdict = Health.Verdict.DEAD;
+            } else if (this.alive) {
+                verdict = Health.Verdict.ALIVE;
+            } else {
+                verdict = Health.Verdict.UNKNOWN;
+            }
+            return verdict;
+        }
+
+        /**
+         * It answered.
+         * @param now Current time
+         */
+        synchronized void succeeded(final long now) {
+            this.failures = 0;
+            this.alive = true;
+            this.next = now + Health.PERIOD;
+            this.running = false;
+        }
+
+        /**
+         * It didn't answer.
+         * @param now Current time
+         * @param backoff Delay after the first failure
+         * @return Failures in a row
+         */
+        synchronized int failed(final long now, final long backoff) {
+            ++this.failures;
+            this.alive = false;
+            if (this.failures >= Health.FAILURES) {
+                this.next = now + Health.COOLDOWN;
+            } else {
+                this.next = now + Math.min(
+                    backoff << (this.failures - 1), Health.PERIOD
+                );
+            }
+            this.running = false;
+            return this.failures;
+        }
+    }
+}
@@ -6,7 +6,6 @@ package com.rultor.agents.aws;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.log.Logger;
-import com.jcabi.ssh.Shell;
 import com.jcabi.xml.XML;
 import com.rultor.Time;
 import com.rultor.agents.AbstractAgent;
@@ -18,67 +17,70 @@ import org.xembly.Directives;
 
 /**
  * Ping EC2 instance and deletes "daemon" if it doesn't reply.
+ *
+ * <p>The instance is pinged in background, by {@link Health}, while
+ * the agent only reads the latest verdict, never waiting for SSH.</p>
+ *
  * @since 1.77
  */
 @Immutable
 @ToString
 public final class PingsInstance extends AbstractAgent {
 
+    /**
+     * Health of instances.
+     */
+    private final transient Health health;
+
     /**
      * Ctor.
      */
     public PingsInstance() {
+        this(new Health());
+    }
+
+    /**
+     * Ctor.
+     * @param hlth Health of instances
+     */
+    PingsInstance(final Health hlth) {
         super(
             "/talk/ec2/host",
-            "/talk/daemon",
+            "/talk/daemon[not(ended)]",
             "/talk/shell[host and port and login and key]"
         );
+        this.health = hlth;
     }
 
     @Override
-    @SuppressWarnings("PMD.AvoidCatchingGenericException")
     public Iterable<Directive> process(final XML xml) throws IOException {
         final String name = xml.xpath("/talk/@name").get(0);
-        final Shell shell = new TalkShells(xml).get();
         final String instance = xml.xpath("/talk/ec2/instance/text()").get(0);
         final String host = xml.xpath("/talk/shell/host/text()").get(0);
         final Directives dirs = new Directives();
-        int attempt = 0;
-        while (true) {
-            try {
-                new Shell.Empty(new Shell.Safe(shell)).exec("whoami");
+        final Health.Verdict verdict = this.health.verdict(
+            instance, host, new TalkShells(xml).get()
+        );
+        if (verdict == Health.Verdict.DEAD) {
+            dirs.xpath("/talk/daemon").strict(1);
+            if (xml.nodes("/talk/daemon/started").isEmpty()) {
+                dirs.remove();
                 Logger.warn(
-                    this, "AWS instance %s is alive at %s for %s",
-                    instance, host, name
+                    this, "The AWS instance %s is officially dead at %s (never started)",
+                    instance, name
                 );
-                break;
-            // @checkstyle IllegalCatchCheck (1 line)
-            } catch (final Exception ex) {
+            } else {
+                dirs.add("ended").set(new Time().iso()).up().add("code").set(1);
                 Logger.warn(
-                    this,
-                    "Failed to ping AWS instance %s at %s for %s (attempt no.%d): %s",
-                    instance, host, name, attempt, ex.getMessage()
+                    this, "The AWS instance %s is officially dead at %s",
+                    instance, name
                 );
-                ++attempt;
-                if (attempt > 3) {
-                    dirs.xpath("/talk/daemon").strict(1);
-                    if (xml.nodes("/talk/daemon/started").isEmpty()) {
-                        dirs.remove();
-                        Logger.warn(
-                            this, "The AWS instance %s is officially dead at %s (never started)",
-                            instance, name
-                        );
-                    } else {
-                        dirs.add("ended").set(new Time().iso()).up().add("code").set(1);
-                        Logger.warn(
-                            this, "The AWS instance %s is officially dead at %s",
-                            instance, name
-                        );
-                    }
-                    break;
-                }
-                new Sleep(1L).now();
             }
+        } else {
+            Logger.debug(
+                this, "AWS instance %s at %s for %s is %s",
+                instance, host, name, verdict
+            );
         }
         return dirs;
     }
@@ -12,12 +12,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import lombok.ToString;
-import software.amazon.awssdk.services.ec2.model.DescribeInstanceStatusRequest;
-import software.amazon.awssdk.services.ec2.model.DescribeInstancesRequest;
-import software.amazon.awssdk.services.ec2.model.DescribeInstancesResponse;
-import software.amazon.awssdk.services.ec2.model.Filter;
 import software.amazon.awssdk.services.ec2.model.Instance;
-import software.amazon.awssdk.services.ec2.model.Reservation;
 import software.amazon.awssdk.services.ec2.model.TerminateInstancesRequest;
 
 /**
@@ -50,25 +45,12 @@ public final class PrunesInstances implements SuperAgent {
 
     @Override
     public void execute(final Talks talks) throws IOException {
-        final DescribeInstancesResponse res = this.api.aws().describeInstances(
-            DescribeInstancesRequest.builder().filters(
-                Filter.builder()
-                    .name("tag:rultor")
-                    .values("yes")
-                    .build()
-            ).build()
-        );
         final Collection<String> seen = new ArrayList<>(0);
-        for (final Reservation rsrv : res.reservations()) {
-            final Instance instance = rsrv.instances().get(0);
-            final String status = this.api.aws().describeInstanceStatus(
-                DescribeInstanceStatusRequest.builder()
-                    .includeAllInstances(true)
-                    .instanceIds(instance.instanceId())
-                    .build()
-            ).instanceStatuses().get(0).instanceState().nameAsString();
+        final Collection<String> old = new ArrayList<>(0);
+        for (final Instance instance : this.api.instances()) {
+            final String status = instance.state().nameAsString();
             final long age = System.currentTimeMillis()
-                - instance.launchTime().toEpochMilli();
+                - WarmPool.started(instance);
             final String label = Logger.format(
                 "%s/%s/%s/%[ms]s",
                 instance.instanceId(),
@@ -82,15 +64,19 @@ public final class PrunesInstances implements SuperAgent {
             if (age < this.max) {
                 continue;
             }
+            old.add(instance.instanceId());
+            Logger.warn(
+                this, "AWS instance %s is too old, terminating",
+                label
+            );
+        }
+        if (!old.isEmpty()) {
             this.api.aws().terminateInstances(
                 TerminateInstancesRequest.builder()
-                    .instanceIds(instance.instanceId())
+                    .instanceIds(old)
                     .build()
             );
-            Logger.warn(
-                this, "AWS instance %s is too old, terminated",
-                label
-            );
+            this.api.forget();
         }
         Logger.info(
             this, "Checked %d AWS instances: %[list]s",
@@ -12,7 +12,6 @@ import java.io.IOException;
 import lombok.ToString;
 import org.xembly.Directive;
 import org.xembly.Directives;
-import software.amazon.awssdk.services.ec2.model.DescribeInstancesRequest;
 import software.amazon.awssdk.services.ec2.model.TerminateInstancesRequest;
 
 /**
@@ -52,21 +51,17 @@ public final class ShootsInstance extends AbstractAgent {
     @Override
     public Iterable<Directive> process(final XML xml) throws IOException {
         final String instance = xml.xpath("/talk/ec2/instance/text()").get(0);
-        final long age = System.currentTimeMillis()
-            - this.api.aws().describeInstances(
-                DescribeInstancesRequest.builder()
-                    .instanceIds(instance)
-                    .build()
-            )
-            .reservations().get(0)
-            .instances().get(0)
-            .launchTime().toEpochMilli();
+        final long age = this.api.instance(instance).map(
+            found -> System.currentTimeMillis()
+                - WarmPool.started(found)
+        ).orElse(0L);
         if (age > this.max) {
             this.api.aws().terminateInstances(
                 TerminateInstancesRequest.builder()
                     .instanceIds(instance)
                     .build()
             );
+            this.api.forget();
             Logger.warn(
                 this,
                 "Terminated AWS instance %s because it's %[ms]s old (most probably dead)",
@@ -9,9 +9,11 @@ import com.jcabi.aspects.Immutable;
 import com.jcabi.log.Logger;
 import com.jcabi.xml.XML;
 import com.rultor.agents.AbstractAgent;
+import com.rultor.agents.Span;
 import com.rultor.spi.Profile;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Optional;
 import lombok.ToString;
 import org.xembly.Directive;
 import org.xembly.Directives;
@@ -23,7 +25,7 @@ import software.amazon.awssdk.services.ec2.model.Tag;
 import software.amazon.awssdk.services.ec2.model.TagSpecification;
 
 /**
- * Starts EC2 instance.
+ * Starts EC2 instance, or takes a warm one from the {@link WarmPool}.
  * @since 1.77
  */
 @Immutable
@@ -106,15 +108,27 @@ public final class StartsInstance extends AbstractAgent {
     public Iterable<Directive> process(final XML xml) throws IOException {
         final Directives dirs = new Directives();
         try {
-            final Instance instance = this.run(xml.xpath("/talk/@name").get(0), xml);
-            Logger.info(
-                this, "EC2 instance %s started for %s",
-                instance.instanceId(),
-                xml.xpath("/talk/@name").get(0)
-            );
-            dirs.xpath("/talk")
-                .add("ec2")
-                .add("instance").set(instance.instanceId());
+            final String talk = xml.xpath("/talk/@name").get(0);
+            final String itype = this.instanceType(xml);
+            final Optional<Instance> warm = new WarmPool(this.api)
+                .take(itype, talk);
+            if (warm.isPresent()) {
+                dirs.xpath("/talk")
+                    .add("ec2")
+                    .add("instance").set(warm.get().instanceId()).up()
+                    .add("host").set(warm.get().publicIpAddress())
+                    .append(new Span("instance"));
+            } else {
+                final Instance instance = this.run(talk, itype);
+                Logger.info(
+                    this, "EC2 instance %s started for %s",
+                    instance.instanceId(), talk
+                );
+                dirs.xpath("/talk")
+                    .add("ec2")
+                    .add("instance").set(instance.instanceId())
+                    .append(new Span("instance"));
+            }
         } catch (final Profile.ConfigException ex) {
             dirs.xpath("/talk/daemon/script").set(
                 String.format(
@@ -125,8 +139,7 @@ public final class StartsInstance extends AbstractAgent {
         return dirs;
     }
 
-    private Instance run(final String talk, final XML xml) throws IOException {
-        final String itype = this.instanceType(xml);
+    private Instance run(final String talk, final String itype) {
         final RunInstancesRequest request = RunInstancesRequest.builder()
             .securityGroupIds(this.sgroup)
             .subnetId(this.subnet)
@@ -150,6 +163,7 @@ public final class StartsInstance extends AbstractAgent {
         );
         final RunInstancesResponse response =
             this.api.aws().runInstances(request);
+        this.api.forget();
         final Instance instance = response.instances().get(0);
         Logger.info(
             this,
@@ -43,15 +43,21 @@ public final class TerminatesInstance extends AbstractAgent {
     @Override
     public Iterable<Directive> process(final XML xml) throws IOException {
         final String instance = xml.xpath("/talk/ec2/instance/text()").get(0);
-        this.api.aws().terminateInstances(
-            TerminateInstancesRequest.builder()
-                .instanceIds(instance)
-                .build()
-        );
-        Logger.info(
-            this, "Successfully terminated %s instance of %s",
-            instance, xml.xpath("/talk/@name").get(0)
-        );
+        final boolean gone = this.api.instance(instance).map(
+            found -> "terminated".equals(found.state().nameAsString())
+        ).orElse(true);
+        if (!gone) {
+            this.api.aws().terminateInstances(
+                TerminateInstancesRequest.builder()
+                    .instanceIds(instance)
+                    .build()
+            );
+            this.api.forget();
+            Logger.info(
+                this, "Successfully terminated %s instance of %s",
+                instance, xml.xpath("/talk/@name").get(0)
+            );
+        }
         return new Directives().xpath("/talk/ec2").strict(1).remove();
     }
 }
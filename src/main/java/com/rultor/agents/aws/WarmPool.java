@@ -0,0 +1,168 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.aws;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.log.Logger;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Optional;
+import lombok.ToString;
+import software.amazon.awssdk.services.ec2.model.CreateTagsRequest;
+import software.amazon.awssdk.services.ec2.model.DeleteTagsRequest;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesRequest;
+import software.amazon.awssdk.services.ec2.model.Filter;
+import software.amazon.awssdk.services.ec2.model.Instance;
+import software.amazon.awssdk.services.ec2.model.Tag;
+
+/**
+ * Pool of warm EC2 instances, already booted and reachable by SSH.
+ *
+ * <p>The pool is kept in EC2 itself, in tags of the instances: the tag
+ * {@link #TAG} holds the instance type, while the tag {@link #READY}
+ * is set by {@link WarmsInstances} when SSH answers. An instance
+ * taken by a talk loses both tags and gets the name of the talk,
+ * exactly like the one started by {@link StartsInstance}, while the tag
+ * {@link #TAKEN} remembers when it was taken: the age of such an instance
+ * is counted from that moment, not from its launch, see
+ * {@link #started(Instance)}.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+final class WarmPool {
+
+    /**
+     * Tag with the instance type, for instances in the pool.
+     */
+    static final String TAG = "rultor-pool";
+
+    /**
+     * Tag of instances that are ready to be taken.
+     */
+    static final String READY = "rultor-ready";
+
+    /**
+     * Tag with the time when the instance was taken from the pool.
+     */
+    static final String TAKEN = "rultor-taken";
+
+    /**
+     * Lock, to never give the same instance to two talks.
+     */
+    private static final Object LOCK = new Object();
+
+    /**
+     * AWS Client.
+     */
+    private final transient AwsEc2 api;
+
+    /**
+     * Ctor.
+     * @param aws API
+     */
+    WarmPool(final AwsEc2 aws) {
+        this.api = aws;
+    }
+
+    /**
+     * All instances in the pool, which are not terminated yet.
+     * @return Instances
+     */
+    Collection<Instance> idle() {
+        final Collection<Instance> all = new LinkedList<>();
+        for (final Instance instance : this.api.instances()) {
+            final String state = instance.state().nameAsString();
+            if (("pending".equals(state) || "running".equals(state))
+                && instance.tags().stream().anyMatch(
+                    tag -> WarmPool.TAG.equals(tag.key())
+                )) {
+                all.add(instance);
+            }
+        }
+        return all;
+    }
+
+    /**
+     * Take a ready instance of this type, for the talk.
+     * @param type Instance type, like "t2.small"
+     * @param talk Name of the talk
+     * @return The instance, if there is one ready
+     */
+    Optional<Instance> take(final String type, final String talk) {
+        synchronized (WarmPool.LOCK) {
+            final Optional<Instance> ready = this.api.aws().describeInstances(
+                DescribeInstancesRequest.builder().filters(
+                    Filter.builder()
+                        .name(String.format("tag:%s", WarmPool.TAG))
+                        .values(type)
+                        .build(),
+                    Filter.builder()
+                        .name(String.format("tag:%s", WarmPool.READY))
+                        .values("yes")
+                        .build(),
+                    Filter.builder()
+                        .name("instance-state-name")
+                        .values("running")
+                        .build()
+                ).build()
+            ).reservations().stream()
+                .flatMap(rsrv -> rsrv.instances().stream())
+                .findFirst();
+            ready.ifPresent(instance -> this.assign(instance, talk));
+            return ready;
+        }
+    }
+
+    /**
+     * When the instance started to work for its talk, either launched
+     * or taken from the pool.
+     * @param instance The instance
+     * @return Time in milliseconds since epoch
+     */
+    static long started(final Instance instance) {
+        return instance.tags().stream()
+            .filter(tag -> WarmPool.TAKEN.equals(tag.key()))
+            .map(tag -> Instant.parse(tag.value()))
+            .findFirst()
+            .orElse(instance.launchTime())
+            .toEpochMilli();
+    }
+
+    /**
+     * Give the instance to the talk.
+     * @param instance The instance
+     * @param talk Name of the talk
+     */
+    private void assign(final Instance instance, final String talk) {
+        this.api.aws().createTags(
+            CreateTagsRequest.builder()
+                .resources(instance.instanceId())
+                .tags(
+                    Tag.builder().key("Name").value(talk).build(),
+                    Tag.builder().key("rultor-talk").value(talk).build(),
+                    Tag.builder().key(WarmPool.TAKEN)
+                        .value(Instant.now().toString()).build()
+                )
+                .build()
+        );
+        this.api.aws().deleteTags(
+            DeleteTagsRequest.builder()
+                .resources(instance.instanceId())
+                .tags(
+                    Tag.builder().key(WarmPool.TAG).build(),
+                    Tag.builder().key(WarmPool.READY).build()
+                )
+                .build()
+        );
+        this.api.forget();
+        Logger.info(
+            this, "Warm AWS instance %s taken from the pool by '%s'",
+            instance.instanceId(), talk
+        );
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.aws;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.immutable.ArrayMap;
+import com.jcabi.log.Logger;
+import com.jcabi.log.VerboseThreads;
+import com.rultor.agents.docker.Images;
+import com.rultor.agents.shells.PfShell;
+import com.rultor.spi.SuperAgent;
+import com.rultor.spi.Talks;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import lombok.ToString;
+import software.amazon.awssdk.services.ec2.model.CreateTagsRequest;
+import software.amazon.awssdk.services.ec2.model.Instance;
+import software.amazon.awssdk.services.ec2.model.ResourceType;
+import software.amazon.awssdk.services.ec2.model.RunInstancesRequest;
+import software.amazon.awssdk.services.ec2.model.Tag;
+import software.amazon.awssdk.services.ec2.model.TagSpecification;
+import software.amazon.awssdk.services.ec2.model.TerminateInstancesRequest;
+
+/**
+ * Keeps the {@link WarmPool} full.
+ *
+ * <p>Every cycle it retires instances that stayed in the pool for too
+ * long, using the same age logic as {@link PrunesInstances}, marks
+ * the ones that answer by SSH as ready, starting to pull popular
+ * {@link Images} there in background, and launches new ones, so that
+ * the pool has the required number of instances of every type.
+ * {@link StartsInstance} takes ready instances from the pool, instead
+ * of launching and waiting for them. SSH checks are done in background
+ * by {@link Health}, in threads of their own, so that warm instances
+ * don't delay checks of busy ones, and the cycle only reads their
+ * latest verdicts.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+public final class WarmsInstances implements SuperAgent {
+
+    /**
+     * How many popular images to pull to a new instance, in background.
+     */
+    private static final int IMAGES = 4;
+
+    /**
+     * Threads that check warm instances and start pulls of images there,
+     * apart from the threads of {@link Health} that check busy instances.
+     */
+    private static final Executor THREADS = Executors.newFixedThreadPool(
+        2, new VerboseThreads(WarmsInstances.class)
+    );
+
+    /**
+     * AWS Client.
+     */
+    private final transient AwsEc2 api;
+
+    /**
+     * Shell, to check whether instances are reachable.
+     */
+    private final transient PfShell shell;
+
+    /**
+     * How many instances to keep, by instance type.
+     */
+    private final transient ArrayMap<String, Integer> sizes;
+
+    /**
+     * Maximum age to tolerate, in milliseconds.
+     */
+    private final transient long max;
+
+    /**
+     * Amazon machine image id.
+     */
+    private final transient String image;
+
+    /**
+     * EC2 security group.
+     */
+    private final transient String sgroup;
+
+    /**
+     * EC2 subnet.
+     */
+    private final transient String subnet;
+
+    /**
+     * Health of instances.
+     */
+    private final transient Health health;
+
+    /**
+     * Ctor.
+     * @param aws API
+     * @param shll Shell, to check instances
+     * @param size How many instances to keep, by instance type
+     * @param msec Maximum age to tolerate
+     * @param img Instance AMI image name to run
+     * @param grp Security group, like "sg-38924038290"
+     * @param net Subnet, like "subnet-0890890"
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public WarmsInstances(final AwsEc2 aws, final PfShell shll,
+        final Map<String, Integer> size, final long msec,
+        final String img, final String grp, final String net) {
+        this(
+            aws, shll, size, msec, img, grp, net,
+            new Health(WarmsInstances.THREADS)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param aws API
+     * @param shll Shell, to check instances
+     * @param size How many instances to keep, by instance type
+     * @param msec Maximum age to tolerate
+     * @param img Instance AMI image name to run
+     * @param grp Security group, like "sg-38924038290"
+     * @param net Subnet, like "subnet-0890890"
+     * @param hlth Health of instances
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    WarmsInstances(final AwsEc2 aws, final PfShell shll,
+        final Map<String, Integer> size, final long msec,
+        final String img, final String grp, final String net,
+        final Health hlth) {
+        this.api = aws;
+        this.shell = shll;
+        this.sizes = new ArrayMap<>(size);
+        this.max = msec;
+        this.image = img;
+        this.sgroup = grp;
+        this.subnet = net;
+        this.health = hlth;
+    }
+
+    @Override
+    public void execute(final Talks talks) throws IOException {
+        final Map<String, Integer> warm = new HashMap<>(this.sizes.size());
+        final Health pulls = this.health.with(
+            String.format(
+                "whoami; %s", new Images().pull(WarmsInstances.IMAGES)
+            )
+        );
+        for (final Instance instance : new WarmPool(this.api).idle()) {
+            final long age = System.currentTimeMillis()
+                - WarmPool.started(instance);
+            if (age >= this.max) {
+                this.api.aws().terminateInstances(
+                    TerminateInstancesRequest.builder()
+                        .instanceIds(instance.instanceId())
+                        .build()
+                );
+                this.api.forget();
+                Logger.info(
+                    this, "Warm AWS instance %s is idle for %[ms]s, retired",
+                    instance.instanceId(), age
+                );
+                continue;
+            }
+            if (!WarmsInstances.ready(instance)
+                && "running".equals(instance.state().nameAsString())
+                && this.alive(pulls, instance)) {
+                this.api.aws().createTags(
+                    CreateTagsRequest.builder()
+                        .resources(instance.instanceId())
+                        .tags(
+                            Tag.builder().key(WarmPool.READY).value("yes")
+                                .build()
+                        )
+                        .build()
+                );
+                this.api.forget();
+                Logger.info(
+                    this, "Warm AWS instance %s is ready at %s",
+                    instance.instanceId(), instance.publicIpAddress()
+                );
+            }
+            warm.merge(instance.instanceTypeAsString(), 1, Integer::sum);
+        }
+        for (final Map.Entry<String, Integer> size : this.sizes.entrySet()) {
+            final int missing = size.getValue()
+                - warm.getOrDefault(size.getKey(), 0);
+            if (missing > 0) {
+                this.launch(size.getKey(), missing);
+            }
+        }
+    }
+
+    /**
+     * Launch new instances into the pool.
+     * @param type Instance type
+     * @param total How many of them
+     */
+    private void launch(final String type, final int total) {
+        this.api.aws().runInstances(
+            RunInstancesRequest.builder()
+                .securityGroupIds(this.sgroup)
+                .subnetId(this.subnet)
+                .imageId(this.image)
+                .instanceType(type)
+                .maxCount(total)
+                .minCount(total)
+                .tagSpecifications(
+                    TagSpecification.builder()
+                        .resourceType(ResourceType.INSTANCE).tags(
+                            Tag.builder().key("Name").value("warm").build(),
+                            Tag.builder().key("rultor").value("yes").build(),
+                            Tag.builder().key(WarmPool.TAG).value(type).build()
+                        )
+                        .build()
+                )
+                .build()
+        );
+        this.api.forget();
+        Logger.info(
+            this, "Launched %d warm AWS instance(s) of type %s",
+            total, type
+        );
+    }
+
+    /**
+     * Is it ready already?
+     * @param instance The instance
+     * @return TRUE if it is
+     */
+    private static boolean ready(final Instance instance) {
+        return instance.tags().stream().anyMatch(
+            tag -> WarmPool.READY.equals(tag.key())
+        );
+    }
+
+    /**
+     * Did it answer by SSH, in background?
+     * @param pulls Health, which pulls images while checking
+     * @param instance The instance
+     * @return TRUE if it did
+     * @throws IOException If fails
+     */
+    private boolean alive(final Health pulls, final Instance instance)
+        throws IOException {
+        final String host = instance.publicIpAddress();
+        final Health.Verdict verdict = pulls.verdict(
+            instance.instanceId(), host, this.shell.withHost(host).toSsh()
+        );
+        if (verdict != Health.Verdict.ALIVE) {
+            Logger.info(
+                this, "Warm AWS instance at %s is not reachable yet: %s",
+                host, verdict
+            );
+        }
+        return verdict == Health.Verdict.ALIVE;
+    }
+}
@@ -10,8 +10,10 @@ import com.jcabi.s3.Bucket;
 import com.jcabi.ssh.Shell;
 import com.jcabi.ssh.Ssh;
 import com.jcabi.xml.XML;
+import com.rultor.Metrics;
 import com.rultor.Time;
 import com.rultor.agents.AbstractAgent;
+import com.rultor.agents.Span;
 import com.rultor.agents.shells.TalkShells;
 import java.io.File;
 import java.io.IOException;
@@ -88,11 +90,27 @@ public final class ArchivesDaemon extends AbstractAgent {
             xml.xpath("/talk/@name").get(0), uri, title
         );
         FileUtils.deleteQuietly(file);
+        for (final String repo : xml.xpath("/talk/wire/github-repo/text()")) {
+            new Outcomes().add(
+                repo,
+                new Outcomes.Outcome(
+                    xml.xpath("/talk/daemon/title/text()").get(0),
+                    Integer.parseInt(
+                        xml.xpath("/talk/daemon/code/text()").get(0)
+                    ),
+                    ArchivesDaemon.msec(xml)
+                )
+            );
+        }
         return new Directives().xpath("/talk/daemon").remove()
             .xpath("/talk").addIf("archive")
             .add("log").attr("id", hash)
             .attr("title", title)
-            .set(uri.toString());
+            .attr("code", xml.xpath("/talk/daemon/code/text()").get(0))
+            .attr("msec", Long.toString(ArchivesDaemon.msec(xml)))
+            .attr("ended", xml.xpath("/talk/daemon/ended/text()").get(0))
+            .set(uri.toString())
+            .append(new Span("archived"));
     }
 
     private URI upload(final File file, final String hash) throws IOException {
@@ -104,7 +122,11 @@ public final class ArchivesDaemon extends AbstractAgent {
         final String key = String.format(
             "%tY/%1$tm/%s.txt", LocalDate.now(ZoneId.systemDefault()), hash
         );
+        final long start = System.nanoTime();
         this.bucket.ocket(key).write(Files.newInputStream(file.toPath()), meta);
+        new Metrics().observe(
+            "rultor_s3_seconds", "op", "write", System.nanoTime() - start
+        );
         return URI.create(String.format("s3://%s/%s", this.bucket.name(), key));
     }
 
@@ -124,9 +146,13 @@ public final class ArchivesDaemon extends AbstractAgent {
             xml.xpath("/talk/daemon/title/text()").get(0),
             code,
             status,
-            new Time(xml.xpath("/talk/daemon/ended/text()").get(0)).msec()
-            - new Time(xml.xpath("/talk/daemon/started/text()").get(0)).msec(),
+            ArchivesDaemon.msec(xml),
             FileUtils.readLines(file, StandardCharsets.UTF_8).size()
         );
     }
+
+    private static long msec(final XML xml) {
+        return new Time(xml.xpath("/talk/daemon/ended/text()").get(0)).msec()
+            - new Time(xml.xpath("/talk/daemon/started/text()").get(0)).msec();
+    }
 }
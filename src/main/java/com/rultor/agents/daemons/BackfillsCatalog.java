@@ -0,0 +1,202 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.daemons;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.log.Logger;
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Ocket;
+import com.rultor.spi.SuperAgent;
+import com.rultor.spi.Talk;
+import com.rultor.spi.Talks;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.commons.io.IOUtils;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Adds logs archived before the {@link Catalog} existed to it, once.
+ *
+ * <p>Talks are visited by their numbers, from the first one up to
+ * the highest number of active talks seen at the first run, a few of
+ * them at a time. The progress is kept in the bucket, next to the
+ * catalog, so it survives restarts, and when all talks are visited,
+ * nothing is done anymore. Logs are read from the digests of talks,
+ * each of them is dated by its end or, for old logs without it, by
+ * the last update of the talk.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = { "bucket", "batch" })
+public final class BackfillsCatalog implements SuperAgent {
+
+    /**
+     * Key of the progress in the bucket.
+     */
+    private static final String PROGRESS = "catalog/backfill";
+
+    /**
+     * Progress, when all talks are visited.
+     */
+    private static final String DONE = "done";
+
+    /**
+     * S3 bucket.
+     */
+    private final transient Bucket bucket;
+
+    /**
+     * How many talk numbers to visit at once.
+     */
+    private final transient int batch;
+
+    /**
+     * Ctor.
+     * @param bkt Bucket
+     * @param max How many talk numbers to visit at once
+     */
+    public BackfillsCatalog(final Bucket bkt, final int max) {
+        this.bucket = bkt;
+        this.batch = max;
+    }
+
+    @Override
+    public void execute(final Talks talks) throws IOException {
+        final Ocket ocket = this.bucket.ocket(BackfillsCatalog.PROGRESS);
+        String progress = "";
+        if (ocket.exists()) {
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            ocket.read(baos);
+            progress = baos.toString(StandardCharsets.UTF_8.name()).trim();
+        }
+        if (progress.isEmpty()) {
+            long last = 0L;
+            for (final Talk talk : talks.active()) {
+                last = Math.max(last, talk.number());
+            }
+            if (last > 0L) {
+                progress = String.format("1 %d", last);
+            }
+        }
+        if (!progress.isEmpty() && !BackfillsCatalog.DONE.equals(progress)) {
+            final String[] parts = progress.split(" ");
+            final long next = Long.parseLong(parts[0]);
+            final long last = Long.parseLong(parts[1]);
+            final long end = Math.min(last + 1L, next + this.batch);
+            final Catalog catalog = new Catalog(this.bucket);
+            int logs = 0;
+            for (long num = next; num < end; ++num) {
+                if (talks.exists(num)) {
+                    logs += BackfillsCatalog.backfill(catalog, talks.get(num));
+                }
+            }
+            String state = BackfillsCatalog.DONE;
+            if (end <= last) {
+                state = String.format("%d %d", end, last);
+            }
+            BackfillsCatalog.save(ocket, state);
+            Logger.info(
+                this, "%d log(s) of talks #%d..#%d added to the catalog: %s",
+                logs, next, end - 1L, state
+            );
+        }
+    }
+
+    /**
+     * Add all logs of the talk to the catalog.
+     *
+     * <p>A talk with a broken digest and a log without an ID or with
+     * a broken end are skipped and reported, so that they don't stop
+     * the backfill forever.</p>
+     *
+     * @param catalog The catalog
+     * @param talk The talk
+     * @return How many logs were added
+     * @throws IOException If fails
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static int backfill(final Catalog catalog, final Talk talk)
+        throws IOException {
+        final LocalDate updated = talk.updated().atZone(ZoneOffset.UTC)
+            .toLocalDate();
+        int total = 0;
+        for (final JsonValue log : BackfillsCatalog.logs(talk)) {
+            try {
+                final JsonObject json = log.asJsonObject();
+                LocalDate day = updated;
+                if (json.containsKey("ended")) {
+                    day = Instant.parse(json.getString("ended"))
+                        .atZone(ZoneOffset.UTC).toLocalDate();
+                }
+                catalog.add(talk.number(), json.getString("id"), day);
+                ++total;
+                // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final RuntimeException ex) {
+                Logger.warn(
+                    BackfillsCatalog.class,
+                    "Broken log %s in talk #%d skipped: %s",
+                    log, talk.number(), ex.getMessage()
+                );
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Logs from the digest of the talk.
+     * @param talk The talk
+     * @return Logs, empty if the digest is broken
+     * @throws IOException If fails
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static List<JsonValue> logs(final Talk talk) throws IOException {
+        List<JsonValue> logs = Collections.emptyList();
+        try {
+            final JsonArray array = talk.digest().getJsonArray("logs");
+            if (array != null) {
+                logs = array;
+            }
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final RuntimeException ex) {
+            Logger.warn(
+                BackfillsCatalog.class,
+                "Broken digest of talk #%d skipped: %s",
+                talk.number(), ex.getMessage()
+            );
+        }
+        return logs;
+    }
+
+    /**
+     * Save the progress.
+     * @param ocket Where to save
+     * @param state The progress
+     * @throws IOException If fails
+     */
+    private static void save(final Ocket ocket, final String state)
+        throws IOException {
+        final byte[] bytes = state.getBytes(StandardCharsets.UTF_8);
+        ocket.write(
+            IOUtils.toInputStream(state, StandardCharsets.UTF_8),
+            HeadObjectResponse.builder()
+                .contentType("text/plain")
+                .contentLength((long) bytes.length)
+                .build()
+        );
+    }
+}
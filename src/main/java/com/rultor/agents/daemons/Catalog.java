@@ -0,0 +1,171 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.daemons;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.s3.Bucket;
+import java.io.IOException;
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.commons.io.input.NullInputStream;
+import org.cactoos.iterable.Filtered;
+import org.cactoos.iterable.Mapped;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Append-only catalog of archived logs, in S3.
+ *
+ * <p>Every archived log gets an empty object in the bucket, with a key
+ * like "catalog/2026/10/19/42-a1b2c3", where the date is the day of
+ * archiving and the name is the number of the talk and the hash of
+ * the log. Nothing is ever read or rewritten when a log is added,
+ * and a month of logs is listed by the prefix, page by page.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = "bucket")
+public final class Catalog {
+
+    /**
+     * Prefix of all keys.
+     */
+    private static final String PREFIX = "catalog/";
+
+    /**
+     * Pattern of a key.
+     */
+    private static final Pattern KEY = Pattern.compile(
+        "catalog/(\\d{4}/\\d{2}/\\d{2})/(\\d+)-([a-f0-9]+)"
+    );
+
+    /**
+     * S3 bucket.
+     */
+    private final transient Bucket bucket;
+
+    /**
+     * Ctor.
+     * @param bkt Bucket
+     */
+    public Catalog(final Bucket bkt) {
+        this.bucket = bkt;
+    }
+
+    /**
+     * Add a log, archived today.
+     * @param number Number of the talk
+     * @param hash Hash of the log
+     * @throws IOException If fails
+     */
+    public void add(final long number, final String hash) throws IOException {
+        this.add(number, hash, LocalDate.now(ZoneOffset.UTC));
+    }
+
+    /**
+     * Add a log, archived on the given day.
+     * @param number Number of the talk
+     * @param hash Hash of the log
+     * @param day Day of archiving
+     * @throws IOException If fails
+     */
+    public void add(final long number, final String hash, final LocalDate day)
+        throws IOException {
+        this.bucket.ocket(
+            String.format(
+                "%s%tY/%2$tm/%2$td/%d-%s", Catalog.PREFIX, day, number, hash
+            )
+        ).write(
+            new NullInputStream(0L),
+            HeadObjectResponse.builder()
+                .contentType("text/plain")
+                .contentLength(0L)
+                .build()
+        );
+    }
+
+    /**
+     * All logs archived in the month, lazily listed.
+     * @param month The month
+     * @return Logs, ordered by day
+     * @throws IOException If fails
+     */
+    public Iterable<Catalog.Log> month(final YearMonth month)
+        throws IOException {
+        return new Mapped<>(
+            key -> {
+                final Matcher matcher = Catalog.KEY.matcher(key);
+                if (!matcher.matches()) {
+                    throw new IllegalStateException(
+                        String.format("Broken key in the catalog: %s", key)
+                    );
+                }
+                return new Catalog.Log(
+                    LocalDate.parse(matcher.group(1).replace('/', '-')),
+                    new Home(
+                        Long.parseLong(matcher.group(2)), matcher.group(3)
+                    ).uri()
+                );
+            },
+            new Filtered<>(
+                key -> Catalog.KEY.matcher(key).matches(),
+                this.bucket.list(
+                    String.format("%s%tY/%2$tm/", Catalog.PREFIX, month)
+                )
+            )
+        );
+    }
+
+    /**
+     * One archived log.
+     *
+     * @since 2.1
+     */
+    public static final class Log {
+
+        /**
+         * Day of archiving.
+         */
+        private final transient LocalDate date;
+
+        /**
+         * Its home page.
+         */
+        private final transient URI home;
+
+        /**
+         * Ctor.
+         * @param day Day of archiving
+         * @param uri Home page
+         */
+        Log(final LocalDate day, final URI uri) {
+            this.date = day;
+            this.home = uri;
+        }
+
+        /**
+         * Day of archiving.
+         * @return Day
+         */
+        public LocalDate day() {
+            return this.date;
+        }
+
+        /**
+         * Home page of the log.
+         * @return URI
+         */
+        public URI uri() {
+            return this.home;
+        }
+    }
+}
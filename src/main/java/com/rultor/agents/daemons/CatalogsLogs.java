@@ -0,0 +1,78 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.daemons;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.s3.Bucket;
+import com.jcabi.xml.XML;
+import com.rultor.Time;
+import com.rultor.agents.AbstractAgent;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.xembly.Directive;
+import org.xembly.Directives;
+
+/**
+ * Adds archived logs of the talk to the {@link Catalog}.
+ *
+ * <p>It works with logs already saved in the talk by
+ * {@link ArchivesDaemon}, so a log is never added to the catalog if
+ * the talk failed to save it. Every log is dated by its end and marked
+ * as catalogued. Logs without the end are left to
+ * {@link BackfillsCatalog}.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(callSuper = false, of = "bucket")
+public final class CatalogsLogs extends AbstractAgent {
+
+    /**
+     * XPath of logs to add.
+     */
+    private static final String LOGS =
+        "/talk/archive/log[@ended and not(@catalogued)]";
+
+    /**
+     * S3 bucket.
+     */
+    private final transient Bucket bucket;
+
+    /**
+     * Ctor.
+     * @param bkt Bucket
+     */
+    public CatalogsLogs(final Bucket bkt) {
+        super(CatalogsLogs.LOGS);
+        this.bucket = bkt;
+    }
+
+    @Override
+    public Iterable<Directive> process(final XML xml) throws IOException {
+        final Catalog catalog = new Catalog(this.bucket);
+        final long number = Long.parseLong(xml.xpath("/talk/@number").get(0));
+        final Directives dirs = new Directives();
+        for (final XML log : xml.nodes(CatalogsLogs.LOGS)) {
+            final String hash = log.xpath("@id").get(0);
+            catalog.add(
+                number, hash,
+                LocalDate.ofInstant(
+                    Instant.ofEpochMilli(
+                        new Time(log.xpath("@ended").get(0)).msec()
+                    ),
+                    ZoneOffset.UTC
+                )
+            );
+            dirs.xpath(String.format("/talk/archive/log[@id='%s']", hash))
+                .attr("catalogued", "true");
+        }
+        return dirs;
+    }
+}
@@ -10,6 +10,7 @@ import com.jcabi.ssh.Shell;
 import com.jcabi.xml.XML;
 import com.rultor.Time;
 import com.rultor.agents.AbstractAgent;
+import com.rultor.agents.Span;
 import com.rultor.agents.shells.TalkShells;
 import java.io.IOException;
 import java.util.List;
@@ -123,7 +124,8 @@ public final class EndsDaemon extends AbstractAgent {
                         10_000
                     ).toString()
                 )
-            );
+            )
+            .append(new Span("ended"));
     }
 
     private static int exit(final Shell shell, final String dir)
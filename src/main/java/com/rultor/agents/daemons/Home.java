@@ -16,13 +16,13 @@ import lombok.ToString;
  */
 @Immutable
 @ToString
-@EqualsAndHashCode(callSuper = false, of = { "xml", "hash" })
+@EqualsAndHashCode(callSuper = false, of = { "number", "hash" })
 public final class Home {
 
     /**
-     * Talk.
+     * Number of the talk.
      */
-    private final transient XML xml;
+    private final transient long number;
 
     /**
      * Hash.
@@ -43,7 +43,17 @@ public final class Home {
      * @param hsh Hash
      */
     public Home(final XML talk, final String hsh) {
-        this.xml = talk;
+        this(Long.parseLong(talk.xpath("/talk/@number").get(0)), hsh);
+    }
+
+    /**
+     * Ctor.
+     * @param num Number of the talk
+     * @param hsh Hash
+     * @since 2.1
+     */
+    public Home(final long num, final String hsh) {
+        this.number = num;
         this.hash = hsh;
     }
 
@@ -54,9 +64,7 @@ public final class Home {
     public URI uri() {
         return URI.create(
             String.format(
-                "https://www.rultor.com/t/%d-%s",
-                Long.parseLong(this.xml.xpath("/talk/@number").get(0)),
-                this.hash
+                "https://www.rultor.com/t/%d-%s", this.number, this.hash
             )
         );
     }
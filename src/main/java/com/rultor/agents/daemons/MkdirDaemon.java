@@ -9,6 +9,7 @@ import com.jcabi.log.Logger;
 import com.jcabi.ssh.Shell;
 import com.jcabi.xml.XML;
 import com.rultor.agents.AbstractAgent;
+import com.rultor.agents.Span;
 import com.rultor.agents.shells.TalkShells;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -55,6 +56,7 @@ public final class MkdirDaemon extends AbstractAgent {
         return new Directives()
             .xpath("/talk/daemon[not(started) and not(dir)]")
             .strict(1)
-            .add("dir").set(dir);
+            .add("dir").set(dir)
+            .append(new Span("mkdir"));
     }
 }
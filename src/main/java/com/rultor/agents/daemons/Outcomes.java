@@ -0,0 +1,161 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.daemons;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.jcabi.aspects.Immutable;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * The latest outcomes of builds, by repo, in memory.
+ *
+ * <p>{@link ArchivesDaemon} adds an outcome every time it archives
+ * a daemon, and status badges are rendered from them. If there is nothing
+ * in memory for the repo, for example after a restart, it is loaded
+ * once and then kept for a day. When nothing is found, it is tried
+ * again in a few minutes.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode
+public final class Outcomes {
+
+    /**
+     * Outcomes, by repo coordinates, in lower case.
+     */
+    private static final Cache<String, Outcomes.Outcome> LATEST =
+        CacheBuilder.newBuilder()
+            .maximumSize(10_000L)
+            .expireAfterWrite(1L, TimeUnit.DAYS)
+            .build();
+
+    /**
+     * Repos without known outcomes, in lower case.
+     */
+    private static final Cache<String, Boolean> MISSING =
+        CacheBuilder.newBuilder()
+            .maximumSize(10_000L)
+            .expireAfterWrite(5L, TimeUnit.MINUTES)
+            .build();
+
+    /**
+     * Add an outcome.
+     * @param repo Repo coordinates, like "yegor256/rultor"
+     * @param outcome The outcome
+     */
+    public void add(final String repo, final Outcomes.Outcome outcome) {
+        final String key = repo.toLowerCase(Locale.ENGLISH);
+        Outcomes.LATEST.put(key, outcome);
+        Outcomes.MISSING.invalidate(key);
+    }
+
+    /**
+     * Get the latest outcome.
+     * @param repo Repo coordinates, like "yegor256/rultor"
+     * @param load How to load it, if it's not in memory
+     * @return The outcome or {@link Outcomes.Outcome#UNKNOWN}
+     * @throws IOException If fails
+     */
+    public Outcomes.Outcome latest(final String repo,
+        final Callable<Outcomes.Outcome> load) throws IOException {
+        final String key = repo.toLowerCase(Locale.ENGLISH);
+        Outcomes.Outcome outcome = Outcomes.Outcome.UNKNOWN;
+        if (Outcomes.MISSING.getIfPresent(key) == null) {
+            try {
+                outcome = Outcomes.LATEST.get(key, load);
+            } catch (final ExecutionException ex) {
+                throw new IOException(ex.getCause());
+            } catch (final UncheckedExecutionException ex) {
+                throw (RuntimeException) ex.getCause();
+            } catch (final ExecutionError ex) {
+                throw (Error) ex.getCause();
+            }
+            if (Outcomes.LATEST.asMap().remove(key, Outcomes.Outcome.UNKNOWN)) {
+                Outcomes.MISSING.put(key, true);
+            }
+        }
+        return outcome;
+    }
+
+    /**
+     * Outcome of a build.
+     *
+     * @since 2.1
+     */
+    @Immutable
+    @ToString
+    @EqualsAndHashCode
+    public static final class Outcome {
+
+        /**
+         * Nothing is known.
+         */
+        public static final Outcomes.Outcome UNKNOWN =
+            new Outcomes.Outcome("", 0, 0L);
+
+        /**
+         * Command, like "merge".
+         */
+        private final transient String cmd;
+
+        /**
+         * Exit code.
+         */
+        private final transient int exit;
+
+        /**
+         * Duration, in milliseconds.
+         */
+        private final transient long msec;
+
+        /**
+         * Ctor.
+         * @param command Command, like "merge"
+         * @param code Exit code
+         * @param duration Duration, in milliseconds
+         */
+        public Outcome(final String command, final int code,
+            final long duration) {
+            this.cmd = command;
+            this.exit = code;
+            this.msec = duration;
+        }
+
+        /**
+         * Command.
+         * @return Command, like "merge", or empty if nothing is known
+         */
+        public String command() {
+            return this.cmd;
+        }
+
+        /**
+         * Did it succeed?
+         * @return TRUE if the exit code is zero
+         */
+        public boolean success() {
+            return this.exit == 0;
+        }
+
+        /**
+         * Duration.
+         * @return Milliseconds
+         */
+        public long duration() {
+            return this.msec;
+        }
+    }
+}
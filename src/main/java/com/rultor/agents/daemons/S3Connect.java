@@ -10,6 +10,7 @@ import com.jcabi.s3.Region;
 import com.jcabi.s3.retry.ReRegion;
 import com.jcabi.xml.XML;
 import com.rultor.Env;
+import com.rultor.Metrics;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -54,9 +55,13 @@ final class S3Connect implements Connect {
             ).get(0)
         );
         final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        final long start = System.nanoTime();
         S3Connect.bucket().ocket(uri.getPath().substring(1)).read(
             baos
         );
+        new Metrics().observe(
+            "rultor_s3_seconds", "op", "read", System.nanoTime() - start
+        );
         return new ByteArrayInputStream(baos.toByteArray());
     }
 
@@ -15,6 +15,7 @@ import com.jcabi.xml.XML;
 import com.rultor.Env;
 import com.rultor.Time;
 import com.rultor.agents.Required;
+import com.rultor.agents.Span;
 import com.rultor.agents.shells.TalkShells;
 import com.rultor.profiles.ProfileDeprecations;
 import com.rultor.spi.Agent;
@@ -23,12 +24,25 @@ import com.rultor.spi.Talk;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
+import org.cactoos.list.ListOf;
 import org.xembly.Directive;
 import org.xembly.Directives;
 
@@ -46,6 +60,11 @@ public final class StartsDaemon implements Agent {
      */
     public static final String GPG_HOME = ".gnupg";
 
+    /**
+     * Directory on the host with assets, by their SHA-256 hashes.
+     */
+    private static final String ASSETS = ".rultor-assets";
+
     /**
      * Paths to match.
      */
@@ -76,6 +95,7 @@ public final class StartsDaemon implements Agent {
                     .xpath("/talk/daemon[not(started)]")
                     .strict(1)
                     .add("started").set(new Time().iso())
+                    .append(new Span("running"))
             );
             talk.modify(this.process(talk.read()));
         }
@@ -191,27 +211,69 @@ public final class StartsDaemon implements Agent {
         );
     }
 
+    /**
+     * Upload all assets into the directory.
+     *
+     * <p>Assets are stored on the host by their SHA-256 hashes, in
+     * {@link #ASSETS}. The host is asked which of them it already has,
+     * only the missing ones are sent, in one tar archive, and then all
+     * of them are copied into the directory by one SSH command. Every
+     * asset is spooled into a temporary file first, to find its hash
+     * without keeping it in memory.</p>
+     *
+     * @param shell The shell
+     * @param dir The directory
+     * @return Script to add to run.sh
+     * @throws IOException If fails
+     */
     private String upload(final Shell shell, final String dir)
         throws IOException {
         final long start = System.currentTimeMillis();
+        final Path temp = Files.createTempDirectory("rultor-assets");
         String script = "";
         try {
+            final Map<String, Path> blobs = new HashMap<>(0);
+            final Collection<String> copies = new LinkedList<>();
             for (final Map.Entry<String, InputStream> asset
                 : this.profile.assets().entrySet()) {
-                shell.exec(
+                final String sha = StartsDaemon.spool(asset.getValue(), temp);
+                blobs.put(sha, temp.resolve(sha));
+                copies.add(
                     String.format(
-                        "cat > %s",
+                        "cp %s/%s %s", StartsDaemon.ASSETS, sha,
                         Ssh.escape(String.format("%s/%s", dir, asset.getKey()))
-                    ),
-                    asset.getValue(),
-                    Logger.stream(Level.INFO, true),
-                    Logger.stream(Level.WARNING, true)
+                    )
                 );
+            }
+            if (!copies.isEmpty()) {
+                final Collection<String> used = new ArrayList<>(blobs.keySet());
+                blobs.keySet().removeAll(StartsDaemon.present(shell));
+                final Collection<String> cmds = new LinkedList<>();
+                if (!blobs.isEmpty()) {
+                    cmds.add(
+                        String.format("tar -x -C %s -f -", StartsDaemon.ASSETS)
+                    );
+                }
+                cmds.addAll(copies);
+                cmds.add(
+                    String.format(
+                        "cd %s && touch %s", StartsDaemon.ASSETS,
+                        String.join(" ", used)
+                    )
+                );
+                try (InputStream tar = new Tar(blobs).stream()) {
+                    new Shell.Safe(shell).exec(
+                        String.join(" && ", cmds),
+                        tar,
+                        Logger.stream(Level.INFO, true),
+                        Logger.stream(Level.WARNING, true)
+                    );
+                }
                 if (Logger.isInfoEnabled(this)) {
                     Logger.info(
-                        this, "\"%s\" uploaded into %s in %[ms]s",
-                        asset.getKey(), dir,
-                        System.currentTimeMillis() - start
+                        this, "%d asset(s) uploaded into %s in %[ms]s, %d sent",
+                        copies.size(), dir,
+                        System.currentTimeMillis() - start, blobs.size()
                     );
                 }
             }
@@ -220,7 +282,57 @@ public final class StartsDaemon implements Agent {
                 "cat << EOT%n%s%nEOT%nexit -1",
                 ex.getLocalizedMessage()
             );
+        } finally {
+            FileUtils.deleteQuietly(temp.toFile());
         }
         return script;
     }
+
+    /**
+     * Copy the asset into a file in the directory, named by its SHA-256.
+     * @param input Content of the asset
+     * @param dir The directory
+     * @return SHA-256 hash of the content
+     * @throws IOException If fails
+     */
+    private static String spool(final InputStream input, final Path dir)
+        throws IOException {
+        final Path file = Files.createTempFile(dir, "asset", ".tmp");
+        final MessageDigest digest = DigestUtils.getSha256Digest();
+        try (InputStream stream = new DigestInputStream(input, digest)) {
+            Files.copy(stream, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        final String sha = Hex.encodeHexString(digest.digest());
+        Files.move(
+            file, dir.resolve(sha), StandardCopyOption.REPLACE_EXISTING
+        );
+        return sha;
+    }
+
+    /**
+     * Hashes of assets the host already has.
+     *
+     * <p>Assets not used for a week are deleted first.</p>
+     *
+     * @param shell The shell
+     * @return SHA-256 hashes
+     * @throws IOException If fails
+     */
+    private static Collection<String> present(final Shell shell)
+        throws IOException {
+        return new ListOf<>(
+            new Shell.Plain(new Shell.Safe(shell)).exec(
+                String.join(
+                    " && ",
+                    String.format("mkdir -p %s", StartsDaemon.ASSETS),
+                    String.format("chmod 700 %s", StartsDaemon.ASSETS),
+                    String.format(
+                        "find %s -type f -mtime +7 -delete",
+                        StartsDaemon.ASSETS
+                    ),
+                    String.format("ls -1 %s", StartsDaemon.ASSETS)
+                )
+            ).split("\\s+")
+        );
+    }
 }
@@ -0,0 +1,115 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.daemons;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tar archive of flat files, in POSIX ustar format.
+ *
+ * <p>It is used to send many files to a remote shell in one
+ * {@code tar -x} execution, instead of one SSH command per file.
+ * Contents are streamed from the files, they are never loaded into
+ * memory as a whole.</p>
+ *
+ * @since 2.1
+ */
+final class Tar {
+
+    /**
+     * Size of a block.
+     */
+    private static final int BLOCK = 512;
+
+    /**
+     * Files to pack, by names.
+     */
+    private final Map<String, Path> files;
+
+    /**
+     * Ctor.
+     * @param entries Names of files in the archive and their local paths
+     */
+    Tar(final Map<String, Path> entries) {
+        this.files = entries;
+    }
+
+    /**
+     * Make a stream with the archive.
+     * @return The stream
+     * @throws IOException If fails
+     */
+    InputStream stream() throws IOException {
+        final List<InputStream> parts = new LinkedList<>();
+        for (final Map.Entry<String, Path> file : this.files.entrySet()) {
+            final long size = Files.size(file.getValue());
+            parts.add(
+                new ByteArrayInputStream(Tar.header(file.getKey(), size))
+            );
+            parts.add(Files.newInputStream(file.getValue()));
+            parts.add(new ByteArrayInputStream(new byte[Tar.padding(size)]));
+        }
+        parts.add(new ByteArrayInputStream(new byte[Tar.BLOCK * 2]));
+        return new SequenceInputStream(Collections.enumeration(parts));
+    }
+
+    private static int padding(final long size) {
+        return (int) ((Tar.BLOCK - size % Tar.BLOCK) % Tar.BLOCK);
+    }
+
+    /**
+     * Make a header block.
+     * @param name File name
+     * @param size Size of the file
+     * @return The block
+     * @checkstyle MagicNumberCheck (40 lines)
+     */
+    private static byte[] header(final String name, final long size) {
+        final byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 99) {
+            throw new IllegalArgumentException(
+                String.format("File name is too long for tar: %s", name)
+            );
+        }
+        final byte[] block = new byte[Tar.BLOCK];
+        System.arraycopy(bytes, 0, block, 0, bytes.length);
+        Tar.put(block, 100, String.format("%07o", 0600));
+        Tar.put(block, 108, String.format("%07o", 0));
+        Tar.put(block, 116, String.format("%07o", 0));
+        Tar.put(block, 124, String.format("%011o", size));
+        Tar.put(
+            block, 136,
+            String.format("%011o", System.currentTimeMillis() / 1000L)
+        );
+        Tar.put(block, 148, "        ");
+        block[156] = '0';
+        Tar.put(block, 257, "ustar");
+        Tar.put(block, 263, "00");
+        long sum = 0L;
+        for (final byte octet : block) {
+            sum += octet & 0xff;
+        }
+        Tar.put(block, 148, String.format("%06o", sum));
+        block[154] = 0;
+        block[155] = ' ';
+        return block;
+    }
+
+    private static void put(final byte[] block, final int pos,
+        final String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(bytes, 0, block, pos, bytes.length);
+    }
+}
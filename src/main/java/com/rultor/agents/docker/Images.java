@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.docker;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.ssh.Ssh;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Docker images used by repos, as seen in their "docker.image".
+ *
+ * <p>The more repos use an image recently, the more popular it is.
+ * Popular images are pulled to build hosts and warm instances in
+ * advance, so that builds don't wait for them.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode
+public final class Images {
+
+    /**
+     * How long a use of an image is remembered, in milliseconds.
+     */
+    private static final long MEMORY = TimeUnit.DAYS.toMillis(7L);
+
+    /**
+     * Times of the last use, by repos, by images.
+     */
+    private static final ConcurrentMap<String, Map<String, Long>> USES =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * The repo uses this image.
+     * @param repo Name of the repo
+     * @param image Name of the image
+     */
+    public void use(final String repo, final String image) {
+        Images.USES.computeIfAbsent(image, key -> new ConcurrentHashMap<>(0))
+            .put(repo, System.currentTimeMillis());
+    }
+
+    /**
+     * The most popular images, used by the biggest number of repos.
+     * @param max How many of them to return, at most
+     * @return Names of images
+     */
+    public List<String> popular(final int max) {
+        final long since = System.currentTimeMillis() - Images.MEMORY;
+        for (final Map<String, Long> repos : Images.USES.values()) {
+            repos.values().removeIf(time -> time < since);
+        }
+        Images.USES.values().removeIf(Map::isEmpty);
+        return Images.USES.entrySet().stream()
+            .sorted(
+                Comparator.comparingInt(
+                    (Map.Entry<String, Map<String, Long>> entry)
+                        -> entry.getValue().size()
+                ).reversed().thenComparing(Map.Entry::getKey)
+            )
+            .limit(max)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Bash command that pulls the most popular images in background.
+     * @param max How many of them to pull, at most
+     * @return Bash command, which returns immediately
+     */
+    public String pull(final int max) {
+        return String.format(
+            "setsid nohup bash -c %s </dev/null >/dev/null 2>&1 &",
+            Ssh.escape(
+                this.popular(max).stream()
+                    .map(
+                        image -> String.format(
+                            "docker pull %s; ", Ssh.escape(image)
+                        )
+                    )
+                    .collect(Collectors.joining("", "", "true"))
+            )
+        );
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.docker;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.log.Logger;
+import com.jcabi.ssh.Shell;
+import com.rultor.spi.SuperAgent;
+import com.rultor.spi.Talks;
+import java.io.IOException;
+import lombok.ToString;
+
+/**
+ * Pulls the most popular {@link Images} to a build host, in background.
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+public final class PullsImages implements SuperAgent {
+
+    /**
+     * Shell to use.
+     */
+    private final transient Shell shell;
+
+    /**
+     * How many images to pull, at most.
+     */
+    private final transient int max;
+
+    /**
+     * Ctor.
+     * @param ssh Shell
+     * @param total How many images to pull, at most
+     */
+    public PullsImages(final Shell ssh, final int total) {
+        this.shell = ssh;
+        this.max = total;
+    }
+
+    @Override
+    public void execute(final Talks talks) throws IOException {
+        new Shell.Empty(new Shell.Safe(this.shell)).exec(
+            new Images().pull(this.max)
+        );
+        Logger.info(
+            this, "Pulling popular images: %s", new Images().popular(this.max)
+        );
+    }
+}
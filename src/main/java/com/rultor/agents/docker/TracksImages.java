@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.docker;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.xml.XML;
+import com.rultor.agents.AbstractAgent;
+import com.rultor.spi.Profile;
+import java.io.IOException;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.xembly.Directive;
+import org.xembly.Directives;
+
+/**
+ * Remembers the Docker image of the request about to start, in
+ * {@link Images}.
+ *
+ * <p>Images built from "docker.directory" are not remembered, since
+ * they can't be pulled.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(callSuper = false, of = "profile")
+public final class TracksImages extends AbstractAgent {
+
+    /**
+     * Profile.
+     */
+    private final transient Profile profile;
+
+    /**
+     * Ctor.
+     * @param prof Profile
+     */
+    public TracksImages(final Profile prof) {
+        super(
+            "/talk/request[@id and type and not(success)]",
+            "/talk[not(daemon)]"
+        );
+        this.profile = prof;
+    }
+
+    @Override
+    public Iterable<Directive> process(final XML xml) throws IOException {
+        final Profile.Defaults def = new Profile.Defaults(this.profile);
+        if (def.text("/p/entry[@key='docker']/entry[@key='directory']")
+            .isEmpty()) {
+            new Images().use(
+                this.profile.name(),
+                def.text(
+                    "/p/entry[@key='docker']/entry[@key='image']",
+                    "yegor256/rultor-image"
+                )
+            );
+        }
+        return new Directives();
+    }
+}
@@ -6,23 +6,16 @@ package com.rultor.agents.github;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.github.Comment;
-import com.jcabi.github.Comment.Smart;
 import com.jcabi.github.Issue;
-import com.jcabi.github.Smarts;
 import com.jcabi.github.safe.SfComments;
 import com.jcabi.log.Logger;
 import java.io.IOException;
-import java.time.Instant;
 import java.util.Collection;
-import java.util.Date;
-import java.util.List;
 import java.util.Locale;
 import java.util.TreeSet;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.cactoos.iterable.Mapped;
-import org.cactoos.iterable.Reversed;
-import org.cactoos.list.ListOf;
 import org.cactoos.text.Abbreviated;
 import org.cactoos.text.FormattedText;
 import org.cactoos.text.Joined;
@@ -71,29 +64,18 @@ public final class Answer {
     public void post(final boolean success, final String msg,
         final Object... args) throws IOException {
         final Issue issue = this.comment.issue();
-        final List<Smart> comments = new ListOf<>(
-            new Reversed<>(
-                new Smarts<>(
-                    issue.comments().iterate(Date.from(Instant.EPOCH))
-                )
-            )
-        );
-        final String self = issue.repo().github().users().self().login();
-        int mine = 0;
-        for (final Comment.Smart cmt : comments) {
-            if (!cmt.author().login().equals(self)) {
-                break;
-            }
-            ++mine;
-        }
+        final Streak streak = new Streak(issue);
+        final int mine = streak.value();
         if (mine < Answer.MAX) {
             new SfComments(
                 issue.comments()
             ).post(this.msg(success, Logger.format(msg, args)));
+            streak.increment();
         } else {
             Logger.error(
                 this, "too many (%d) comments from %s already in %s#%d",
-                mine, self, issue.repo().coordinates(), issue.number()
+                mine, new Self(issue.repo().github()).login(),
+                issue.repo().coordinates(), issue.number()
             );
         }
     }
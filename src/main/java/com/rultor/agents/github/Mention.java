@@ -0,0 +1,85 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.github;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.github.Coordinates;
+import com.jcabi.log.Logger;
+import com.rultor.spi.Talk;
+import com.rultor.spi.Talks;
+import java.io.IOException;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.xembly.Directives;
+
+/**
+ * Mention of me in a GitHub issue or pull request.
+ *
+ * <p>It is found either by {@link StartsTalks} in notifications or
+ * delivered by a webhook. In both cases the talk of the issue is
+ * created, if it's absent, and activated.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = {"coords", "number"})
+public final class Mention {
+
+    /**
+     * Repository.
+     */
+    private final transient Coordinates coords;
+
+    /**
+     * Issue number.
+     */
+    private final transient int number;
+
+    /**
+     * HTML URL of the issue.
+     */
+    private final transient String href;
+
+    /**
+     * Ctor.
+     * @param repo Repository
+     * @param issue Number of the issue
+     * @param url HTML URL of the issue
+     */
+    public Mention(final Coordinates repo, final int issue, final String url) {
+        this.coords = repo;
+        this.number = issue;
+        this.href = url;
+    }
+
+    /**
+     * Create the talk, if it's absent, and activate it.
+     * @param talks Talks
+     * @return Name of the talk
+     * @throws IOException If fails
+     */
+    public String activate(final Talks talks) throws IOException {
+        final String name = String.format("%s#%d", this.coords, this.number);
+        if (!talks.exists(name)) {
+            talks.create(this.coords.toString(), name);
+        }
+        final Talk talk = talks.get(name);
+        talk.modify(
+            new Directives()
+                .xpath("/talk").attr("later", Boolean.toString(true))
+                .xpath("/talk[not(wire)]")
+                .add("wire").add("href").set(this.href).up()
+                .add("github-repo").set(this.coords.toString()).up()
+                .add("github-issue").set(Integer.toString(this.number))
+        );
+        talk.active(true);
+        Logger.info(
+            this, "talk %s#%d activated as %s",
+            this.coords, this.number, name
+        );
+        return talk.name();
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.github;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.jcabi.aspects.Immutable;
+import com.jcabi.github.Language;
+import com.jcabi.github.Repo;
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.cactoos.list.ListOf;
+
+/**
+ * Metadata of a GitHub repository, which almost never changes.
+ *
+ * <p>It is fetched once and kept in memory for a few hours, so that
+ * agents running for every talk on every cycle, like {@link Stars}, don't
+ * call GitHub API every time. A failure to fetch is not remembered.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = "repo")
+public final class RepoMeta {
+
+    /**
+     * Metadata, by repo coordinates in lower case.
+     */
+    private static final Cache<String, JsonObject> CACHE = CacheBuilder
+        .newBuilder()
+        .maximumSize(10_000L)
+        .expireAfterWrite(6L, TimeUnit.HOURS)
+        .build();
+
+    /**
+     * Starred.
+     */
+    private static final String STARRED = "starred";
+
+    /**
+     * Private.
+     */
+    private static final String PRIVATE = "private";
+
+    /**
+     * Description.
+     */
+    private static final String DESCRIPTION = "description";
+
+    /**
+     * Languages.
+     */
+    private static final String LANGUAGES = "languages";
+
+    /**
+     * Repo.
+     */
+    private final transient Repo repo;
+
+    /**
+     * Ctor.
+     * @param rpo The repo
+     */
+    public RepoMeta(final Repo rpo) {
+        this.repo = rpo;
+    }
+
+    /**
+     * Is it starred by us?
+     * @return TRUE if starred
+     * @throws IOException If fails
+     */
+    public boolean starred() throws IOException {
+        return this.json().getBoolean(RepoMeta.STARRED);
+    }
+
+    /**
+     * Star it, if not starred yet.
+     * @throws IOException If fails
+     */
+    public void star() throws IOException {
+        final JsonObject json = this.json();
+        if (!json.getBoolean(RepoMeta.STARRED)) {
+            this.repo.stars().star();
+            RepoMeta.CACHE.put(
+                this.key(),
+                Json.createObjectBuilder(json).add(RepoMeta.STARRED, true)
+                    .build()
+            );
+        }
+    }
+
+    /**
+     * Is it private?
+     * @return TRUE if private
+     * @throws IOException If fails
+     */
+    public boolean isPrivate() throws IOException {
+        return this.json().getBoolean(RepoMeta.PRIVATE);
+    }
+
+    /**
+     * Its description.
+     * @return Description or empty string
+     * @throws IOException If fails
+     */
+    public String description() throws IOException {
+        return this.json().getString(RepoMeta.DESCRIPTION);
+    }
+
+    /**
+     * Its languages.
+     * @return Names of languages
+     * @throws IOException If fails
+     */
+    public List<String> languages() throws IOException {
+        JsonObject json = this.json();
+        if (!json.containsKey(RepoMeta.LANGUAGES)) {
+            final JsonArrayBuilder langs = Json.createArrayBuilder();
+            for (final Language lang : this.repo.languages()) {
+                langs.add(lang.name());
+            }
+            json = Json.createObjectBuilder(json)
+                .add(RepoMeta.LANGUAGES, langs)
+                .build();
+            RepoMeta.CACHE.put(this.key(), json);
+        }
+        return new ListOf<>(
+            json.getJsonArray(RepoMeta.LANGUAGES)
+                .getValuesAs(JsonString::getString)
+        );
+    }
+
+    /**
+     * Forget the metadata of this repo.
+     */
+    public void flush() {
+        RepoMeta.CACHE.invalidate(this.key());
+    }
+
+    private JsonObject json() throws IOException {
+        try {
+            return RepoMeta.CACHE.get(this.key(), this::fetch);
+        } catch (final ExecutionException ex) {
+            throw new IOException(ex.getCause());
+        } catch (final UncheckedExecutionException ex) {
+            throw (RuntimeException) ex.getCause();
+        } catch (final ExecutionError ex) {
+            throw (Error) ex.getCause();
+        }
+    }
+
+    private String key() {
+        return this.repo.coordinates().toString().toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Fetch the metadata, except languages, which are fetched
+     * only when requested.
+     * @return JSON with metadata
+     * @throws IOException If fails
+     */
+    private JsonObject fetch() throws IOException {
+        final JsonObject json = this.repo.json();
+        return Json.createObjectBuilder()
+            .add(RepoMeta.STARRED, this.repo.stars().starred())
+            .add(RepoMeta.PRIVATE, json.getBoolean(RepoMeta.PRIVATE, false))
+            .add(
+                RepoMeta.DESCRIPTION,
+                json.getString(RepoMeta.DESCRIPTION, "")
+            )
+            .build();
+    }
+}
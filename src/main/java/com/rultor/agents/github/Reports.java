@@ -12,6 +12,7 @@ import com.jcabi.github.safe.SfComment;
 import com.jcabi.log.Logger;
 import com.jcabi.xml.XML;
 import com.rultor.agents.AbstractAgent;
+import com.rultor.agents.Span;
 import com.rultor.agents.daemons.Home;
 import java.io.IOException;
 import java.net.URI;
@@ -92,7 +93,8 @@ public final class Reports extends AbstractAgent {
         Logger.info(this, "issue #%d reported: %B", issue.number(), success);
         return new Directives()
             .xpath("/talk/request[success]")
-            .strict(1).remove();
+            .strict(1).remove()
+            .append(new Span("reported"));
     }
 
     private static String highlights(final XML req) {
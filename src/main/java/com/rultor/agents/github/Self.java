@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.github;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.jcabi.aspects.Immutable;
+import com.jcabi.github.GitHub;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Login of the user we are authenticated as in GitHub.
+ *
+ * <p>It never changes while the application is running, that's why it is
+ * fetched only once per GitHub client, instead of calling
+ * {@code /user} every time we need to know who we are.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = "github")
+public final class Self {
+
+    /**
+     * Logins, by GitHub clients.
+     */
+    private static final Cache<GitHub, String> LOGINS = CacheBuilder
+        .newBuilder()
+        .maximumSize(100L)
+        .build();
+
+    /**
+     * GitHub client.
+     */
+    private final transient GitHub github;
+
+    /**
+     * Ctor.
+     * @param ghub GitHub client
+     */
+    public Self(final GitHub ghub) {
+        this.github = ghub;
+    }
+
+    /**
+     * Get the login.
+     * @return Login, e.g. "rultor"
+     * @throws IOException If fails
+     */
+    public String login() throws IOException {
+        try {
+            return Self.LOGINS.get(
+                this.github, () -> this.github.users().self().login()
+            );
+        } catch (final ExecutionException ex) {
+            throw new IOException(ex.getCause());
+        } catch (final UncheckedExecutionException ex) {
+            throw (RuntimeException) ex.getCause();
+        }
+    }
+}
@@ -6,7 +6,6 @@ package com.rultor.agents.github;
 
 import com.jcabi.github.Coordinates;
 import com.jcabi.github.GitHub;
-import com.jcabi.github.Repo;
 import com.jcabi.xml.XML;
 import com.rultor.agents.AbstractAgent;
 import java.io.IOException;
@@ -15,6 +14,10 @@ import org.xembly.Directives;
 
 /**
  * Stars repos used.
+ *
+ * <p>Whether the repo is starred already is taken from {@link RepoMeta},
+ * so GitHub API is called only when the star is actually missing.</p>
+ *
  * @since 1.0
  */
 public final class Stars extends AbstractAgent {
@@ -35,15 +38,14 @@ public final class Stars extends AbstractAgent {
 
     @Override
     public Iterable<Directive> process(final XML xml) throws IOException {
-        final Repo repo = this.github.repos().get(
-            new Coordinates.Simple(
-                xml.nodes("/talk/wire").get(0)
-                    .xpath("github-repo/text()").get(0)
+        new RepoMeta(
+            this.github.repos().get(
+                new Coordinates.Simple(
+                    xml.nodes("/talk/wire").get(0)
+                        .xpath("github-repo/text()").get(0)
+                )
             )
-        );
-        if (!repo.stars().starred()) {
-            repo.stars().star();
-        }
+        ).star();
         return new Directives();
     }
 }
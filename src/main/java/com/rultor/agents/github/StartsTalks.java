@@ -14,16 +14,15 @@ import com.jcabi.http.response.RestResponse;
 import com.jcabi.log.Logger;
 import com.rultor.Time;
 import com.rultor.spi.SuperAgent;
-import com.rultor.spi.Talk;
 import com.rultor.spi.Talks;
 import jakarta.json.JsonObject;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.TimeUnit;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
-import org.xembly.Directives;
 
 /**
  * Starts talk when I'm mentioned in a GitHub issue.
@@ -37,7 +36,7 @@ import org.xembly.Directives;
  */
 @Immutable
 @ToString
-@EqualsAndHashCode(of = "github")
+@EqualsAndHashCode(of = { "github", "window" })
 public final class StartsTalks implements SuperAgent {
 
     /**
@@ -45,18 +44,37 @@ public final class StartsTalks implements SuperAgent {
      */
     private final transient GitHub github;
 
+    /**
+     * How far back to look for notifications, in milliseconds.
+     */
+    private final transient long window;
+
     /**
      * Ctor.
      * @param ghub GitHub client
      */
     public StartsTalks(final GitHub ghub) {
+        this(ghub, TimeUnit.MINUTES.toMillis(3L));
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>The window must be longer than the interval between executions,
+     * otherwise some notifications will be missed.</p>
+     *
+     * @param ghub GitHub client
+     * @param msec How far back to look for notifications, in msec
+     */
+    public StartsTalks(final GitHub ghub, final long msec) {
         this.github = ghub;
+        this.window = msec;
     }
 
     @Override
     public void execute(final Talks talks) throws IOException {
         final String since = new Time(
-            System.currentTimeMillis() - 180_000
+            System.currentTimeMillis() - this.window
         ).iso();
         final Request req = this.github.entry()
             .uri().path("/notifications").back();
@@ -104,32 +122,16 @@ public final class StartsTalks implements SuperAgent {
     private String activate(final Talks talks, final JsonObject event)
         throws IOException {
         final Coordinates coords = StartsTalks.coords(event);
-        final Issue issue = this.github.repos().get(coords).issues().get(
-            new IssueUrl(event.getJsonObject("subject").getString("url")).uid()
-        );
-        final String name = String.format("%s#%d", coords, issue.number());
-        if (!talks.exists(name)) {
-            talks.create(coords.toString(), name);
-        }
-        final Talk talk = talks.get(name);
-        talk.modify(
-            new Directives()
-                .xpath("/talk").attr("later", Boolean.toString(true))
-                .xpath("/talk[not(wire)]")
-                .add("wire").add("href")
-                .set(new Issue.Smart(issue).htmlUrl().toString())
-                .up()
-                .add("github-repo").set(coords.toString())
-                .up()
-                .add("github-issue")
-                .set(Integer.toString(issue.number()))
-        );
-        talk.active(true);
-        Logger.info(
-            this, "talk %s#%d activated as %s",
-            coords, issue.number(), name
+        final Issue.Smart issue = new Issue.Smart(
+            this.github.repos().get(coords).issues().get(
+                new IssueUrl(
+                    event.getJsonObject("subject").getString("url")
+                ).uid()
+            )
         );
-        return talk.name();
+        return new Mention(
+            coords, issue.number(), issue.htmlUrl().toString()
+        ).activate(talks);
     }
 
     private static Coordinates coords(final JsonObject event) {
@@ -0,0 +1,125 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.github;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.jcabi.aspects.Immutable;
+import com.jcabi.github.Comment;
+import com.jcabi.github.Issue;
+import com.jcabi.github.Smarts;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.cactoos.iterable.Reversed;
+
+/**
+ * How many comments in a row at the end of the issue are mine.
+ *
+ * <p>The number is counted by listing all comments of the issue only
+ * once, when it is needed for the first time. After that it is
+ * incremented by {@link Answer} when it posts and reset by
+ * {@link Understands} when it sees a fresh comment from someone else.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = "issue")
+final class Streak {
+
+    /**
+     * Counters, by repo coordinates in lower case and issue numbers.
+     */
+    private static final Cache<String, AtomicInteger> COUNTERS =
+        CacheBuilder.newBuilder()
+            .maximumSize(10_000L)
+            .expireAfterAccess(1L, TimeUnit.DAYS)
+            .build();
+
+    /**
+     * The issue.
+     */
+    private final transient Issue issue;
+
+    /**
+     * Ctor.
+     * @param iss The issue
+     */
+    Streak(final Issue iss) {
+        this.issue = iss;
+    }
+
+    /**
+     * How many of my comments are there at the end.
+     * @return Total
+     * @throws IOException If fails
+     */
+    int value() throws IOException {
+        return this.counter().get();
+    }
+
+    /**
+     * One more comment from me is posted.
+     * @throws IOException If fails
+     */
+    void increment() throws IOException {
+        this.counter().incrementAndGet();
+    }
+
+    /**
+     * Someone else posted a comment.
+     */
+    void reset() {
+        final AtomicInteger counter = Streak.COUNTERS.getIfPresent(this.key());
+        if (counter == null) {
+            Streak.COUNTERS.put(this.key(), new AtomicInteger());
+        } else {
+            counter.set(0);
+        }
+    }
+
+    private AtomicInteger counter() throws IOException {
+        try {
+            return Streak.COUNTERS.get(this.key(), this::count);
+        } catch (final ExecutionException ex) {
+            throw new IOException(ex.getCause());
+        } catch (final UncheckedExecutionException ex) {
+            throw (RuntimeException) ex.getCause();
+        }
+    }
+
+    private String key() {
+        return String.format(
+            "%s#%d",
+            this.issue.repo().coordinates().toString()
+                .toLowerCase(Locale.ENGLISH),
+            this.issue.number()
+        );
+    }
+
+    private AtomicInteger count() throws IOException {
+        final String self = new Self(this.issue.repo().github()).login();
+        int mine = 0;
+        for (final Comment.Smart cmt : new Reversed<>(
+            new Smarts<Comment.Smart>(
+                this.issue.comments().iterate(Date.from(Instant.EPOCH))
+            )
+        )) {
+            if (!cmt.author().login().equals(self)) {
+                break;
+            }
+            ++mine;
+        }
+        return new AtomicInteger(mine);
+    }
+}
@@ -13,6 +13,7 @@ import com.jcabi.github.Smarts;
 import com.jcabi.log.Logger;
 import com.jcabi.xml.XML;
 import com.rultor.agents.AbstractAgent;
+import com.rultor.agents.Span;
 import com.rultor.agents.daemons.Home;
 import com.rultor.spi.Profile;
 import java.io.IOException;
@@ -80,6 +81,7 @@ public final class Understands extends AbstractAgent {
                 )
             ).iterator()
         );
+        final String self = new Self(this.github).login();
         final long seen = Understands.seen(xml);
         long next = seen;
         int fresh = 0;
@@ -92,6 +94,9 @@ public final class Understands extends AbstractAgent {
                 continue;
             }
             ++fresh;
+            if (!comment.author().login().equals(self)) {
+                new Streak(issue).reset();
+            }
             req = this.parse(comment, xml);
             if (req.equals(Req.LATER)) {
                 break;
@@ -131,7 +136,11 @@ public final class Understands extends AbstractAgent {
                 .xpath("/talk[not(request)]").strict(1)
                 .add("request")
                 .attr("id", Long.toString(next))
-                .append(req.dirs());
+                .append(req.dirs())
+                .xpath("/talk/trace").remove()
+                .xpath("/talk").add("trace")
+                .attr("id", Long.toString(next))
+                .append(new Span("requested"));
         } else {
             Logger.error(
                 this, "We have seen this conversation already: %d",
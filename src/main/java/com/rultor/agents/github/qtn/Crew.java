@@ -4,6 +4,9 @@
  */
 package com.rultor.agents.github.qtn;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.github.Repo;
 import com.jcabi.github.User;
@@ -11,17 +14,35 @@ import com.jcabi.log.Logger;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
 /**
  * GitHub crew.
+ *
+ * <p>Collaborators of a repository are cached for a few minutes, since
+ * every command is checked against them and they change rarely. A failure
+ * to fetch them is not cached.</p>
+ *
  * @since 1.40.7
  */
 @Immutable
 @ToString
 @EqualsAndHashCode(of = "repo")
-final class Crew {
+public final class Crew {
+
+    /**
+     * Collaborators, by repo coordinates.
+     */
+    private static final Cache<String, Collection<String>> NAMES =
+        CacheBuilder.newBuilder()
+            .maximumSize(5000L)
+            .expireAfterWrite(10L, TimeUnit.MINUTES)
+            .build();
 
     /**
      * GitHub.
@@ -32,7 +53,7 @@ final class Crew {
      * Ctor.
      * @param rpo GitHub repo
      */
-    Crew(final Repo rpo) {
+    public Crew(final Repo rpo) {
         this.repo = rpo;
     }
 
@@ -41,17 +62,36 @@ final class Crew {
      * @return List of their login names
      */
     Collection<String> names() {
-        final Collection<String> names = new ArrayList<>(0);
+        Collection<String> names;
         try {
-            for (final User user : this.repo.collaborators().iterate()) {
-                names.add(user.login());
-            }
-        } catch (final IOException | IllegalStateException ex) {
+            names = Crew.NAMES.get(this.key(), this::fetch);
+        } catch (final ExecutionException | UncheckedExecutionException ex) {
             Logger.warn(
                 this, "failed to fetch collaborator: %s",
-                ex.getLocalizedMessage()
+                ex.getCause().getLocalizedMessage()
             );
+            names = new ArrayList<>(0);
         }
         return names;
     }
+
+    /**
+     * Forget the collaborators of this repo, they will be fetched again
+     * on the next call of {@link #names()}.
+     */
+    public void flush() {
+        Crew.NAMES.invalidate(this.key());
+    }
+
+    private String key() {
+        return this.repo.coordinates().toString().toLowerCase(Locale.ENGLISH);
+    }
+
+    private Collection<String> fetch() throws IOException {
+        final Collection<String> names = new ArrayList<>(0);
+        for (final User user : this.repo.collaborators().iterate()) {
+            names.add(user.login());
+        }
+        return Collections.unmodifiableCollection(names);
+    }
 }
@@ -6,16 +6,16 @@ package com.rultor.agents.github.qtn;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.github.Comment;
-import com.jcabi.github.Repo;
 import com.jcabi.xml.XML;
 import com.rultor.agents.github.Answer;
 import com.rultor.agents.github.Question;
 import com.rultor.agents.github.Req;
+import com.rultor.agents.github.Self;
 import com.rultor.spi.Profile;
 import java.io.IOException;
 import java.net.URI;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.ResourceBundle;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -70,10 +70,12 @@ public final class QnAskedBy implements Question {
     public Req understand(final Comment.Smart comment,
         final URI home) throws IOException {
         final Req req;
-        final Collection<String> logins = this.commanders(
-            comment.issue().repo()
-        );
-        if (logins.isEmpty() || logins.contains(comment.author().login())) {
+        final String author = comment.author().login();
+        final Collection<String> logins = this.commanders();
+        if (!logins.contains(author)) {
+            logins.addAll(new Crew(comment.issue().repo()).names());
+        }
+        if (logins.isEmpty() || logins.contains(author)) {
             req = this.origin.understand(comment, home);
         } else {
             new Answer(comment).post(
@@ -82,7 +84,7 @@ public final class QnAskedBy implements Question {
                     QnAskedBy.PHRASES.getString("QnAskedBy.denied"),
                     QnAskedBy.commandersAsDelimitedList(
                         logins,
-                        comment.issue().repo().github().users().self().login()
+                        new Self(comment.issue().repo().github()).login()
                     )
                 )
             );
@@ -105,10 +107,18 @@ public final class QnAskedBy implements Question {
         ).toString();
     }
 
-    private Collection<String> commanders(final Repo repo) throws IOException {
-        final Collection<String> logins = new ArrayList<>(0);
+    /**
+     * Commanders and architects listed in the profile.
+     *
+     * <p>They are checked before the collaborators of the repo, which
+     * are fetched only if the author is not among them.</p>
+     *
+     * @return Their logins
+     * @throws IOException If fails
+     */
+    private Collection<String> commanders() throws IOException {
+        final Collection<String> logins = new LinkedHashSet<>(0);
         final XML xml = this.profile.read();
-        logins.addAll(new Crew(repo).names());
         logins.addAll(xml.xpath(this.xpath));
         logins.addAll(xml.xpath("/p/entry[@key='architect']/item/text()"));
         return logins;
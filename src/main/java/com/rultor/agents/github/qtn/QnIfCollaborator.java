@@ -10,6 +10,7 @@ import com.jcabi.github.Repo;
 import com.rultor.agents.github.Answer;
 import com.rultor.agents.github.Question;
 import com.rultor.agents.github.Req;
+import com.rultor.agents.github.Self;
 import java.io.IOException;
 import java.net.URI;
 import java.util.Collection;
@@ -50,7 +51,7 @@ public final class QnIfCollaborator implements Question {
         final URI home) throws IOException {
         final Req req;
         final Repo repo = comment.issue().repo();
-        final String self = repo.github().users().self().login();
+        final String self = new Self(repo.github()).login();
         final Collection<String> crew = new Crew(repo).names();
         if (crew.isEmpty() || crew.contains(self)) {
             req = this.origin.understand(comment, home);
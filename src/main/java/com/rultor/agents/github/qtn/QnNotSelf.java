@@ -8,6 +8,7 @@ import com.jcabi.aspects.Immutable;
 import com.jcabi.github.Comment;
 import com.rultor.agents.github.Question;
 import com.rultor.agents.github.Req;
+import com.rultor.agents.github.Self;
 import java.io.IOException;
 import java.net.URI;
 import lombok.EqualsAndHashCode;
@@ -39,8 +40,9 @@ public final class QnNotSelf implements Question {
     public Req understand(final Comment.Smart comment,
         final URI home) throws IOException {
         final Req req;
-        final String self = comment.issue().repo()
-            .github().users().self().login();
+        final String self = new Self(
+            comment.issue().repo().github()
+        ).login();
         if (self.equals(comment.author().login())) {
             req = Req.EMPTY;
         } else {
@@ -12,16 +12,19 @@ import com.jcabi.ssh.Ssh;
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XSL;
 import com.jcabi.xml.XSLDocument;
+import com.rultor.agents.daemons.Container;
 import com.rultor.agents.github.Answer;
 import com.rultor.agents.github.Question;
 import com.rultor.agents.github.Req;
 import com.rultor.agents.shells.TalkShells;
+import com.rultor.agents.shells.Telemetry;
 import com.rultor.spi.Talk;
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.ResourceBundle;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -99,14 +102,34 @@ public final class QnStatus implements Question {
                     ).trim()
                 )
             );
-            lines.add(
-                String.format(
-                    " * server load average: %s",
-                    shell.exec(
-                        "uptime | awk '{print $12}' | cut -d ',' -f 1"
-                    ).trim()
-                )
+            final Optional<Telemetry.Sample> sample = new Telemetry().latest(
+                xml.xpath("/talk/shell/host/text()").get(0)
             );
+            if (sample.isPresent()) {
+                lines.add(
+                    Logger.format(
+                        " * server: %s, %[ms]s ago",
+                        sample.get().host(),
+                        System.currentTimeMillis() - sample.get().time()
+                    )
+                );
+                sample.get().container(
+                    new Container(xml.xpath("/talk/@name").get(0)).toString()
+                ).ifPresent(
+                    usage -> lines.add(
+                        String.format(" * Docker container uses %s", usage)
+                    )
+                );
+            } else {
+                lines.add(
+                    String.format(
+                        " * server load average: %s",
+                        shell.exec(
+                            "uptime | awk '{print $12}' | cut -d ',' -f 1"
+                        ).trim()
+                    )
+                );
+            }
         }
         new Answer(comment).post(
             true,
@@ -0,0 +1,199 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.req;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.xml.XML;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Admission of requests to build slots.
+ *
+ * <p>The plan is made by {@link AdmitsRequests} once per cycle: it says
+ * which waiting talks are admitted and which stay in the queue. Talks
+ * that appear between two plans are admitted if there are free slots,
+ * in total and for their organization, otherwise they wait for the
+ * next plan. Slots taken by the plan are never given back before the
+ * next plan, so such talks never take the slots of the queued ones.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode
+public final class Admission {
+
+    /**
+     * The latest plan.
+     */
+    private static final AtomicReference<Admission.Plan> PLAN =
+        new AtomicReference<>(
+            new Admission.Plan(Integer.MAX_VALUE, Integer.MAX_VALUE)
+        );
+
+    /**
+     * Is this talk waiting in the queue?
+     * @param talk Name of the talk
+     * @return TRUE if it's waiting
+     */
+    public boolean waits(final String talk) {
+        synchronized (Admission.PLAN) {
+            return Admission.PLAN.get().queued.contains(talk);
+        }
+    }
+
+    /**
+     * Can this talk start its request now?
+     * @param xml The talk
+     * @return TRUE if it can
+     */
+    public boolean admit(final XML xml) {
+        final String talk = xml.xpath("/talk/@name").get(0);
+        final String org = Admission.org(xml);
+        synchronized (Admission.PLAN) {
+            final Admission.Plan plan = Admission.PLAN.get();
+            final boolean admitted;
+            if (plan.admitted.remove(talk)) {
+                admitted = true;
+            } else if (plan.free(org)) {
+                plan.take(org);
+                admitted = true;
+            } else {
+                admitted = false;
+            }
+            return admitted;
+        }
+    }
+
+    /**
+     * Replace the plan.
+     * @param plan New plan
+     */
+    void update(final Admission.Plan plan) {
+        synchronized (Admission.PLAN) {
+            Admission.PLAN.set(plan);
+        }
+    }
+
+    /**
+     * Organization of the talk.
+     * @param xml The talk
+     * @return Organization, in lower case, or empty if it's not on GitHub
+     */
+    static String org(final XML xml) {
+        final Collection<String> repo =
+            xml.xpath("/talk/wire/github-repo/text()");
+        String org = "";
+        if (!repo.isEmpty()) {
+            org = repo.iterator().next().split("/", 2)[0]
+                .toLowerCase(Locale.ENGLISH);
+        }
+        return org;
+    }
+
+    /**
+     * Plan of admission.
+     *
+     * @since 2.1
+     */
+    static final class Plan {
+
+        /**
+         * Talks admitted, but not started yet.
+         */
+        private final Collection<String> admitted;
+
+        /**
+         * Talks waiting in the queue.
+         */
+        private final Collection<String> queued;
+
+        /**
+         * Running requests, by organizations.
+         */
+        private final Map<String, Integer> orgs;
+
+        /**
+         * Maximum running requests.
+         */
+        private final int total;
+
+        /**
+         * Maximum running requests of one organization.
+         */
+        private final int org;
+
+        /**
+         * Running requests.
+         */
+        private int running;
+
+        /**
+         * Ctor.
+         * @param max Maximum running requests
+         * @param per Maximum running requests of one organization
+         */
+        Plan(final int max, final int per) {
+            this.admitted = new HashSet<>(0);
+            this.queued = new HashSet<>(0);
+            this.orgs = new HashMap<>(0);
+            this.total = max;
+            this.org = per;
+        }
+
+        /**
+         * Is there a free slot for this organization?
+         * @param name Organization
+         * @return TRUE if there is one
+         */
+        boolean free(final String name) {
+            return this.running < this.total
+                && this.orgs.getOrDefault(name, 0) < this.org;
+        }
+
+        /**
+         * Take a slot, by a running request.
+         * @param name Organization
+         */
+        void take(final String name) {
+            ++this.running;
+            this.orgs.merge(name, 1, Integer::sum);
+        }
+
+        /**
+         * Admit the talk.
+         * @param talk Name of the talk
+         * @param name Organization
+         */
+        void admit(final String talk, final String name) {
+            this.take(name);
+            this.admitted.add(talk);
+        }
+
+        /**
+         * Put the talk into the queue.
+         * @param talk Name of the talk
+         */
+        void queue(final String talk) {
+            this.queued.add(talk);
+        }
+
+        /**
+         * Running requests of this organization.
+         * @param name Organization
+         * @return How many
+         */
+        int running(final String name) {
+            return this.orgs.getOrDefault(name, 0);
+        }
+    }
+}
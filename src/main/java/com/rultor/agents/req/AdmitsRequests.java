@@ -0,0 +1,311 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.req;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.github.GitHub;
+import com.jcabi.log.Logger;
+import com.jcabi.xml.XML;
+import com.rultor.Time;
+import com.rultor.agents.github.TalkIssues;
+import com.rultor.spi.Digest;
+import com.rultor.spi.SuperAgent;
+import com.rultor.spi.Talk;
+import com.rultor.spi.Talks;
+import jakarta.json.JsonObject;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.xembly.Directives;
+
+/**
+ * Admits waiting requests to build slots, or puts them into the queue.
+ *
+ * <p>Once per cycle it looks at all active talks, counts running
+ * requests, and orders the waiting ones: merges go before deploys,
+ * and deploys before releases; then organizations and repositories with
+ * fewer running requests go first; then older requests. Waiting requests
+ * are admitted in this order, while there are free slots, in total and
+ * for the organization: a request of an organization that used all its
+ * slots is skipped, and the next ones are still admitted. Skipped
+ * requests stay in the {@link Admission} queue, and {@link Admitted}
+ * doesn't let them start until admitted, while all other agents still
+ * work with their talks, so they may be stopped or answered.</p>
+ *
+ * <p>When a request gets into the queue for the first time, its author
+ * is told its position and the expected time of start, calculated
+ * from the durations of previous builds, as seen in the archive. Later
+ * plans update the position, and remove it when the request is
+ * admitted.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = { "github", "total", "org" })
+public final class AdmitsRequests implements SuperAgent {
+
+    /**
+     * Message bundle.
+     */
+    private static final ResourceBundle PHRASES =
+        ResourceBundle.getBundle("phrases");
+
+    /**
+     * Types of requests, by priority.
+     */
+    private static final List<String> PRIORITIES = Arrays.asList(
+        "merge", "deploy", "release"
+    );
+
+    /**
+     * Request waiting for its daemon.
+     */
+    static final String WAITING =
+        "/talk[not(daemon)]/request[@id and type and not(success)]";
+
+    /**
+     * Duration of a build, when nothing is known.
+     */
+    private static final long DURATION = TimeUnit.MINUTES.toMillis(10L);
+
+    /**
+     * GitHub client.
+     */
+    private final transient GitHub github;
+
+    /**
+     * Maximum running requests.
+     */
+    private final transient int total;
+
+    /**
+     * Maximum running requests of one organization.
+     */
+    private final transient int org;
+
+    /**
+     * Ctor.
+     * @param ghub GitHub client
+     * @param max Maximum running requests
+     * @param per Maximum running requests of one organization
+     */
+    public AdmitsRequests(final GitHub ghub, final int max, final int per) {
+        this.github = ghub;
+        this.total = max;
+        this.org = per;
+    }
+
+    @Override
+    public void execute(final Talks talks) throws IOException {
+        final Admission.Plan plan = new Admission.Plan(this.total, this.org);
+        final Map<String, Integer> repos = new HashMap<>(0);
+        final List<AdmitsRequests.Waiting> waiting = new ArrayList<>(0);
+        long spent = 0L;
+        int builds = 0;
+        for (final Talk talk : talks.active()) {
+            final XML xml = talk.read();
+            for (final JsonObject log
+                : new Digest(xml).json().getJsonArray("logs")
+                    .getValuesAs(JsonObject.class)) {
+                if (log.containsKey("msec")) {
+                    spent += log.getJsonNumber("msec").longValue();
+                    ++builds;
+                }
+            }
+            if (!xml.nodes("/talk/daemon").isEmpty()) {
+                plan.take(Admission.org(xml));
+                repos.merge(AdmitsRequests.repo(xml), 1, Integer::sum);
+            } else if (!xml.nodes(AdmitsRequests.WAITING).isEmpty()) {
+                waiting.add(new AdmitsRequests.Waiting(talk, xml));
+            }
+        }
+        waiting.sort(
+            Comparator.comparingInt(AdmitsRequests.Waiting::priority)
+                .thenComparingInt(wait -> plan.running(wait.org()))
+                .thenComparingInt(
+                    wait -> repos.getOrDefault(wait.repo(), 0)
+                )
+                .thenComparing(AdmitsRequests.Waiting::requested)
+        );
+        long duration = AdmitsRequests.DURATION;
+        if (builds > 0) {
+            duration = spent / builds;
+        }
+        int position = 0;
+        for (final AdmitsRequests.Waiting wait : waiting) {
+            if (plan.free(wait.org())) {
+                plan.admit(wait.name(), wait.org());
+                repos.merge(wait.repo(), 1, Integer::sum);
+                AdmitsRequests.unqueue(wait);
+            } else {
+                ++position;
+                plan.queue(wait.name());
+                this.queue(wait, position, duration);
+            }
+        }
+        new Admission().update(plan);
+        Logger.info(
+            this, "%d requests waiting, %d of them in the queue",
+            waiting.size(), position
+        );
+    }
+
+    /**
+     * Put the request into the queue, or move it there.
+     *
+     * <p>The author is told about the queue only when the request gets
+     * there for the first time, later only its position and the expected
+     * time of start are updated.</p>
+     *
+     * @param wait Waiting request
+     * @param position Position in the queue, starting from one
+     * @param duration Average duration of a build, in milliseconds
+     * @throws IOException If fails
+     */
+    private void queue(final AdmitsRequests.Waiting wait, final int position,
+        final long duration) throws IOException {
+        final boolean fresh = wait.xml.nodes("/talk/request/queue").isEmpty();
+        final long delay = duration
+            * ((position + this.total - 1) / this.total);
+        if (fresh || !wait.xml.nodes(
+            String.format(
+                "/talk/request/queue[@position!='%d']", position
+            )
+        ).isEmpty()) {
+            wait.talk.modify(
+                new Directives().xpath("/talk/request")
+                    .addIf("queue")
+                    .attr("position", Integer.toString(position))
+                    .attr(
+                        "start",
+                        new Time(System.currentTimeMillis() + delay).iso()
+                    )
+            );
+        }
+        if (fresh && !wait.xml.nodes("/talk/wire[github-repo and github-issue]")
+            .isEmpty()) {
+            new TalkIssues(this.github, wait.xml).get().comments().post(
+                Logger.format(
+                    AdmitsRequests.PHRASES.getString(
+                        "AdmitsRequests.queued"
+                    ),
+                    String.join(
+                        "", wait.xml.xpath("/talk/request/author/text()")
+                    ),
+                    position, delay
+                )
+            );
+        }
+    }
+
+    /**
+     * Take the request out of the queue, if it's there.
+     * @param wait Admitted request
+     * @throws IOException If fails
+     */
+    private static void unqueue(final AdmitsRequests.Waiting wait)
+        throws IOException {
+        if (!wait.xml.nodes("/talk/request/queue").isEmpty()) {
+            wait.talk.modify(
+                new Directives().xpath("/talk/request/queue").remove()
+            );
+        }
+    }
+
+    /**
+     * Repository of the talk.
+     * @param xml The talk
+     * @return Repository coordinates, or empty if it's not on GitHub
+     */
+    private static String repo(final XML xml) {
+        return String.join("", xml.xpath("/talk/wire/github-repo/text()"));
+    }
+
+    /**
+     * Waiting request.
+     *
+     * @since 2.1
+     */
+    private static final class Waiting {
+
+        /**
+         * Talk.
+         */
+        private final transient Talk talk;
+
+        /**
+         * Its XML.
+         */
+        private final transient XML xml;
+
+        /**
+         * Ctor.
+         * @param tlk Talk
+         * @param body Its XML
+         */
+        Waiting(final Talk tlk, final XML body) {
+            this.talk = tlk;
+            this.xml = body;
+        }
+
+        /**
+         * Name of the talk.
+         * @return Name
+         */
+        String name() {
+            return this.xml.xpath("/talk/@name").get(0);
+        }
+
+        /**
+         * Organization.
+         * @return Organization
+         */
+        String org() {
+            return Admission.org(this.xml);
+        }
+
+        /**
+         * Repository.
+         * @return Repository coordinates
+         */
+        String repo() {
+            return AdmitsRequests.repo(this.xml);
+        }
+
+        /**
+         * Priority, the lower the more important.
+         * @return Priority
+         */
+        int priority() {
+            int priority = AdmitsRequests.PRIORITIES.indexOf(
+                this.xml.xpath("/talk/request/type/text()").get(0)
+            );
+            if (priority < 0) {
+                priority = AdmitsRequests.PRIORITIES.size();
+            }
+            return priority;
+        }
+
+        /**
+         * When it was requested.
+         * @return ISO time, or empty if unknown
+         */
+        String requested() {
+            return String.join(
+                "",
+                this.xml.xpath("/talk/trace/span[@name='requested']/@at")
+            );
+        }
+    }
+}
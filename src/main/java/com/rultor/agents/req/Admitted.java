@@ -0,0 +1,51 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.req;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.log.Logger;
+import com.jcabi.xml.XML;
+import com.rultor.spi.Agent;
+import com.rultor.spi.Talk;
+import java.io.IOException;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Agent that starts a request only when {@link Admission} lets it.
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = "origin")
+public final class Admitted implements Agent {
+
+    /**
+     * Agent.
+     */
+    private final transient Agent origin;
+
+    /**
+     * Ctor.
+     * @param agent Original agent, which starts requests
+     */
+    public Admitted(final Agent agent) {
+        this.origin = agent;
+    }
+
+    @Override
+    public void execute(final Talk talk) throws IOException {
+        final XML xml = talk.read();
+        if (xml.nodes(AdmitsRequests.WAITING).isEmpty()
+            || new Admission().admit(xml)) {
+            this.origin.execute(talk);
+        } else {
+            Logger.info(
+                this, "Request in %s is not admitted yet", talk.name()
+            );
+        }
+    }
+}
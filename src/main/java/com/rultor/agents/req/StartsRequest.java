@@ -9,6 +9,7 @@ import com.jcabi.log.Logger;
 import com.jcabi.ssh.Ssh;
 import com.jcabi.xml.XML;
 import com.rultor.agents.AbstractAgent;
+import com.rultor.agents.Span;
 import com.rultor.agents.daemons.Container;
 import com.rultor.spi.Profile;
 import java.io.IOException;
@@ -21,6 +22,7 @@ import java.util.Map;
 import java.util.Objects;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.io.IOUtils;
 import org.cactoos.iterable.Joined;
 import org.cactoos.iterable.Mapped;
@@ -79,7 +81,8 @@ public final class StartsRequest extends AbstractAgent {
             .add("daemon")
             .attr("id", hash)
             .add("title").set(type).up()
-            .add("script").set(script);
+            .add("script").set(script)
+            .append(new Span("started"));
     }
 
     @SuppressWarnings("unchecked")
@@ -221,6 +224,7 @@ public final class StartsRequest extends AbstractAgent {
                 def.text("/p/entry[@key='docker']/entry[@key='directory']")
             )
         );
+        entries.add(new MapEntry<>("caches", this.caches(type)));
         if (!this.profile.read().nodes("/p/entry[@key='merge']").isEmpty()) {
             entries.add(
                 new MapEntry<>(
@@ -253,6 +257,34 @@ public final class StartsRequest extends AbstractAgent {
         return new MapOf<>(new ListOf<>(entries));
     }
 
+    private String caches(final String type) throws IOException {
+        final Collection<String> volumes = new ArrayList<>(0);
+        for (final String path : this.profile.read().xpath(
+            "/p/entry[@key='docker']/entry[@key='cache']/item/text()"
+                + " | /p/entry[@key='docker']/entry[@key='cache']/text()"
+        )) {
+            if (!path.matches("/[a-zA-Z0-9_.\\-/]+")) {
+                throw new Profile.ConfigException(
+                    String.format(
+                        "Cache directory \"%s\" must be an absolute path", path
+                    )
+                );
+            }
+            volumes.add(
+                String.format(
+                    "--volume=rultor-cache-%s:%s",
+                    DigestUtils.sha256Hex(
+                        String.format(
+                            "%s:%s:%s", this.profile.name(), type, path
+                        )
+                    ).substring(0, 16),
+                    path
+                )
+            );
+        }
+        return new Brackets(volumes).toString();
+    }
+
     private DockerRun docker(final String type) throws IOException {
         final Collection<XML> nodes = this.profile.read().nodes(
             String.format("/p/entry[@key='%s']", type)
@@ -273,7 +305,8 @@ public final class StartsRequest extends AbstractAgent {
 
     private static String escape(final String key, final String raw) {
         final String esc;
-        if ("scripts".equals(key) || "vars".equals(key)) {
+        if ("scripts".equals(key) || "vars".equals(key)
+            || "caches".equals(key)) {
             esc = raw;
         } else {
             esc = Ssh.escape(raw);
@@ -0,0 +1,296 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.shells;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.immutable.ArrayMap;
+import com.jcabi.log.Logger;
+import com.rultor.Metrics;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Pool of SSH hosts, where daemons run.
+ *
+ * <p>Every host has a capacity, which is the number of Docker containers
+ * it can run at the same time. The load of every host is measured
+ * by {@link MeasuresHosts} once per cycle, and the least loaded host is
+ * chosen for the next daemon. Daemons placed between two measurements
+ * are counted as running containers, until {@link RemovesShell} tells
+ * that they are gone. When all hosts are saturated,
+ * nothing is chosen and the talk waits for the next cycle, with
+ * no shell.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = "capacities")
+public final class Hosts {
+
+    /**
+     * Recent loads, by host addresses.
+     */
+    private static final ConcurrentMap<String, Hosts.Load> LOADS =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * Capacities, by host addresses.
+     */
+    private final transient ArrayMap<String, Integer> capacities;
+
+    /**
+     * Ctor.
+     * @param host The only host, with unlimited capacity
+     */
+    public Hosts(final String host) {
+        this(Collections.singletonMap(host, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Ctor.
+     * @param hosts Capacities, by host addresses
+     */
+    public Hosts(final Map<String, Integer> hosts) {
+        this.capacities = new ArrayMap<>(hosts);
+    }
+
+    /**
+     * Addresses of all hosts.
+     * @return Addresses
+     */
+    public Iterable<String> addresses() {
+        return this.capacities.keySet();
+    }
+
+    /**
+     * Remember the load of the host, just measured.
+     * @param host Address of the host
+     * @param load Its load
+     */
+    public void measured(final String host, final Hosts.Load load) {
+        Hosts.LOADS.put(host, load);
+    }
+
+    /**
+     * Choose the least loaded host and count one more container on it.
+     * @return Address of the host, or empty if all of them are saturated
+     */
+    public Optional<String> best() {
+        synchronized (Hosts.LOADS) {
+            String best = null;
+            double min = 1.0d;
+            for (final Map.Entry<String, Integer> host
+                : this.capacities.entrySet()) {
+                final double score = Hosts.LOADS.getOrDefault(
+                    host.getKey(), Hosts.Load.UNKNOWN
+                ).score(host.getValue());
+                if (score < min) {
+                    min = score;
+                    best = host.getKey();
+                }
+            }
+            if (best == null) {
+                Logger.info(
+                    this, "All %d hosts are saturated: %s",
+                    this.capacities.size(), Hosts.LOADS
+                );
+            } else {
+                Hosts.LOADS.put(
+                    best,
+                    Hosts.LOADS.getOrDefault(best, Hosts.Load.UNKNOWN).more()
+                );
+            }
+            return Optional.ofNullable(best);
+        }
+    }
+
+    /**
+     * Count one container less on the host, since its daemon is gone.
+     * @param host Address of the host
+     */
+    public void released(final String host) {
+        if (this.capacities.containsKey(host)) {
+            synchronized (Hosts.LOADS) {
+                Hosts.LOADS.computeIfPresent(
+                    host, (key, load) -> load.less()
+                );
+            }
+        }
+    }
+
+    /**
+     * Load of a host.
+     *
+     * @since 2.1
+     */
+    @Immutable
+    @ToString
+    @EqualsAndHashCode
+    public static final class Load {
+
+        /**
+         * Nothing is known, the host is considered idle.
+         */
+        public static final Hosts.Load UNKNOWN =
+            new Hosts.Load(0.0d, 0.0d, 0, 0.0d);
+
+        /**
+         * The host doesn't answer.
+         */
+        public static final Hosts.Load DOWN =
+            new Hosts.Load(Double.MAX_VALUE, 1.0d, 0, 1.0d);
+
+        /**
+         * Load average per CPU core, when the host is saturated.
+         */
+        private static final double MAX_CPU = 1.5d;
+
+        /**
+         * Part of memory or disk in use, when the host is saturated.
+         */
+        private static final double MAX_USED = 0.9d;
+
+        /**
+         * Load average per CPU core.
+         */
+        private final transient double cpu;
+
+        /**
+         * Part of memory in use, between zero and one.
+         */
+        private final transient double memory;
+
+        /**
+         * Running containers.
+         */
+        private final transient int containers;
+
+        /**
+         * Part of disk in use, between zero and one.
+         */
+        private final transient double disk;
+
+        /**
+         * Ctor.
+         * @param core Load average per CPU core
+         * @param mem Part of memory in use
+         * @param running Running containers
+         * @param used Part of disk in use
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        public Load(final double core, final double mem, final int running,
+            final double used) {
+            this.cpu = core;
+            this.memory = mem;
+            this.containers = running;
+            this.disk = used;
+        }
+
+        /**
+         * Parse the output of "load.sh".
+         *
+         * <p>The first line of the output has load average, number of CPU
+         * cores, total and used memory, number of running containers, and
+         * the percentage of disk in use, for example
+         * "12.5 8 32000 12000 4 61". Other lines, if any, are about
+         * containers, see {@link Telemetry}.</p>
+         *
+         * @param output The output
+         * @return Load
+         */
+        @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+        public static Hosts.Load parse(final String output) {
+            final String line = output.trim().split("\n", 2)[0];
+            final String[] parts = line.trim().split("\\s+");
+            if (parts.length != 6) {
+                throw new IllegalArgumentException(
+                    String.format("Can't understand the load: \"%s\"", line)
+                );
+            }
+            return new Hosts.Load(
+                Double.parseDouble(parts[0]) / Double.parseDouble(parts[1]),
+                Double.parseDouble(parts[3]) / Double.parseDouble(parts[2]),
+                Integer.parseInt(parts[4]),
+                Double.parseDouble(parts[5]) / 100.0d
+            );
+        }
+
+        /**
+         * Score, from zero for an idle host to one and more for a saturated.
+         * @param capacity How many containers the host can run
+         * @return Score
+         */
+        double score(final int capacity) {
+            return Math.max(
+                Math.max(
+                    this.cpu / Hosts.Load.MAX_CPU,
+                    (double) this.containers / capacity
+                ),
+                Math.max(this.memory, this.disk) / Hosts.Load.MAX_USED
+            );
+        }
+
+        /**
+         * Publish it to {@link Metrics}, as gauges.
+         * @param host Address of the host
+         */
+        void report(final String host) {
+            final Metrics metrics = new Metrics();
+            metrics.gauge("rultor_host_cpu_load", "host", host, this.cpu);
+            metrics.gauge(
+                "rultor_host_memory_ratio", "host", host, this.memory
+            );
+            metrics.gauge("rultor_host_disk_ratio", "host", host, this.disk);
+            metrics.gauge(
+                "rultor_host_containers", "host", host, this.containers
+            );
+        }
+
+        /**
+         * Describe it for humans.
+         * @return Text
+         */
+        String text() {
+            return String.format(
+                Locale.ENGLISH,
+                String.join(
+                    "",
+                    "%.2f load per CPU core, %.0f%% of memory and ",
+                    "%.0f%% of disk in use, %d containers"
+                ),
+                this.cpu, this.memory * 100.0d, this.disk * 100.0d,
+                this.containers
+            );
+        }
+
+        /**
+         * The same load, with one more container.
+         * @return Load
+         */
+        Hosts.Load more() {
+            return new Hosts.Load(
+                this.cpu, this.memory, this.containers + 1, this.disk
+            );
+        }
+
+        /**
+         * The same load, with one container less.
+         * @return Load
+         */
+        Hosts.Load less() {
+            return new Hosts.Load(
+                this.cpu, this.memory, Math.max(this.containers - 1, 0),
+                this.disk
+            );
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.shells;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.immutable.ArrayMap;
+import com.jcabi.log.Logger;
+import com.jcabi.ssh.Shell;
+import com.rultor.spi.SuperAgent;
+import com.rultor.spi.Talks;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import lombok.ToString;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Measures the load of all {@link Hosts}.
+ *
+ * <p>Every host that doesn't answer, or answers with something
+ * that is not a load, is considered down until the next cycle.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+public final class MeasuresHosts implements SuperAgent {
+
+    /**
+     * Hosts.
+     */
+    private final transient Hosts hosts;
+
+    /**
+     * Shells, by host addresses.
+     */
+    private final transient ArrayMap<String, Shell> shells;
+
+    /**
+     * Ctor.
+     * @param pool Hosts
+     * @param shls Shells, by host addresses
+     */
+    public MeasuresHosts(final Hosts pool, final Map<String, Shell> shls) {
+        this.hosts = pool;
+        this.shells = new ArrayMap<>(shls);
+    }
+
+    @Override
+    public void execute(final Talks talks) throws IOException {
+        final String script = IOUtils.toString(
+            Objects.requireNonNull(this.getClass().getResource("load.sh")),
+            StandardCharsets.UTF_8
+        );
+        for (final String host : this.hosts.addresses()) {
+            final Hosts.Load load = this.measure(host, script);
+            this.hosts.measured(host, load);
+            Logger.info(this, "Host %s: %s", host, load);
+        }
+    }
+
+    /**
+     * Measure the load of one host.
+     * @param host Address of the host
+     * @param script The script to run there
+     * @return Load
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Hosts.Load measure(final String host, final String script) {
+        Hosts.Load load = Hosts.Load.DOWN;
+        try {
+            load = new Telemetry().add(
+                host,
+                new Shell.Plain(
+                    new Shell.Safe(
+                        Objects.requireNonNull(
+                            this.shells.get(host),
+                            String.format("No shell for %s", host)
+                        )
+                    )
+                ).exec(script)
+            );
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            Logger.warn(
+                this, "Failed to measure the load of %s: %s",
+                host, ex.getMessage()
+            );
+        }
+        return load;
+    }
+}
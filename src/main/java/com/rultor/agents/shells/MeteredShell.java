@@ -0,0 +1,78 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.shells;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.ssh.Shell;
+import com.rultor.Metrics;
+import com.rultor.jfr.SshExec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.commons.io.output.CountingOutputStream;
+
+/**
+ * Shell that records the latency of every command to {@link Metrics},
+ * labelled by the host, and emits {@link SshExec} events, when they
+ * are enabled in JFR.
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = { "origin", "host" })
+final class MeteredShell implements Shell {
+
+    /**
+     * Original shell.
+     */
+    private final transient Shell origin;
+
+    /**
+     * Host name.
+     */
+    private final transient String host;
+
+    /**
+     * Ctor.
+     * @param shell Original shell
+     * @param addr Host name
+     */
+    MeteredShell(final Shell shell, final String addr) {
+        this.origin = shell;
+        this.host = addr;
+    }
+
+    @Override
+    public int exec(final String command, final InputStream stdin,
+        final OutputStream stdout, final OutputStream stderr)
+        throws IOException {
+        final long start = System.nanoTime();
+        final SshExec event = new SshExec();
+        event.begin();
+        final CountingOutputStream out = new CountingOutputStream(stdout);
+        final CountingOutputStream err = new CountingOutputStream(stderr);
+        int code = -1;
+        try {
+            code = this.origin.exec(command, stdin, out, err);
+        } finally {
+            new Metrics().observe(
+                "rultor_ssh_seconds", "host", this.host,
+                System.nanoTime() - start
+            );
+            event.end();
+            if (event.shouldCommit()) {
+                event.with(
+                    this.host, command, code,
+                    out.getByteCount() + err.getByteCount()
+                );
+                event.commit();
+            }
+        }
+        return code;
+    }
+}
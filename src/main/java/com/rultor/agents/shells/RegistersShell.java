@@ -8,6 +8,7 @@ import com.jcabi.aspects.Immutable;
 import com.jcabi.log.Logger;
 import com.jcabi.xml.XML;
 import com.rultor.agents.AbstractAgent;
+import com.rultor.agents.Span;
 import com.rultor.spi.Profile;
 import java.io.IOException;
 import java.net.UnknownHostException;
@@ -22,7 +23,7 @@ import org.xembly.Directives;
  */
 @Immutable
 @ToString
-@EqualsAndHashCode(callSuper = false, of = "shell")
+@EqualsAndHashCode(callSuper = false, of = {"shell", "hosts"})
 public final class RegistersShell extends AbstractAgent {
 
     /**
@@ -30,6 +31,11 @@ public final class RegistersShell extends AbstractAgent {
      */
     private final transient PfShell shell;
 
+    /**
+     * Hosts to choose from, when the profile doesn't have one.
+     */
+    private final transient Hosts hosts;
+
     /**
      * Constructor.
      * @param profile Profile
@@ -43,27 +49,44 @@ public final class RegistersShell extends AbstractAgent {
     public RegistersShell(final Profile profile, final String host,
         final int port, final String user, final String key)
         throws UnknownHostException {
+        this(
+            profile,
+            new Hosts(new SmartHost(host).ip()),
+            port, user, key
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param profile Profile
+     * @param pool Hosts to choose from
+     * @param port Default Port of server
+     * @param user Default Login
+     * @param key Default Private SSH key
+     * @checkstyle ParameterNumberCheck (6 lines)
+     */
+    public RegistersShell(final Profile profile, final Hosts pool,
+        final int port, final String user, final String key) {
         this(
             new PfShell(
-                profile,
-                new SmartHost(RegistersShell.validated(host, user, key)).ip(),
-                port,
-                user,
-                key
-            )
+                profile, "", port, user, RegistersShell.validated(user, key)
+            ),
+            pool
         );
     }
 
     /**
      * Constructor.
      * @param pfshell Shell to register
+     * @param pool Hosts to choose from
      */
-    private RegistersShell(final PfShell pfshell) {
+    private RegistersShell(final PfShell pfshell, final Hosts pool) {
         super(
             "/talk[daemon and not(shell)]",
             "/talk[not(ec2/instance)]"
         );
         this.shell = pfshell;
+        this.hosts = pool;
     }
 
     @Override
@@ -71,35 +94,41 @@ public final class RegistersShell extends AbstractAgent {
         final String hash = xml.xpath("/talk/daemon/@id").get(0);
         final Directives dirs = new Directives();
         try {
-            Logger.info(
-                this, "Shell %s registered as %s:%d in %s",
-                hash, this.shell.host(), this.shell.port(),
-                xml.xpath("/talk/@name").get(0)
-            );
-            final String host = this.shell.host();
+            String host = this.shell.host();
             if (host.isEmpty()) {
-                throw new Profile.ConfigException(
-                    "SSH host is empty, it's a mistake"
-                );
+                host = this.hosts.best().orElse("");
             }
-            final String login = this.shell.login();
-            if (login.isEmpty()) {
-                throw new Profile.ConfigException(
-                    "SSH login is empty, it's a mistake"
+            if (host.isEmpty()) {
+                Logger.info(
+                    this, "All hosts are busy, %s waits in %s",
+                    hash, xml.xpath("/talk/@name").get(0)
                 );
-            }
-            final String key = this.shell.key();
-            if (key.isEmpty()) {
-                throw new Profile.ConfigException(
-                    "SSH key is empty, it's a mistake"
+            } else {
+                Logger.info(
+                    this, "Shell %s registered as %s:%d in %s",
+                    hash, host, this.shell.port(),
+                    xml.xpath("/talk/@name").get(0)
                 );
+                final String login = this.shell.login();
+                if (login.isEmpty()) {
+                    throw new Profile.ConfigException(
+                        "SSH login is empty, it's a mistake"
+                    );
+                }
+                final String key = this.shell.key();
+                if (key.isEmpty()) {
+                    throw new Profile.ConfigException(
+                        "SSH key is empty, it's a mistake"
+                    );
+                }
+                dirs.xpath("/talk").add("shell")
+                    .attr("id", hash)
+                    .add("host").set(host).up()
+                    .add("port").set(Integer.toString(this.shell.port())).up()
+                    .add("login").set(login).up()
+                    .add("key").set(key)
+                    .append(new Span("shell"));
             }
-            dirs.xpath("/talk").add("shell")
-                .attr("id", hash)
-                .add("host").set(host).up()
-                .add("port").set(Integer.toString(this.shell.port())).up()
-                .add("login").set(login).up()
-                .add("key").set(key);
         } catch (final Profile.ConfigException ex) {
             dirs.xpath("/talk/daemon/script").set(
                 String.format(
@@ -110,8 +139,7 @@ public final class RegistersShell extends AbstractAgent {
         return dirs;
     }
 
-    private static String validated(final String host, final String user,
-        final String key) {
+    private static String validated(final String user, final String key) {
         if (user.isEmpty()) {
             throw new IllegalArgumentException(
                 "User name is mandatory"
@@ -122,6 +150,6 @@ public final class RegistersShell extends AbstractAgent {
                 "SSH key is mandatory"
             );
         }
-        return host;
+        return key;
     }
 }
@@ -7,6 +7,7 @@ package com.rultor.agents.shells;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.xml.XML;
 import com.rultor.agents.AbstractAgent;
+import java.util.Collections;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.xembly.Directive;
@@ -14,25 +15,46 @@ import org.xembly.Directives;
 
 /**
  * Removes shell.
+ *
+ * <p>If the shell was on a host from {@link Hosts}, the host gets one
+ * container less, since the daemon is gone.</p>
+ *
  * @since 1.3
  */
 @Immutable
 @ToString
-@EqualsAndHashCode(callSuper = false)
+@EqualsAndHashCode(callSuper = false, of = "hosts")
 public final class RemovesShell extends AbstractAgent {
 
+    /**
+     * Hosts, where daemons run.
+     */
+    private final transient Hosts hosts;
+
     /**
      * Ctor.
      */
     public RemovesShell() {
+        this(new Hosts(Collections.emptyMap()));
+    }
+
+    /**
+     * Ctor.
+     * @param pool Hosts, where daemons run
+     */
+    public RemovesShell(final Hosts pool) {
         super(
             "/talk/shell[@id]",
             "/talk[not(daemon)]"
         );
+        this.hosts = pool;
     }
 
     @Override
     public Iterable<Directive> process(final XML xml) {
+        for (final String host : xml.xpath("/talk/shell/host/text()")) {
+            this.hosts.released(host);
+        }
         return new Directives().xpath("/talk/shell").strict(1).remove();
     }
 }
@@ -0,0 +1,153 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.shells;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.log.Logger;
+import com.jcabi.log.VerboseThreads;
+import com.jcabi.ssh.Shell;
+import com.jcabi.xml.XML;
+import com.rultor.spi.SuperAgent;
+import com.rultor.spi.Talk;
+import com.rultor.spi.Talks;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import lombok.ToString;
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Samples the load of the hosts of all active talks, into
+ * {@link Telemetry}.
+ *
+ * <p>Every host is sampled with one SSH call, even if a few talks run
+ * there. Calls are made in background, the cycle only starts them, and
+ * a host is not sampled again until its previous call is finished.
+ * Hosts of talks that are not active anymore are forgotten, except
+ * the hosts of the pool, which are measured by {@link MeasuresHosts}.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+public final class SamplesHosts implements SuperAgent {
+
+    /**
+     * Threads that sample hosts.
+     */
+    private static final Executor THREADS = Executors.newFixedThreadPool(
+        2, new VerboseThreads(SamplesHosts.class)
+    );
+
+    /**
+     * Hosts being sampled right now.
+     */
+    private static final Set<String> BUSY = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Hosts of the pool.
+     */
+    private final transient Hosts pool;
+
+    /**
+     * Where samples are taken.
+     */
+    private final transient Executor executor;
+
+    /**
+     * Ctor.
+     * @param hosts Hosts of the pool
+     */
+    public SamplesHosts(final Hosts hosts) {
+        this(hosts, SamplesHosts.THREADS);
+    }
+
+    /**
+     * Ctor.
+     * @param hosts Hosts of the pool
+     * @param exec Where samples are taken
+     */
+    SamplesHosts(final Hosts hosts, final Executor exec) {
+        this.pool = hosts;
+        this.executor = exec;
+    }
+
+    @Override
+    public void execute(final Talks talks) throws IOException {
+        final String script = IOUtils.toString(
+            Objects.requireNonNull(this.getClass().getResource("load.sh")),
+            StandardCharsets.UTF_8
+        );
+        final Map<String, XML> hosts = new HashMap<>(0);
+        for (final Talk talk : talks.active()) {
+            final XML xml = talk.read();
+            if (!xml.nodes("/talk/shell[host and port and login and key]")
+                .isEmpty()) {
+                hosts.putIfAbsent(
+                    xml.xpath("/talk/shell/host/text()").get(0), xml
+                );
+            }
+        }
+        final Telemetry telemetry = new Telemetry();
+        for (final Map.Entry<String, XML> host : hosts.entrySet()) {
+            if (SamplesHosts.BUSY.add(host.getKey())) {
+                this.executor.execute(
+                    () -> {
+                        try {
+                            this.sample(
+                                telemetry, host.getKey(), host.getValue(),
+                                script
+                            );
+                        } finally {
+                            SamplesHosts.BUSY.remove(host.getKey());
+                        }
+                    }
+                );
+            }
+        }
+        final Collection<String> known = new HashSet<>(hosts.keySet());
+        for (final String address : this.pool.addresses()) {
+            known.add(address);
+        }
+        telemetry.retain(known);
+    }
+
+    /**
+     * Sample one host.
+     * @param telemetry Where to put the sample
+     * @param host Address of the host
+     * @param xml Talk, which runs there
+     * @param script The script to run
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void sample(final Telemetry telemetry, final String host,
+        final XML xml, final String script) {
+        try {
+            Logger.info(
+                this, "Host %s: %s", host,
+                telemetry.add(
+                    host,
+                    new Shell.Plain(
+                        new Shell.Safe(new TalkShells(xml).get())
+                    ).exec(script)
+                )
+            );
+            // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            Logger.warn(
+                this, "Failed to sample the load of %s: %s",
+                host, ex.getMessage()
+            );
+        }
+    }
+}
@@ -36,17 +36,21 @@ public final class TalkShells {
 
     /**
      * Find and get shell.
-     * @return Issue
+     * @return Shell
      * @throws UnknownHostException If fails
      */
     public Shell get() throws UnknownHostException {
         final XML shell = this.xml.nodes("/talk/shell").get(0);
-        return new PfShell(
-            Profile.EMPTY,
-            shell.xpath("host/text()").get(0),
-            Integer.parseInt(shell.xpath("port/text()").get(0)),
-            shell.xpath("login/text()").get(0),
-            shell.xpath("key/text()").get(0)
-        ).toSsh();
+        final String host = shell.xpath("host/text()").get(0);
+        return new MeteredShell(
+            new PfShell(
+                Profile.EMPTY,
+                host,
+                Integer.parseInt(shell.xpath("port/text()").get(0)),
+                shell.xpath("login/text()").get(0),
+                shell.xpath("key/text()").get(0)
+            ).toSsh(),
+            host
+        );
     }
 }
@@ -0,0 +1,240 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.shells;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.log.Logger;
+import com.rultor.Metrics;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Recent samples of the load of build hosts and their containers.
+ *
+ * <p>Samples come from "load.sh", executed by {@link MeasuresHosts} on
+ * the pool hosts and by {@link SamplesHosts} on the hosts of active
+ * talks. A few dozens of the latest samples are kept for every host,
+ * while the latest one is also published to {@link Metrics}, as gauges
+ * labelled by host or by container.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode
+public final class Telemetry {
+
+    /**
+     * How many samples to keep, for every host.
+     */
+    private static final int DEPTH = 60;
+
+    /**
+     * Samples, the latest last, by host addresses.
+     */
+    private static final ConcurrentMap<String, Deque<Telemetry.Sample>>
+        SAMPLES = new ConcurrentHashMap<>(0);
+
+    /**
+     * Remember the output of "load.sh" on the host.
+     * @param host Address of the host
+     * @param output The output
+     * @return The load of the host
+     */
+    public Hosts.Load add(final String host, final String output) {
+        final Telemetry.Sample sample = Telemetry.Sample.parse(output);
+        final Deque<Telemetry.Sample> samples = Telemetry.SAMPLES
+            .computeIfAbsent(host, key -> new LinkedList<>());
+        final Collection<String> gone = new ArrayList<>(0);
+        synchronized (samples) {
+            if (!samples.isEmpty()) {
+                gone.addAll(samples.getLast().containers.keySet());
+                gone.removeAll(sample.containers.keySet());
+            }
+            samples.addLast(sample);
+            while (samples.size() > Telemetry.DEPTH) {
+                samples.removeFirst();
+            }
+        }
+        sample.load.report(host);
+        final Metrics metrics = new Metrics();
+        for (final String ctr : gone) {
+            metrics.unset("container", ctr);
+        }
+        for (final Map.Entry<String, double[]> ctr
+            : sample.containers.entrySet()) {
+            metrics.gauge(
+                "rultor_container_cpu_ratio", "container", ctr.getKey(),
+                ctr.getValue()[0]
+            );
+            metrics.gauge(
+                "rultor_container_memory_ratio", "container", ctr.getKey(),
+                ctr.getValue()[1]
+            );
+        }
+        return sample.load;
+    }
+
+    /**
+     * All recent samples of the host, the latest last.
+     * @param host Address of the host
+     * @return Samples
+     */
+    public List<Telemetry.Sample> history(final String host) {
+        final Deque<Telemetry.Sample> samples =
+            Telemetry.SAMPLES.getOrDefault(host, new LinkedList<>());
+        synchronized (samples) {
+            return new ArrayList<>(samples);
+        }
+    }
+
+    /**
+     * The latest sample of the host.
+     * @param host Address of the host
+     * @return Sample, if there is one
+     */
+    public Optional<Telemetry.Sample> latest(final String host) {
+        final List<Telemetry.Sample> samples = this.history(host);
+        Optional<Telemetry.Sample> latest = Optional.empty();
+        if (!samples.isEmpty()) {
+            latest = Optional.of(samples.get(samples.size() - 1));
+        }
+        return latest;
+    }
+
+    /**
+     * Forget all hosts, except these ones.
+     * @param hosts Addresses of hosts to keep
+     */
+    public void retain(final Collection<String> hosts) {
+        final Metrics metrics = new Metrics();
+        for (final String host
+            : new ArrayList<>(Telemetry.SAMPLES.keySet())) {
+            if (!hosts.contains(host)) {
+                for (final Telemetry.Sample sample
+                    : Telemetry.SAMPLES.remove(host)) {
+                    for (final String ctr : sample.containers.keySet()) {
+                        metrics.unset("container", ctr);
+                    }
+                }
+                metrics.unset("host", host);
+            }
+        }
+    }
+
+    /**
+     * One sample.
+     *
+     * @since 2.1
+     */
+    public static final class Sample {
+
+        /**
+         * When it was taken.
+         */
+        private final long time;
+
+        /**
+         * Load of the host.
+         */
+        private final Hosts.Load load;
+
+        /**
+         * Parts of CPU and memory in use, by container names.
+         */
+        private final Map<String, double[]> containers;
+
+        /**
+         * Ctor.
+         * @param msec When it was taken
+         * @param hload Load of the host
+         * @param ctrs Parts of CPU and memory in use, by container names
+         */
+        Sample(final long msec, final Hosts.Load hload,
+            final Map<String, double[]> ctrs) {
+            this.time = msec;
+            this.load = hload;
+            this.containers = ctrs;
+        }
+
+        /**
+         * When it was taken.
+         * @return Milliseconds since epoch
+         */
+        public long time() {
+            return this.time;
+        }
+
+        /**
+         * Describe the host for humans.
+         * @return Text
+         */
+        public String host() {
+            return this.load.text();
+        }
+
+        /**
+         * Describe the container for humans.
+         * @param name Name of the container
+         * @return Text, if the container was running
+         */
+        public Optional<String> container(final String name) {
+            return Optional.ofNullable(this.containers.get(name)).map(
+                usage -> String.format(
+                    Locale.ENGLISH, "%.0f%% of CPU and %.0f%% of memory",
+                    usage[0] * 100.0d, usage[1] * 100.0d
+                )
+            );
+        }
+
+        /**
+         * Parse the output of "load.sh".
+         *
+         * <p>Lines of containers with numbers that can't be parsed, like
+         * "--", which "docker stats" prints for a container that is
+         * stopping, are skipped.</p>
+         *
+         * @param output The output
+         * @return Sample
+         */
+        static Telemetry.Sample parse(final String output) {
+            final Map<String, double[]> ctrs = new HashMap<>(0);
+            final String[] lines = output.trim().split("\n");
+            for (int idx = 1; idx < lines.length; ++idx) {
+                final String[] parts = lines[idx].trim().split("\\s+");
+                if (parts.length == 3) {
+                    try {
+                        ctrs.put(
+                            parts[0],
+                            new double[] {
+                                Double.parseDouble(parts[1]) / 100.0d,
+                                Double.parseDouble(parts[2]) / 100.0d,
+                            }
+                        );
+                    } catch (final NumberFormatException ex) {
+                        Logger.debug(
+                            Telemetry.class, "Container line skipped: %s",
+                            lines[idx]
+                        );
+                    }
+                }
+            }
+            return new Telemetry.Sample(
+                System.currentTimeMillis(), Hosts.Load.parse(output), ctrs
+            );
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.jcabi.aspects.Cacheable;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.xml.XML;
 import com.rultor.spi.Talk;
+import jakarta.json.JsonObject;
 import java.io.IOException;
 import java.time.Instant;
 import lombok.EqualsAndHashCode;
@@ -60,6 +61,12 @@ public final class CdTalk implements Talk {
         return this.origin.read();
     }
 
+    @Override
+    @Cacheable
+    public JsonObject digest() throws IOException {
+        return this.origin.digest();
+    }
+
     @Override
     @Cacheable.FlushBefore
     public void modify(final Iterable<Directive> dirs) throws IOException {
@@ -11,11 +11,18 @@ import com.jcabi.xml.StrictXML;
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
 import com.jcabi.xml.XSLDocument;
+import com.rultor.Metrics;
+import com.rultor.jfr.TalkModify;
+import com.rultor.jfr.TalkRead;
+import com.rultor.spi.Digest;
 import com.rultor.spi.Talk;
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.zip.GZIPInputStream;
@@ -80,6 +87,9 @@ public final class DyTalk implements Talk {
 
     @Override
     public XML read() throws IOException {
+        final TalkRead event = new TalkRead();
+        event.begin();
+        final long start = System.nanoTime();
         final String xml;
         if (this.item.has(DyTalks.ATTR_XML_ZIP)) {
             xml = DyTalk.unzip(
@@ -88,15 +98,38 @@ public final class DyTalk implements Talk {
         } else {
             xml = this.item.get(DyTalks.ATTR_XML).s();
         }
-        return new StrictXML(
+        DyTalk.observe("read", start);
+        final XML talk = new StrictXML(
             Talk.UPGRADE.transform(new XMLDocument(xml)),
             Talk.SCHEMA
         );
+        event.end();
+        if (event.shouldCommit()) {
+            event.with(this.name(), xml.length());
+            event.commit();
+        }
+        return talk;
+    }
+
+    @Override
+    public JsonObject digest() throws IOException {
+        final JsonObject json;
+        if (this.item.has(DyTalks.ATTR_DIGEST)) {
+            json = Json.createReader(
+                new StringReader(this.item.get(DyTalks.ATTR_DIGEST).s())
+            ).readObject();
+        } else {
+            json = new Digest(this.read()).json();
+        }
+        return json;
     }
 
     @Override
     public void modify(final Iterable<Directive> dirs) throws IOException {
-        if (!new ListOf<>(dirs).isEmpty()) {
+        final int total = new ListOf<>(dirs).size();
+        if (total > 0) {
+            final TalkModify event = new TalkModify();
+            event.begin();
             final XML xml = this.read();
             final Node node = xml.inner();
             try {
@@ -110,10 +143,9 @@ public final class DyTalk implements Talk {
                     ex
                 );
             }
+            final XML after = new StrictXML(new XMLDocument(node), Talk.SCHEMA);
             final byte[] body = DyTalk.zip(
-                XSLDocument.STRIP.transform(
-                    new StrictXML(new XMLDocument(node), Talk.SCHEMA)
-                ).toString()
+                XSLDocument.STRIP.transform(after).toString()
             );
             if (body.length > DyTalk.LIMIT) {
                 throw new IllegalArgumentException(
@@ -124,6 +156,7 @@ public final class DyTalk implements Talk {
                     )
                 );
             }
+            final long start = System.nanoTime();
             this.item.put(
                 new AttributeUpdates()
                     .with(DyTalks.ATTR_UPDATED, System.currentTimeMillis()).with(
@@ -134,17 +167,41 @@ public final class DyTalk implements Talk {
                                 .build()
                         ).action(AttributeAction.PUT).build()
                     )
+                    .with(
+                        DyTalks.ATTR_DIGEST,
+                        new Digest(after).json().toString()
+                    )
             );
+            DyTalk.observe("modify", start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.with(this.name(), total, body.length);
+                event.commit();
+            }
         }
     }
 
     @Override
     public void active(final boolean yes) throws IOException {
+        final long start = System.nanoTime();
         this.item.put(
             new AttributeUpdates()
                 .with(DyTalks.ATTR_ACTIVE, yes)
                 .with(DyTalks.ATTR_UPDATED, System.currentTimeMillis())
         );
+        DyTalk.observe("active", start);
+    }
+
+    /**
+     * Record latency of a call to Dynamo.
+     * @param operation Name of the operation
+     * @param start When it started, in nanoseconds
+     */
+    private static void observe(final String operation, final long start) {
+        new Metrics().observe(
+            "rultor_dynamo_seconds", "op", operation,
+            System.nanoTime() - start
+        );
     }
 
     private static byte[] zip(final String xml) throws IOException {
@@ -88,6 +88,12 @@ public final class DyTalks implements Talks {
      */
     public static final String ATTR_XML_ZIP = "zipxml";
 
+    /**
+     * Digest of the talk, JSON.
+     * @since 2.1
+     */
+    public static final String ATTR_DIGEST = "digest";
+
     /**
      * When updated.
      */
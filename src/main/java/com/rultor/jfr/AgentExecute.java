@@ -0,0 +1,46 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Execution of an agent for a talk.
+ * @since 2.1
+ */
+@Name("rultor.AgentExecute")
+@Label("Agent Execute")
+@Category("Rultor")
+@Enabled(false)
+@StackTrace(false)
+public final class AgentExecute extends Event {
+
+    /**
+     * Name of the talk.
+     */
+    @Label("Talk")
+    private String talk;
+
+    /**
+     * Class of the agent.
+     */
+    @Label("Agent")
+    private String agent;
+
+    /**
+     * Set the details.
+     * @param name Name of the talk, empty for super agents
+     * @param cls Simple name of the class of the agent
+     */
+    public void with(final String name, final String cls) {
+        this.talk = name;
+        this.agent = cls;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * HTTP call to GitHub API.
+ * @since 2.1
+ */
+@Name("rultor.GithubCall")
+@Label("GitHub Call")
+@Category("Rultor")
+@Enabled(false)
+@StackTrace(false)
+public final class GithubCall extends Event {
+
+    /**
+     * HTTP method.
+     */
+    @Label("Method")
+    private String method;
+
+    /**
+     * URI.
+     */
+    @Label("URI")
+    private String uri;
+
+    /**
+     * HTTP status.
+     */
+    @Label("Status")
+    private int status;
+
+    /**
+     * Size of the response body.
+     */
+    @Label("Size")
+    @DataAmount
+    private long size;
+
+    /**
+     * Set the details.
+     * @param mtd HTTP method
+     * @param home URI
+     * @param code HTTP status
+     * @param bytes Size of the response body
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public void with(final String mtd, final String home, final int code,
+        final long bytes) {
+        this.method = mtd;
+        this.uri = home;
+        this.status = code;
+        this.size = bytes;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.jfr;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that records {@link GithubCall} events, failed calls too,
+ * with zero status.
+ * @since 2.1
+ */
+@Immutable
+@ToString(of = "origin")
+@EqualsAndHashCode(of = "origin")
+public final class JfrWire implements Wire {
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Ctor.
+     * @param wire Original wire
+     */
+    public JfrWire(final Wire wire) {
+        this.origin = wire;
+    }
+
+    // @checkstyle ParameterNumberCheck (3 lines)
+    @Override
+    public Response send(final Request req, final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content, final int connect, final int read)
+        throws IOException {
+        final GithubCall event = new GithubCall();
+        event.begin();
+        Response response = null;
+        try {
+            response = this.origin.send(
+                req, home, method, headers, content, connect, read
+            );
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                if (response == null) {
+                    event.with(method, home, 0, 0L);
+                } else {
+                    event.with(
+                        method, home, response.status(),
+                        response.binary().length
+                    );
+                }
+                event.commit();
+            }
+        }
+        return response;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Execution of a command through SSH.
+ * @since 2.1
+ */
+@Name("rultor.SshExec")
+@Label("SSH Exec")
+@Category("Rultor")
+@Enabled(false)
+@StackTrace(false)
+public final class SshExec extends Event {
+
+    /**
+     * Host.
+     */
+    @Label("Host")
+    private String host;
+
+    /**
+     * Command, maybe truncated.
+     */
+    @Label("Command")
+    private String command;
+
+    /**
+     * Exit code.
+     */
+    @Label("Exit Code")
+    private int code;
+
+    /**
+     * Bytes printed to stdout and stderr.
+     */
+    @Label("Output")
+    @DataAmount
+    private long output;
+
+    /**
+     * Set the details.
+     * @param addr Host
+     * @param cmd Command
+     * @param exit Exit code
+     * @param bytes Bytes printed to stdout and stderr
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public void with(final String addr, final String cmd, final int exit,
+        final long bytes) {
+        this.host = addr;
+        this.command = cmd.substring(0, Math.min(cmd.length(), 256));
+        this.code = exit;
+        this.output = bytes;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Modification of a talk in the storage.
+ * @since 2.1
+ */
+@Name("rultor.TalkModify")
+@Label("Talk Modify")
+@Category("Rultor")
+@Enabled(false)
+@StackTrace(false)
+public final class TalkModify extends Event {
+
+    /**
+     * Name of the talk.
+     */
+    @Label("Talk")
+    private String talk;
+
+    /**
+     * Number of directives.
+     */
+    @Label("Directives")
+    private int directives;
+
+    /**
+     * Size of the body saved.
+     */
+    @Label("Size")
+    @DataAmount
+    private long size;
+
+    /**
+     * Set the details.
+     * @param name Name of the talk
+     * @param total Number of directives
+     * @param bytes Size of the body saved
+     */
+    public void with(final String name, final int total, final long bytes) {
+        this.talk = name;
+        this.directives = total;
+        this.size = bytes;
+    }
+}
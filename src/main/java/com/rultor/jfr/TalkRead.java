@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Reading of a talk from the storage, including parsing, upgrading
+ * and validating of its XML.
+ * @since 2.1
+ */
+@Name("rultor.TalkRead")
+@Label("Talk Read")
+@Category("Rultor")
+@Enabled(false)
+@StackTrace(false)
+public final class TalkRead extends Event {
+
+    /**
+     * Name of the talk.
+     */
+    @Label("Talk")
+    private String talk;
+
+    /**
+     * Size of the XML.
+     */
+    @Label("Size")
+    @DataAmount
+    private long size;
+
+    /**
+     * Set the details.
+     * @param name Name of the talk
+     * @param bytes Size of the XML
+     */
+    public void with(final String name, final long bytes) {
+        this.talk = name;
+        this.size = bytes;
+    }
+}
@@ -0,0 +1,17 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+
+/**
+ * Java Flight Recorder events.
+ *
+ * <p>All events are disabled by default and cost almost nothing then.
+ * Enable them in a running JVM, for example:
+ * {@code jcmd <pid> JFR.start +rultor.AgentExecute#enabled=true
+ * +rultor.SshExec#enabled=true +rultor.TalkRead#enabled=true
+ * +rultor.TalkModify#enabled=true +rultor.GithubCall#enabled=true}.</p>
+ *
+ * @since 2.1
+ */
+package com.rultor.jfr;
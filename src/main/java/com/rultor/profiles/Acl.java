@@ -0,0 +1,142 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.profiles;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.jcabi.aspects.Immutable;
+import com.jcabi.github.Coordinates;
+import com.jcabi.log.VerboseThreads;
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.cactoos.list.ListOf;
+
+/**
+ * Who can read the talks of a repo, according to its ".rultor.yml".
+ *
+ * <p>Readers are kept in memory by repo, so that web pages don't
+ * fetch ".rultor.yml" from GitHub on every request. An empty list means
+ * that the repo is public. When readers are older than five minutes,
+ * they are still returned, while fresh ones are fetched in background.
+ * They are also updated every time agents read the profile
+ * of the repo, and forgotten when the repo is pushed to.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = "repo")
+public final class Acl {
+
+    /**
+     * Readers, by repo coordinates, in lower case.
+     */
+    private static final LoadingCache<String, Collection<String>> READERS =
+        CacheBuilder.newBuilder()
+            .maximumSize(10_000L)
+            .refreshAfterWrite(5L, TimeUnit.MINUTES)
+            .expireAfterWrite(1L, TimeUnit.HOURS)
+            .build(
+                CacheLoader.asyncReloading(
+                    new CacheLoader<String, Collection<String>>() {
+                        @Override
+                        public Collection<String> load(final String coords)
+                            throws IOException {
+                            return Acl.fetch(coords);
+                        }
+                    },
+                    Executors.newSingleThreadExecutor(
+                        new VerboseThreads(Acl.class)
+                    )
+                )
+            );
+
+    /**
+     * Repo coordinates, like "yegor256/rultor".
+     */
+    private final transient String repo;
+
+    /**
+     * Ctor.
+     * @param coords Repo coordinates, like "yegor256/rultor"
+     */
+    public Acl(final String coords) {
+        this.repo = coords.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Who can read.
+     * @return Logins, like "urn:github:526301", or empty if everybody can
+     * @throws IOException If fails
+     */
+    public Collection<String> readers() throws IOException {
+        try {
+            return Acl.READERS.get(this.repo);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+            throw new IOException(ex.getCause());
+        } catch (final UncheckedExecutionException ex) {
+            throw (RuntimeException) ex.getCause();
+        } catch (final ExecutionError ex) {
+            throw (Error) ex.getCause();
+        }
+    }
+
+    /**
+     * Forget the readers, they will be fetched again when needed.
+     */
+    public void flush() {
+        Acl.READERS.invalidate(this.repo);
+    }
+
+    /**
+     * Remember the readers from the profile, just read.
+     * @param profile XML of the profile
+     */
+    void update(final XML profile) {
+        Acl.READERS.put(this.repo, Acl.readers(profile));
+    }
+
+    /**
+     * Readers in the profile.
+     * @param profile XML of the profile
+     * @return Logins
+     */
+    static Collection<String> readers(final XML profile) {
+        return Collections.unmodifiableList(
+            new ListOf<>(
+                profile.xpath("/p/entry[@key='readers']/item/text()")
+            )
+        );
+    }
+
+    /**
+     * Fetch readers from GitHub.
+     * @param coords Repo coordinates
+     * @return Logins
+     * @throws IOException If fails
+     */
+    private static Collection<String> fetch(final String coords)
+        throws IOException {
+        return Acl.readers(
+            new GithubProfile(
+                Profiles.github().repos().get(new Coordinates.Simple(coords))
+            ).parsed()
+        );
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.profiles;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Base64InputStream;
+
+/**
+ * Cache of asset decisions and asset blobs, shared by all profiles.
+ *
+ * <p>Decisions are verdicts of the {@code friends} and {@code trustees}
+ * checks. They are keyed by both repositories and the SHAs of their
+ * {@code .rultor.yml} files, that's why a change of either file
+ * invalidates them. An empty verdict means "allowed", otherwise
+ * it is the message of the error to report.</p>
+ *
+ * <p>Blobs are decoded asset contents, keyed by the Git SHA of the
+ * file they were fetched from, so identical content is never decoded
+ * twice. The cache is limited by the total size of blobs in bytes,
+ * while big blobs are never cached, they are decoded on the fly, while
+ * being read.</p>
+ *
+ * @since 2.1
+ */
+final class AssetCache {
+
+    /**
+     * Verdicts, by repo and SHA.
+     */
+    private static final Cache<String, String> VERDICTS = CacheBuilder
+        .newBuilder()
+        .maximumSize(1000L)
+        .expireAfterWrite(1L, TimeUnit.HOURS)
+        .build();
+
+    /**
+     * Maximum total size of cached blobs, in bytes.
+     */
+    private static final long MAX_TOTAL = 64L << 20;
+
+    /**
+     * Maximum size of one cached blob, in Base64 characters.
+     */
+    private static final int MAX_BLOB = 1 << 20;
+
+    /**
+     * Blobs, by content SHA.
+     */
+    private static final Cache<String, byte[]> BLOBS = CacheBuilder
+        .newBuilder()
+        .maximumWeight(AssetCache.MAX_TOTAL)
+        .<String, byte[]>weigher((sha, bytes) -> bytes.length)
+        .expireAfterAccess(1L, TimeUnit.HOURS)
+        .build();
+
+    /**
+     * Get the verdict, resolving it if it's not cached yet.
+     * @param key Key, which includes repo names and SHAs
+     * @param resolve Resolver that returns an empty string if allowed
+     * @return Empty if allowed or the reason of denial
+     * @throws IOException If fails
+     */
+    String verdict(final String key, final Callable<String> resolve)
+        throws IOException {
+        return AssetCache.fetch(AssetCache.VERDICTS, key, resolve);
+    }
+
+    /**
+     * Get the blob, decoding it if it's not cached yet.
+     * @param sha SHA of the content
+     * @param base64 The content, encoded in Base64
+     * @return Content of the blob
+     * @throws IOException If fails
+     */
+    InputStream blob(final String sha, final String base64)
+        throws IOException {
+        final InputStream blob;
+        if (base64.length() > AssetCache.MAX_BLOB) {
+            blob = new Base64InputStream(
+                new ByteArrayInputStream(
+                    base64.getBytes(StandardCharsets.US_ASCII)
+                )
+            );
+        } else {
+            blob = new ByteArrayInputStream(
+                AssetCache.fetch(
+                    AssetCache.BLOBS, sha, () -> Base64.decodeBase64(base64)
+                )
+            );
+        }
+        return blob;
+    }
+
+    /**
+     * Forget everything.
+     */
+    void flush() {
+        AssetCache.VERDICTS.invalidateAll();
+        AssetCache.BLOBS.invalidateAll();
+    }
+
+    private static <T> T fetch(final Cache<String, T> cache, final String key,
+        final Callable<T> loader) throws IOException {
+        try {
+            return cache.get(key, loader);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+            throw new IOException(ex.getCause());
+        } catch (final UncheckedExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+}
@@ -13,13 +13,14 @@ import com.jcabi.log.Logger;
 import com.jcabi.xml.XML;
 import com.rultor.agents.github.qtn.DefaultBranch;
 import com.rultor.spi.Profile;
-import java.io.ByteArrayInputStream;
+import jakarta.json.JsonObject;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -29,6 +30,7 @@ import java.util.regex.Pattern;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.cactoos.iterable.Mapped;
 import org.cactoos.list.ListOf;
 import org.cactoos.map.MapEntry;
@@ -104,27 +106,42 @@ final class GithubProfile implements Profile {
 
     @Override
     public XML read() throws IOException {
-        return new YamlXML(this.yml()).get();
+        final XML xml = this.parsed();
+        new Acl(this.name()).update(xml);
+        return xml;
     }
 
     @Override
     public Map<String, InputStream> assets() throws IOException {
-        final XML xml = this.read();
-        final List<XML> nodes = xml.nodes("/p/entry[@key='assets']/entry");
+        final String yml = this.yml();
+        final List<XML> nodes = new YamlXML(yml).get().nodes(
+            "/p/entry[@key='assets']/entry"
+        );
+        final String sha = DigestUtils.sha256Hex(yml);
         final List<Entry<String, InputStream>> entries =
             new ArrayList<>(nodes.size());
         for (final XML node : nodes) {
             entries.add(
                 new MapEntry<>(
                     node.xpath("@key").get(0),
-                    this.asset(node.xpath("text()").get(0))
+                    this.asset(node.xpath("text()").get(0), sha)
                 )
             );
         }
         return new MapOf<>(new ListOf<>(entries));
     }
 
-    private InputStream asset(final String path) throws IOException {
+    /**
+     * Read and parse ".rultor.yml", without updating {@link Acl}.
+     * @return XML
+     * @throws IOException If fails
+     */
+    XML parsed() throws IOException {
+        return new YamlXML(this.yml()).get();
+    }
+
+    private InputStream asset(final String path, final String sha)
+        throws IOException {
         final Matcher matcher = GithubProfile.PATH.matcher(path);
         if (!matcher.matches()) {
             throw new Profile.ConfigException(
@@ -142,83 +159,97 @@ final class GithubProfile implements Profile {
                 )
             );
         }
-        final Friends friends = new Friends(
-            new YamlXML(
-                new String(
-                    new Content.Smart(
-                        rpo.contents().get(GithubProfile.FILE)
-                    ).decoded(),
-                    StandardCharsets.UTF_8
-                )
-            ).get().xpath("/p/entry[@key='friends']/item/text()")
+        final String config = rpo.contents().get(GithubProfile.FILE)
+            .json().getString("content");
+        final String verdict = new AssetCache().verdict(
+            String.join(
+                " ",
+                this.repo.coordinates().toString(), sha,
+                rpo.coordinates().toString(), DigestUtils.sha256Hex(config)
+            ),
+            () -> this.verdict(
+                rpo,
+                new YamlXML(
+                    new String(
+                        Base64.decodeBase64(config), StandardCharsets.UTF_8
+                    )
+                ).get()
+            )
         );
-        if (!friends.allow(this.repo.coordinates().toString())) {
-            throw new Profile.ConfigException(
-                String.format(
-                    "%s in %s (branch %s) doesn't allow %s to use its assets (there are %d friends), see https://doc.rultor.com/reference.html#assets",
-                    GithubProfile.FILE, rpo.coordinates(),
-                    new DefaultBranch(rpo), this.repo.coordinates(),
-                    friends.size()
-                )
-            );
+        if (!verdict.isEmpty()) {
+            throw new Profile.ConfigException(verdict);
         }
-        this.checkTrustees(rpo);
         return this.buildAssetStream(rpo, matcher.group(2));
     }
 
-    @SuppressWarnings("unchecked")
-    private void checkTrustees(final Repo rpo) throws IOException {
-        final Collection<String> trustees =
-            new ListOf<>(
-                new Mapped<>(
-                    input -> input.toLowerCase(Locale.ENGLISH),
-                    new YamlXML(
-                        new String(
-                            new Content.Smart(
-                                rpo.contents().get(GithubProfile.FILE)
-                            ).decoded(),
-                            StandardCharsets.UTF_8
-                        )
-                    ).get().xpath("/p/entry[@key='trustees']/item/text()")
+    /**
+     * Decide whether the assets of the friend repo may be used here.
+     * @param rpo The repo with assets
+     * @param config Its .rultor.yml, as XML
+     * @return Empty if allowed, or the reason of denial
+     * @throws IOException If fails
+     */
+    private String verdict(final Repo rpo, final XML config)
+        throws IOException {
+        final Friends friends = new Friends(
+            config.xpath("/p/entry[@key='friends']/item/text()")
+        );
+        final String verdict;
+        if (friends.allow(this.repo.coordinates().toString())) {
+            verdict = this.trusted(
+                rpo,
+                new ListOf<>(
+                    new Mapped<>(
+                        input -> input.toLowerCase(Locale.ENGLISH),
+                        config.xpath("/p/entry[@key='trustees']/item/text()")
+                    )
                 )
             );
+        } else {
+            verdict = String.format(
+                "%s in %s (branch %s) doesn't allow %s to use its assets (there are %d friends), see https://doc.rultor.com/reference.html#assets",
+                GithubProfile.FILE, rpo.coordinates(),
+                new DefaultBranch(rpo), this.repo.coordinates(),
+                friends.size()
+            );
+        }
+        return verdict;
+    }
+
+    private String trusted(final Repo rpo, final Collection<String> trustees)
+        throws IOException {
+        String verdict = "";
         if (!trustees.isEmpty()) {
-            final Iterable<RepoCommit> commits = this.repo.commits().iterate(
+            final Iterator<RepoCommit> commits = this.repo.commits().iterate(
                 new MapOf<>(
                     new MapEntry<>("path", GithubProfile.FILE)
                 )
-            );
-            if (!commits.iterator().hasNext()) {
-                throw new Profile.ConfigException(
-                    String.format(
-                        "Couldn't find %s in %s",
-                        GithubProfile.FILE, this.repo.coordinates()
-                    )
+            ).iterator();
+            if (commits.hasNext()) {
+                final RepoCommit.Smart commit = new RepoCommit.Smart(
+                    commits.next()
                 );
-            }
-            final RepoCommit.Smart commit = new RepoCommit.Smart(
-                commits.iterator().next()
-            );
-            if (!commit.isVerified()) {
-                throw new Profile.ConfigException(
-                    String.format(
+                if (!commit.isVerified()) {
+                    verdict = String.format(
                         "The last commit at %s in %s is not verified, that's why assets are not permitted to use in %s",
                         GithubProfile.FILE, this.repo.coordinates(),
                         rpo.coordinates()
-                    )
-                );
-            }
-            final String author = commit.author();
-            if (!trustees.contains(author)) {
-                throw new Profile.ConfigException(
-                    String.format(
+                    );
+                } else if (!trustees.contains(commit.author())) {
+                    verdict = String.format(
                         "Since @%s is the modifier of %s in %s, that's why assets are not permitted to use in %s",
-                        author, GithubProfile.FILE, this.repo.coordinates(),
-                        rpo.coordinates()
-                    )
+                        commit.author(), GithubProfile.FILE,
+                        this.repo.coordinates(), rpo.coordinates()
+                    );
+                }
+            } else {
+                verdict = String.format(
+                    "Couldn't find %s in %s",
+                    GithubProfile.FILE, this.repo.coordinates()
                 );
             }
         }
+        return verdict;
     }
 
     private InputStream buildAssetStream(final Repo rpo, final String filename)
@@ -231,12 +262,10 @@ final class GithubProfile implements Profile {
                 )
             );
         }
-        return new ByteArrayInputStream(
-            Base64.decodeBase64(
-                new Content.Smart(
-                    rpo.contents().get(filename)
-                ).content()
-            )
+        final JsonObject json = rpo.contents().get(filename).json();
+        final String content = json.getString("content");
+        return new AssetCache().blob(
+            json.getString("sha", DigestUtils.sha1Hex(content)), content
         );
     }
 
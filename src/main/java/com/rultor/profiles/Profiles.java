@@ -18,6 +18,8 @@ import com.rultor.spi.Profile;
 import com.rultor.spi.Talk;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -57,6 +59,29 @@ public final class Profiles {
         return profile;
     }
 
+    /**
+     * Who can read the talk, according to the profile of its repo.
+     * @param talk The talk
+     * @return Logins, or empty if everybody can
+     * @throws IOException If fails
+     * @since 2.1
+     */
+    public Collection<String> readers(final Talk talk) throws IOException {
+        final Collection<String> readers;
+        final List<String> repo;
+        if (Talk.TEST_NAME.equals(talk.name())) {
+            repo = Collections.emptyList();
+        } else {
+            repo = talk.read().xpath("/talk/wire/github-repo/text()");
+        }
+        if (repo.isEmpty()) {
+            readers = Acl.readers(this.fetch(talk).read());
+        } else {
+            readers = new Acl(repo.get(0)).readers();
+        }
+        return readers;
+    }
+
     /**
      * Merge profile from master and fork. Merged profile must be profile
      * from fork, but all lists for commanders and architects must be taken
@@ -151,8 +176,12 @@ public final class Profiles {
         return profile;
     }
 
+    /**
+     * GitHub client, with a careful retry.
+     * @return GitHub
+     */
     @Cacheable(forever = true)
-    private static GitHub github() {
+    static GitHub github() {
         return new RtGitHub(
             new RtGitHub(
                 Env.read("Rultor-GithubToken")
@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.spi;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.xml.XML;
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Digest of a talk, which is small and cheap to read.
+ *
+ * <p>It is a JSON object with the "href" of the wire and the
+ * "logs" archived, each one with its "id" and "title", and also
+ * "code", "msec" and "ended", if they are known. It is saved next to the
+ * XML of the talk, in order to render the history of a repo
+ * without reading and validating every talk.</p>
+ *
+ * @since 2.1
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = "xml")
+public final class Digest {
+
+    /**
+     * The XML of the talk.
+     */
+    private final transient XML xml;
+
+    /**
+     * Ctor.
+     * @param talk The XML of the talk
+     */
+    public Digest(final XML talk) {
+        this.xml = talk;
+    }
+
+    /**
+     * Make JSON.
+     * @return JSON
+     */
+    public JsonObject json() {
+        final JsonArrayBuilder logs = Json.createArrayBuilder();
+        for (final XML log : this.xml.nodes("/talk/archive/log")) {
+            final JsonObjectBuilder json = Json.createObjectBuilder()
+                .add("id", log.xpath("@id").get(0))
+                .add("title", log.xpath("@title").get(0));
+            final List<String> code = log.xpath("@code");
+            if (!code.isEmpty()) {
+                json.add("code", Integer.parseInt(code.get(0)));
+            }
+            final List<String> msec = log.xpath("@msec");
+            if (!msec.isEmpty()) {
+                json.add("msec", Long.parseLong(msec.get(0)));
+            }
+            final List<String> ended = log.xpath("@ended");
+            if (!ended.isEmpty()) {
+                json.add("ended", ended.get(0));
+            }
+            logs.add(json);
+        }
+        final List<String> href = this.xml.xpath("/talk/wire/href/text()");
+        final String link;
+        if (href.isEmpty()) {
+            link = "";
+        } else {
+            link = href.get(0);
+        }
+        return Json.createObjectBuilder()
+            .add("href", link)
+            .add("logs", logs)
+            .build();
+    }
+}
@@ -14,7 +14,7 @@ public interface Pulse {
 
     /**
      * Empty.
-     * @checkstyle AnonInnerLengthCheck (24 lines)
+     * @checkstyle AnonInnerLengthCheck (30 lines)
      */
     Pulse EMPTY = new Pulse() {
         @Override
@@ -27,6 +27,11 @@ public interface Pulse {
             return Collections.emptyList();
         }
 
+        @Override
+        public Iterable<Tick> history(final long from, final long till) {
+            return Collections.emptyList();
+        }
+
         @Override
         public Iterable<Throwable> error() {
             return Collections.emptyList();
@@ -50,6 +55,14 @@ public interface Pulse {
      */
     Iterable<Tick> ticks();
 
+    /**
+     * Get ticks between two moments, maybe merged, if they are old.
+     * @param from Start, in milliseconds since epoch, inclusive
+     * @param till End, in milliseconds since epoch, exclusive
+     * @return Ticks, in chronological order
+     */
+    Iterable<Tick> history(long from, long till);
+
     /**
      * Most recent exception (or empty).
      * @return Problems
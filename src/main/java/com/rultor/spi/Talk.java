@@ -11,6 +11,7 @@ import com.jcabi.xml.XMLDocument;
 import com.jcabi.xml.XSL;
 import com.jcabi.xml.XSLChain;
 import com.jcabi.xml.XSLDocument;
+import jakarta.json.JsonObject;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -90,6 +91,14 @@ public interface Talk {
      */
     XML read() throws IOException;
 
+    /**
+     * Read its digest, which is much cheaper than {@link #read()}.
+     * @return Digest, see {@link Digest}
+     * @throws IOException If fails
+     * @since 2.1
+     */
+    JsonObject digest() throws IOException;
+
     /**
      * Modify its content.
      * @param dirs Directives
@@ -176,6 +185,11 @@ public interface Talk {
             );
         }
 
+        @Override
+        public JsonObject digest() throws IOException {
+            return new Digest(this.read()).json();
+        }
+
         @Override
         public void modify(final Iterable<Directive> dirs) throws IOException {
             if (dirs.iterator().hasNext()) {
@@ -4,7 +4,6 @@
  */
 package com.rultor.web;
 
-import com.jcabi.xml.XML;
 import com.rultor.agents.github.qtn.RepoNotFoundException;
 import com.rultor.profiles.Profiles;
 import com.rultor.spi.Profile;
@@ -63,16 +62,13 @@ final class RqUser extends RqWrap {
      * @throws IOException If fails
      */
     boolean canSee(final Talk talk) throws IOException {
-        final XML xml;
+        final Collection<String> readers;
         try {
-            xml = new Profiles().fetch(talk).read();
+            readers = new Profiles().readers(talk);
         } catch (final Profile.ConfigException | RepoNotFoundException ex) {
             throw new RsForward(new RsFlash(ex), "/");
         }
         final boolean granted;
-        final Collection<String> readers = xml.xpath(
-            "/p/entry[@key='readers']/item/text()"
-        );
         if (readers.isEmpty()) {
             granted = true;
         } else {
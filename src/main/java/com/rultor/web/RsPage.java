@@ -5,9 +5,19 @@
 package com.rultor.web;
 
 import com.rultor.Env;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.net.URL;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
 import lombok.EqualsAndHashCode;
 import org.takes.Request;
 import org.takes.Response;
@@ -16,9 +26,9 @@ import org.takes.facets.auth.XeLogoutLink;
 import org.takes.facets.auth.social.XeGithubLink;
 import org.takes.facets.flash.XeFlash;
 import org.takes.rq.RqHeaders;
+import org.takes.rs.RsWithBody;
 import org.takes.rs.RsWithType;
 import org.takes.rs.RsWrap;
-import org.takes.rs.RsXslt;
 import org.takes.rs.xe.RsXembly;
 import org.takes.rs.xe.XeAppend;
 import org.takes.rs.xe.XeChain;
@@ -33,11 +43,27 @@ import org.takes.rs.xe.XeStylesheet;
 
 /**
  * Index resource, front page of the website.
+ *
+ * <p>Stylesheets are compiled only once, when they are used for the first
+ * time, and then every page is rendered with the compiled one.</p>
+ *
  * @since 1.50
  */
 @EqualsAndHashCode(callSuper = true)
 final class RsPage extends RsWrap {
 
+    /**
+     * Transformer factory, which is not thread-safe.
+     */
+    private static final TransformerFactory FACTORY =
+        TransformerFactory.newInstance();
+
+    /**
+     * Compiled stylesheets, by their paths in classpath.
+     */
+    private static final ConcurrentMap<String, Templates> TEMPLATES =
+        new ConcurrentHashMap<>(0);
+
     /**
      * Ctor.
      * @param xsl XSL
@@ -50,6 +76,66 @@ final class RsPage extends RsWrap {
         super(RsPage.make(xsl, req, src));
     }
 
+    /**
+     * Render HTML with the compiled stylesheet.
+     * @param xsl Path of the stylesheet in classpath
+     * @param raw Response with XML
+     * @return Response with HTML
+     * @throws IOException If fails
+     */
+    private static Response html(final String xsl, final Response raw)
+        throws IOException {
+        final ByteArrayOutputStream html = new ByteArrayOutputStream();
+        try {
+            RsPage.templates(xsl).newTransformer().transform(
+                new StreamSource(raw.body()), new StreamResult(html)
+            );
+        } catch (final TransformerException ex) {
+            throw new IOException(ex);
+        }
+        return new RsWithType(
+            new RsWithBody(raw, html.toByteArray()), "text/html"
+        );
+    }
+
+    /**
+     * Compiled stylesheet.
+     * @param xsl Path of the stylesheet in classpath
+     * @return Templates
+     * @throws TransformerException If fails
+     */
+    private static Templates templates(final String xsl)
+        throws TransformerException {
+        Templates tpl = RsPage.TEMPLATES.get(xsl);
+        if (tpl == null) {
+            synchronized (RsPage.FACTORY) {
+                RsPage.FACTORY.setURIResolver(
+                    (href, base) -> RsPage.source(href)
+                );
+                tpl = RsPage.FACTORY.newTemplates(RsPage.source(xsl));
+            }
+            RsPage.TEMPLATES.putIfAbsent(xsl, tpl);
+        }
+        return tpl;
+    }
+
+    /**
+     * Find the stylesheet in classpath.
+     * @param path Its path, like "/xsl/home.xsl"
+     * @return Source
+     * @throws TransformerException If not found
+     */
+    private static Source source(final String path)
+        throws TransformerException {
+        final URL url = RsPage.class.getResource(path);
+        if (url == null) {
+            throw new TransformerException(
+                String.format("XSL \"%s\" not found in classpath", path)
+            );
+        }
+        return new StreamSource(url.toString());
+    }
+
     private static Response make(final String xsl, final Request req,
         final XeSource... src
     ) throws IOException {
@@ -78,12 +164,13 @@ final class RsPage extends RsWrap {
                     )
                 )
             ),
-            req
+            xsl, req
         );
     }
 
     private static Response typedResponse(
         final Response raw,
+        final String xsl,
         final Request req
     ) throws IOException {
         final Response resp;
@@ -94,7 +181,7 @@ final class RsPage extends RsWrap {
         if (headers.contains("application/xml") || headers.contains(xml)) {
             resp = new RsWithType(raw, xml);
         } else {
-            resp = new RsXslt(new RsWithType(raw, "text/html"));
+            resp = RsPage.html(xsl, raw);
         }
         return resp;
     }
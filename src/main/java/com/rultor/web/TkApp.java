@@ -4,6 +4,9 @@
  */
 package com.rultor.web;
 
+import com.jcabi.github.GitHub;
+import com.jcabi.github.RtGitHub;
+import com.rultor.Bell;
 import com.rultor.Env;
 import com.rultor.Toggles;
 import com.rultor.spi.Pulse;
@@ -41,11 +44,35 @@ public final class TkApp extends TkWrap {
      * @param toggles Toggles
      */
     public TkApp(final Talks talks, final Pulse pulse, final Toggles toggles) {
-        super(TkApp.make(talks, pulse, toggles));
+        this(talks, pulse, toggles, new RtGitHub(), new Bell());
     }
 
-    private static Take make(final Talks talks,
-        final Pulse pulse, final Toggles toggles) {
+    /**
+     * Ctor.
+     * @param talks Talks
+     * @param pulse Pulse
+     * @param toggles Toggles
+     * @param github GitHub client
+     * @param bell The bell to ring when a webhook arrives
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public TkApp(final Talks talks, final Pulse pulse, final Toggles toggles,
+        final GitHub github, final Bell bell) {
+        super(TkApp.make(talks, pulse, toggles, github, bell));
+    }
+
+    /**
+     * Make the take.
+     * @param talks Talks
+     * @param pulse Pulse
+     * @param toggles Toggles
+     * @param github GitHub client
+     * @param bell The bell
+     * @return The take
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static Take make(final Talks talks, final Pulse pulse,
+        final Toggles toggles, final GitHub github, final Bell bell) {
         if (!"UTF-8".equals(Charset.defaultCharset().name())) {
             throw new IllegalStateException(
                 String.format(
@@ -61,7 +88,10 @@ public final class TkApp extends TkWrap {
                             new TkAppFallback(
                                 new TkAppAuth(
                                     new TkForward(
-                                        TkApp.regex(talks, pulse, toggles)
+                                        TkApp.regex(
+                                            talks, pulse, toggles,
+                                            github, bell
+                                        )
                                     )
                                 )
                             )
@@ -74,14 +104,35 @@ public final class TkApp extends TkWrap {
         );
     }
 
-    private static Take regex(final Talks talks,
-        final Pulse pulse, final Toggles toggles) {
+    /**
+     * Make the routing take.
+     * @param talks Talks
+     * @param pulse Pulse
+     * @param toggles Toggles
+     * @param github GitHub client
+     * @param bell The bell
+     * @return The take
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static Take regex(final Talks talks, final Pulse pulse,
+        final Toggles toggles, final GitHub github, final Bell bell) {
+        final TkHome home = new TkHome(talks, toggles);
+        final TkSiblings siblings = new TkSiblings(talks);
         return new TkFork(
             new FkRegex("/robots.txt", ""),
-            new FkRegex("/ticks", new TkTicks(pulse)),
+            new FkRegex(
+                "/hook/github",
+                new TkWebhook(
+                    talks, github, Env.read("Rultor-GithubHookSecret"), bell
+                )
+            ),
+            new FkRegex("/ticks(\\.svg)?", new TkTicks(pulse)),
             new FkRegex("/status", new TkStatus(pulse)),
+            new FkRegex("/metrics", new TkMetrics()),
             new FkRegex("/s/.*", new TkRedirect()),
-            new FkRegex("/sitemap", new TkSitemap(talks)),
+            new FkRegex(
+                "/sitemap(?:/([0-9]{4}-[0-9]{2})\\.xml)?", new TkSitemap()
+            ),
             new FkRegex(
                 "/xsl/.*",
                 new TkWithType(new TkClasspath(), "text/xsl")
@@ -94,16 +145,22 @@ public final class TkApp extends TkWrap {
                 "/css/.*",
                 new TkWithType(new TkClasspath(), "text/css")
             ),
-            new FkRegex("/", new TkHome(talks, toggles)),
-            new FkRegex("/b/([/a-zA-Z0-9_\\-\\.]+)", new TkButton()),
+            new FkRegex(
+                "/", new TkMicroCache(home::act, req -> home.version())
+            ),
+            new FkRegex("/b/([/a-zA-Z0-9_\\-\\.]+)", new TkButton(talks)),
             new FkRegex("/t/([0-9]+)-([a-f0-9]+)", new TkDaemon(talks)),
-            new FkRegex("/p/([/a-zA-Z0-9_\\-\\.]+)", new TkSiblings(talks)),
+            new FkRegex(
+                "/p/([/a-zA-Z0-9_\\-\\.]+)",
+                new TkMicroCache(siblings, siblings::version)
+            ),
             new FkAdminOnly(
                 new TkFork(
                     new FkRegex("/t/([0-9]+)", new TkTalk(talks)),
                     new FkRegex("/t/([0-9]+)/kill", new TkTalkKill(talks)),
                     new FkRegex("/t/([0-9]+)/delete", new TkTalkDelete(talks)),
-                    new FkRegex("/toggles/read-only", new TkToggles(toggles))
+                    new FkRegex("/toggles/read-only", new TkToggles(toggles)),
+                    new FkRegex("/traces", new TkTraces())
                 )
             )
         );
@@ -4,44 +4,207 @@
  */
 package com.rultor.web;
 
+import com.jcabi.log.Logger;
+import com.rultor.agents.daemons.Outcomes;
+import com.rultor.spi.Talk;
+import com.rultor.spi.Talks;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
 import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.time.Instant;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.text.StringEscapeUtils;
+import org.cactoos.iterable.HeadOf;
+import org.cactoos.list.ListOf;
 import org.takes.Response;
 import org.takes.facets.fork.RqRegex;
 import org.takes.facets.fork.TkRegex;
+import org.takes.rq.RqHeaders;
 import org.takes.rq.RqHref;
+import org.takes.rs.RsEmpty;
 import org.takes.rs.RsWithBody;
 import org.takes.rs.RsWithHeaders;
+import org.takes.rs.RsWithStatus;
 import org.takes.rs.RsWithType;
 
 /**
- * Button.
+ * Button, or status badge of the repo.
+ *
+ * <p>When the outcome of the latest merge, deploy or release in the repo
+ * is known, the badge shows it, together with its duration. Otherwise,
+ * the static button is shown. Outcomes are taken from {@link Outcomes},
+ * in memory, and are loaded from the digests of the most recent talks
+ * of the repo only when they are not there. Every badge may be cached
+ * for a few minutes, and it has an ETag, so after that it's
+ * "304 Not Modified" until the next build. If ".rultor.yml" of the repo
+ * limits its readers, the outcome is shown only to them.</p>
+ *
  * @since 1.50
  */
 final class TkButton implements TkRegex {
 
+    /**
+     * Badge template.
+     */
+    private static final String BADGE = String.join(
+        "",
+        "<svg xmlns='http://www.w3.org/2000/svg' width='%1$d' height='20'>",
+        "<rect width='%2$d' height='20' fill='#555'/>",
+        "<rect x='%2$d' width='%3$d' height='20' fill='%4$s'/>",
+        "<g fill='#fff' font-family='Verdana,sans-serif' font-size='11'>",
+        "<text x='6' y='14'>rultor</text>",
+        "<text x='%5$d' y='14'>%6$s</text>",
+        "</g></svg>"
+    );
+
+    /**
+     * How long clients and proxies may keep the badge, in seconds.
+     */
+    private static final long MAX_AGE = 300L;
+
+    /**
+     * Talks.
+     */
+    private final transient Talks talks;
+
+    /**
+     * Ctor.
+     * @param tks Talks
+     */
+    TkButton(final Talks tks) {
+        this.talks = tks;
+    }
+
     @Override
     public Response act(final RqRegex req) throws IOException {
-        final Iterator<String> size = new RqHref.Base(req)
-            .href().param("size").iterator();
-        String suffix = "m";
-        if (size.hasNext()) {
-            suffix = size.next().toLowerCase(Locale.ENGLISH);
+        final String repo = req.matcher().group(1);
+        final List<Talk> recent = new ListOf<>(
+            new HeadOf<>(5, this.talks.siblings(repo, Instant.now()))
+        );
+        Outcomes.Outcome outcome = Outcomes.Outcome.UNKNOWN;
+        if (recent.isEmpty() || new RqUser(req).canSee(recent.get(0))) {
+            outcome = new Outcomes().latest(
+                repo, () -> TkButton.load(recent)
+            );
+        }
+        final String body;
+        final String etag;
+        if (outcome.command().isEmpty()) {
+            final Iterator<String> size = new RqHref.Base(req)
+                .href().param("size").iterator();
+            String suffix = "m";
+            if (size.hasNext()) {
+                suffix = size.next().toLowerCase(Locale.ENGLISH);
+            }
+            body = suffix;
+            etag = String.format("\"button-%s\"", suffix);
+        } else {
+            body = TkButton.badge(outcome);
+            etag = String.format(
+                "\"%s\"", DigestUtils.sha1Hex(body).substring(0, 16)
+            );
         }
-        return new RsWithType(
-            new RsWithHeaders(
-                new RsWithBody(
-                    Objects.requireNonNull(
-                        this.getClass().getResource(
-                            String.format("button-%s.svg", suffix)
+        final String[] headers = {
+            String.format("ETag: %s", etag),
+            String.format(
+                "Cache-Control: public, max-age=%d", TkButton.MAX_AGE
+            ),
+        };
+        final Response response;
+        if (new RqHeaders.Smart(req).single("If-None-Match", "")
+            .equals(etag)) {
+            response = new RsWithStatus(
+                new RsWithHeaders(new RsEmpty(), headers),
+                HttpURLConnection.HTTP_NOT_MODIFIED
+            );
+        } else if (outcome.command().isEmpty()) {
+            response = new RsWithType(
+                new RsWithHeaders(
+                    new RsWithBody(
+                        Objects.requireNonNull(
+                            this.getClass().getResource(
+                                String.format("button-%s.svg", body)
+                            )
                         )
-                    )
+                    ),
+                    headers
                 ),
-                "Cache-Control: no-cache"
-            ),
-            "image/svg+xml"
+                "image/svg+xml"
+            );
+        } else {
+            response = new RsWithType(
+                new RsWithHeaders(new RsWithBody(body), headers),
+                "image/svg+xml"
+            );
+        }
+        return response;
+    }
+
+    /**
+     * Load the latest outcome from the digests of recent talks.
+     *
+     * <p>Talks come from the index of the repo, which has the active
+     * ones too, since a talk that is still active may have the latest
+     * log. The log that ended last wins.</p>
+     *
+     * @param recent The most recent talks of the repo
+     * @return Outcome or {@link Outcomes.Outcome#UNKNOWN}
+     * @throws IOException If fails
+     */
+    private static Outcomes.Outcome load(final Iterable<Talk> recent)
+        throws IOException {
+        Outcomes.Outcome outcome = Outcomes.Outcome.UNKNOWN;
+        String latest = "";
+        boolean found = false;
+        for (final Talk talk : recent) {
+            final JsonArray logs = talk.digest().getJsonArray("logs");
+            if (logs.isEmpty()) {
+                continue;
+            }
+            final JsonObject log = logs.getJsonObject(logs.size() - 1);
+            final String ended = log.getString("ended", "");
+            if (log.containsKey("code") && log.containsKey("msec")
+                && (!found || ended.compareTo(latest) > 0)) {
+                outcome = new Outcomes.Outcome(
+                    log.getString("title").split(":", 2)[0],
+                    log.getInt("code"),
+                    log.getJsonNumber("msec").longValue()
+                );
+                latest = ended;
+                found = true;
+            }
+        }
+        return outcome;
+    }
+
+    /**
+     * Render the badge.
+     * @param outcome The outcome
+     * @return SVG
+     */
+    private static String badge(final Outcomes.Outcome outcome) {
+        final String status;
+        final String color;
+        if (outcome.success()) {
+            status = "passed";
+            color = "#4c1";
+        } else {
+            status = "failed";
+            color = "#e05d44";
+        }
+        final String text = Logger.format(
+            "%s %s in %[ms]s", outcome.command(), status, outcome.duration()
+        );
+        final int left = 46;
+        final int right = text.length() * 7 + 12;
+        return String.format(
+            TkButton.BADGE, left + right, left, right, color, left + 6,
+            StringEscapeUtils.escapeXml11(text)
         );
     }
 }
@@ -51,11 +51,24 @@ final class TkHome implements Take {
             req,
             this::recent,
             new XeLink("status", "/status"),
-            new XeLink("ticks", "/ticks", "image/png"),
+            new XeLink("ticks", "/ticks.svg", "image/svg+xml"),
             () -> this.flags(req)
         );
     }
 
+    /**
+     * Version of the data on the page.
+     * @return Version
+     * @throws IOException If fails
+     */
+    String version() throws IOException {
+        long updated = 0L;
+        for (final Talk talk : new HeadOf<>(5, this.talks.recent())) {
+            updated = Math.max(updated, talk.updated().toEpochMilli());
+        }
+        return String.format("%d %b", updated, this.toggles.readOnly());
+    }
+
     private Directives recent() throws IOException {
         final Directives dirs = new Directives().add("recent");
         final PrettyTime pretty = new PrettyTime();
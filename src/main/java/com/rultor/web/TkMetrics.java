@@ -0,0 +1,27 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.web;
+
+import com.rultor.Metrics;
+import org.takes.Request;
+import org.takes.Response;
+import org.takes.Take;
+import org.takes.rs.RsText;
+import org.takes.rs.RsWithType;
+
+/**
+ * Metrics in Prometheus text format.
+ * @since 2.1
+ */
+final class TkMetrics implements Take {
+
+    @Override
+    public Response act(final Request req) {
+        return new RsWithType(
+            new RsText(new Metrics().text()),
+            "text/plain; version=0.0.4; charset=utf-8"
+        );
+    }
+}
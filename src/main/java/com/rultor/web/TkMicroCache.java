@@ -0,0 +1,210 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.web;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.IOUtils;
+import org.cactoos.Func;
+import org.cactoos.list.ListOf;
+import org.takes.Response;
+import org.takes.facets.fork.RqRegex;
+import org.takes.facets.fork.TkRegex;
+import org.takes.rq.RqHeaders;
+import org.takes.rq.RqHref;
+import org.takes.rq.RqMethod;
+import org.takes.rs.RsEmpty;
+import org.takes.rs.RsSimple;
+import org.takes.rs.RsWithHeaders;
+import org.takes.rs.RsWithStatus;
+
+/**
+ * Page that is rendered once for many anonymous visitors.
+ *
+ * <p>The version of the data on the page, like the time when the most
+ * recent talk on it was updated, is the ETag, so visitors that have the
+ * page already get "304 Not Modified". The version is asked for at most
+ * once in ten seconds for every URL, so neither a 304 nor a page from
+ * memory costs a trip to the storage. Rendered pages are kept in memory
+ * for a few seconds too, by their URLs and versions, and are served to
+ * everybody who comes without cookies, which means that the visitor
+ * is not logged in and there is no flash message to show.</p>
+ *
+ * @since 2.1
+ */
+final class TkMicroCache implements TkRegex {
+
+    /**
+     * Rendered pages, by URLs, types and versions.
+     */
+    private static final Cache<String, TkMicroCache.Page> PAGES =
+        CacheBuilder.newBuilder()
+            .maximumSize(1000L)
+            .expireAfterWrite(10L, TimeUnit.SECONDS)
+            .build();
+
+    /**
+     * Versions of the data, by URLs.
+     */
+    private static final Cache<String, String> VERSIONS =
+        CacheBuilder.newBuilder()
+            .maximumSize(1000L)
+            .expireAfterWrite(10L, TimeUnit.SECONDS)
+            .build();
+
+    /**
+     * Original take.
+     */
+    private final transient TkRegex origin;
+
+    /**
+     * Version of the data on the page.
+     */
+    private final transient Func<RqRegex, String> version;
+
+    /**
+     * Ctor.
+     * @param take Original take
+     * @param ver Version of the data on the page
+     */
+    TkMicroCache(final TkRegex take, final Func<RqRegex, String> ver) {
+        this.origin = take;
+        this.version = ver;
+    }
+
+    @Override
+    public Response act(final RqRegex req) throws IOException {
+        final Response response;
+        final RqHeaders.Smart headers = new RqHeaders.Smart(req);
+        if (RqMethod.GET.equals(new RqMethod.Base(req).method())
+            && headers.header("Cookie").isEmpty()) {
+            final String etag = String.format(
+                "\"%s\"",
+                DigestUtils.sha1Hex(
+                    String.format(
+                        "%s %s",
+                        headers.single("Accept", ""), this.ver(req)
+                    )
+                ).substring(0, 16)
+            );
+            if (headers.single("If-None-Match", "").equals(etag)) {
+                response = new RsWithStatus(
+                    new RsWithHeaders(
+                        new RsEmpty(), String.format("ETag: %s", etag)
+                    ),
+                    HttpURLConnection.HTTP_NOT_MODIFIED
+                );
+            } else {
+                response = this.page(
+                    req,
+                    String.format(
+                        "%s %s", new RqHref.Base(req).href(), etag
+                    )
+                ).response(etag);
+            }
+        } else {
+            response = this.origin.act(req);
+        }
+        return response;
+    }
+
+    /**
+     * Get the page, rendering it if it's not in memory.
+     * @param req Request
+     * @param key Key of the page
+     * @return The page
+     * @throws IOException If fails
+     */
+    private TkMicroCache.Page page(final RqRegex req, final String key)
+        throws IOException {
+        TkMicroCache.Page page = TkMicroCache.PAGES.getIfPresent(key);
+        if (page == null) {
+            page = new TkMicroCache.Page(this.origin.act(req));
+            if (page.cacheable()) {
+                TkMicroCache.PAGES.put(key, page);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Version of the data, asked for no more often than the page
+     * is rendered.
+     * @param req Request
+     * @return Version
+     * @throws IOException If fails
+     */
+    private String ver(final RqRegex req) throws IOException {
+        try {
+            return TkMicroCache.VERSIONS.get(
+                new RqHref.Base(req).href().toString(),
+                () -> this.version.apply(req)
+            );
+        } catch (final ExecutionException | UncheckedExecutionException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+            throw new IOException(ex.getCause());
+        }
+    }
+
+    /**
+     * Rendered page.
+     *
+     * @since 2.1
+     */
+    private static final class Page {
+
+        /**
+         * Head.
+         */
+        private final transient List<String> head;
+
+        /**
+         * Body.
+         */
+        private final transient byte[] body;
+
+        /**
+         * Ctor.
+         * @param response Response to read
+         * @throws IOException If fails
+         */
+        Page(final Response response) throws IOException {
+            this.head = new ListOf<>(response.head());
+            this.body = IOUtils.toByteArray(response.body());
+        }
+
+        /**
+         * Is it worth keeping?
+         * @return TRUE if it's "200 OK"
+         */
+        boolean cacheable() {
+            return this.head.get(0).contains(
+                String.format(" %d ", HttpURLConnection.HTTP_OK)
+            );
+        }
+
+        /**
+         * Make a response.
+         * @param etag ETag
+         * @return Response
+         */
+        Response response(final String etag) {
+            final List<String> lines = new ArrayList<>(this.head);
+            lines.add(String.format("ETag: %s", etag));
+            return new RsSimple(lines, new ByteArrayInputStream(this.body));
+        }
+    }
+}
@@ -4,12 +4,14 @@
  */
 package com.rultor.web;
 
-import com.jcabi.xml.XML;
+import com.jcabi.log.Logger;
 import com.rultor.agents.daemons.Home;
 import com.rultor.spi.Talk;
 import com.rultor.spi.Talks;
+import jakarta.json.JsonObject;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Iterator;
 import java.util.List;
 import java.util.logging.Level;
 import org.cactoos.iterable.HeadOf;
@@ -49,13 +51,7 @@ final class TkSiblings implements TkRegex {
 
     @Override
     public Response act(final RqRegex req) throws IOException {
-        final Instant since = Instant.ofEpochMilli(
-            Long.parseLong(
-                new RqHref.Smart(new RqHref.Base(req)).single(
-                    "s", Long.toString(Long.MAX_VALUE)
-                )
-            )
-        );
+        final Instant since = TkSiblings.since(req);
         final String repo = req.matcher().group(1);
         final List<Talk> siblings = new ListOf<>(
             new HeadOf<>(
@@ -82,6 +78,37 @@ final class TkSiblings implements TkRegex {
         );
     }
 
+    /**
+     * Version of the data on the page: the most recent update
+     * of the siblings on it.
+     * @param req Request
+     * @return Version
+     * @throws IOException If fails
+     */
+    String version(final RqRegex req) throws IOException {
+        final Iterator<Talk> siblings = this.talks.siblings(
+            req.matcher().group(1), TkSiblings.since(req)
+        ).iterator();
+        long updated = 0L;
+        if (siblings.hasNext()) {
+            updated = siblings.next().updated().toEpochMilli();
+        }
+        return String.format(
+            "%s %d %d", req.matcher().group(1),
+            TkSiblings.since(req).toEpochMilli(), updated
+        );
+    }
+
+    private static Instant since(final RqRegex req) throws IOException {
+        return Instant.ofEpochMilli(
+            Long.parseLong(
+                new RqHref.Smart(new RqHref.Base(req)).single(
+                    "s", Long.toString(Long.MAX_VALUE)
+                )
+            )
+        );
+    }
+
     private static XeSource more(final String repo, final List<Talk> siblings)
         throws IOException {
         final XeSource src;
@@ -109,26 +136,41 @@ final class TkSiblings implements TkRegex {
         return dirs;
     }
 
-    private static Iterable<Directive> dirs(final Talk talk) throws IOException {
-        final XML xml = talk.read();
+    private static Iterable<Directive> dirs(final Talk talk)
+        throws IOException {
+        final JsonObject digest = talk.digest();
+        final long number = talk.number();
         final Directives dirs = new Directives().add("talk").add("archive");
-        for (final XML log : xml.nodes("/talk/archive/log")) {
-            dirs.append(TkSiblings.log(xml, log));
+        for (final JsonObject log
+            : digest.getJsonArray("logs").getValuesAs(JsonObject.class)) {
+            dirs.append(TkSiblings.log(number, log));
         }
         return dirs.up().add("name").set(talk.name()).up()
-            .add("href").set(xml.xpath("/talk/wire/href/text()").get(0)).up()
+            .add("href").set(digest.getString("href")).up()
             .add("updated")
             .set(Long.toString(talk.updated().toEpochMilli())).up()
             .add("timeago").set(new PrettyTime().format(talk.updated())).up()
             .up();
     }
 
-    private static Iterable<Directive> log(final XML talk, final XML log) {
-        final String hash = log.xpath("@id").get(0);
-        return new Directives().add("log")
+    private static Iterable<Directive> log(final long number,
+        final JsonObject log) {
+        final String hash = log.getString("id");
+        final Directives dirs = new Directives().add("log")
             .add("id").set(hash).up()
-            .add("href").set(new Home(talk, hash).uri().toString()).up()
-            .add("title").set(log.xpath("@title").get(0)).up()
-            .up();
+            .add("href").set(new Home(number, hash).uri().toString()).up()
+            .add("title").set(log.getString("title")).up();
+        if (log.containsKey("code")) {
+            dirs.add("code").set(Integer.toString(log.getInt("code"))).up();
+        }
+        if (log.containsKey("msec")) {
+            final long msec = log.getJsonNumber("msec").longValue();
+            dirs.add("msec").set(Long.toString(msec)).up()
+                .add("duration").set(Logger.format("%[ms]s", msec)).up();
+        }
+        if (log.containsKey("ended")) {
+            dirs.add("ended").set(log.getString("ended")).up();
+        }
+        return dirs.up();
     }
 }
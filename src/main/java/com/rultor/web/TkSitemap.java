@@ -4,67 +4,286 @@
  */
 package com.rultor.web;
 
-import com.jcabi.xml.XML;
-import com.rultor.Time;
-import com.rultor.agents.daemons.Home;
-import com.rultor.spi.Talk;
-import com.rultor.spi.Talks;
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.Region;
+import com.jcabi.s3.retry.ReRegion;
+import com.rultor.Env;
+import com.rultor.agents.daemons.Catalog;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.IOUtils;
 import org.apache.commons.text.StringEscapeUtils;
-import org.takes.Request;
+import org.cactoos.Scalar;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.iterable.Joined;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.scalar.Sticky;
+import org.takes.HttpException;
 import org.takes.Response;
-import org.takes.Take;
+import org.takes.facets.fork.RqRegex;
+import org.takes.facets.fork.TkRegex;
+import org.takes.rq.RqHeaders;
+import org.takes.rs.RsEmpty;
 import org.takes.rs.RsWithBody;
+import org.takes.rs.RsWithHeaders;
+import org.takes.rs.RsWithStatus;
 import org.takes.rs.RsWithType;
 
 /**
  * Sitemap.
+ *
+ * <p>The sitemap at "/sitemap" is an index of monthly sitemaps, like
+ * "/sitemap/2026-10.xml", each of which lists the logs archived in
+ * that month, according to the {@link Catalog}. A monthly sitemap is
+ * streamed while the catalog is listed, page by page, so memory is not
+ * spent on it, no matter how many logs there are. Past months never
+ * change, so they are cached for a day; the current month and the index
+ * are modified no more often than once an hour, as far as crawlers
+ * can see in "Last-Modified".</p>
+ *
  * @since 1.26
  */
-final class TkSitemap implements Take {
+final class TkSitemap implements TkRegex {
 
     /**
-     * Talks.
+     * The first month in the catalog, since logs archived before it was
+     * made are added to it by
+     * {@link com.rultor.agents.daemons.BackfillsCatalog}.
      */
-    private final transient Talks talks;
+    private static final YearMonth FIRST = YearMonth.of(2014, 1);
+
+    /**
+     * Namespace of sitemaps.
+     */
+    private static final String XMLNS =
+        "http://www.sitemaps.org/schemas/sitemap/0.9";
+
+    /**
+     * Catalog of archived logs.
+     */
+    private final transient Scalar<Catalog> catalog;
 
     /**
      * Ctor.
-     * @param tks Talks
      */
-    TkSitemap(final Talks tks) {
-        this.talks = tks;
+    TkSitemap() {
+        this(new Sticky<>(() -> new Catalog(TkSitemap.bucket())));
+    }
+
+    /**
+     * Ctor.
+     * @param ctlg Catalog
+     */
+    TkSitemap(final Scalar<Catalog> ctlg) {
+        this.catalog = ctlg;
     }
 
     @Override
-    public Response act(final Request req) throws IOException {
-        return new RsWithType(
-            new RsWithBody(this.xml()),
-            "text/xml"
+    public Response act(final RqRegex req) throws IOException {
+        final YearMonth now = YearMonth.now(ZoneOffset.UTC);
+        final String group = req.matcher().group(1);
+        final YearMonth month;
+        if (group == null) {
+            month = now;
+        } else {
+            month = TkSitemap.month(group, now);
+        }
+        final Instant modified;
+        final long age;
+        if (month.isBefore(now)) {
+            modified = month.plusMonths(1L).atDay(1)
+                .atStartOfDay(ZoneOffset.UTC).toInstant();
+            age = TimeUnit.DAYS.toSeconds(1L);
+        } else {
+            modified = Instant.now().truncatedTo(ChronoUnit.HOURS);
+            age = TimeUnit.HOURS.toSeconds(1L);
+        }
+        final String[] headers = {
+            String.format(
+                "Last-Modified: %s",
+                DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                    modified.atZone(ZoneOffset.UTC)
+                )
+            ),
+            String.format("Cache-Control: public, max-age=%d", age),
+        };
+        final Response response;
+        if (TkSitemap.fresh(req, modified)) {
+            response = new RsWithStatus(
+                new RsWithHeaders(new RsEmpty(), headers),
+                HttpURLConnection.HTTP_NOT_MODIFIED
+            );
+        } else {
+            final InputStream body;
+            if (group == null) {
+                body = TkSitemap.index(now);
+            } else {
+                body = this.month(month);
+            }
+            response = new RsWithType(
+                new RsWithHeaders(new RsWithBody(body), headers),
+                "text/xml"
+            );
+        }
+        return response;
+    }
+
+    /**
+     * Parse the month, which must be in the index.
+     * @param text The month, like "2026-10"
+     * @param now Current month
+     * @return The month
+     */
+    private static YearMonth month(final String text, final YearMonth now) {
+        final YearMonth month;
+        try {
+            month = YearMonth.parse(text);
+        } catch (final DateTimeParseException ex) {
+            throw new HttpException(
+                HttpURLConnection.HTTP_NOT_FOUND,
+                String.format("Invalid month: %s", text), ex
+            );
+        }
+        if (month.isBefore(TkSitemap.FIRST) || month.isAfter(now)) {
+            throw new HttpException(
+                HttpURLConnection.HTTP_NOT_FOUND,
+                String.format("There is no sitemap for %s", month)
+            );
+        }
+        return month;
+    }
+
+    /**
+     * The index of monthly sitemaps.
+     * @param now Current month
+     * @return XML
+     */
+    private static InputStream index(final YearMonth now) {
+        final List<YearMonth> months = new ArrayList<>(0);
+        for (YearMonth month = TkSitemap.FIRST; !month.isAfter(now);
+            month = month.plusMonths(1L)) {
+            months.add(month);
+        }
+        return TkSitemap.stream(
+            String.format("<sitemapindex xmlns='%s'>", TkSitemap.XMLNS),
+            new Mapped<>(
+                month -> String.format(
+                    "<sitemap><loc>%s</loc></sitemap>",
+                    String.format(
+                        "https://www.rultor.com/sitemap/%s.xml", month
+                    )
+                ),
+                months
+            ),
+            "</sitemapindex>"
         );
     }
 
-    private String xml() throws IOException {
-        final StringBuilder doc = new StringBuilder(1_000).append(
-            "<urlset xmlns='http://www.sitemaps.org/schemas/sitemap/0.9'>"
+    /**
+     * The sitemap of one month.
+     * @param month The month
+     * @return XML
+     * @throws IOException If fails
+     */
+    private InputStream month(final YearMonth month) throws IOException {
+        final Catalog ctlg;
+        try {
+            ctlg = this.catalog.value();
+        // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final Exception ex) {
+            throw new IOException(ex);
+        }
+        return TkSitemap.stream(
+            String.format("<urlset xmlns='%s'>", TkSitemap.XMLNS),
+            new Mapped<>(
+                log -> String.format(
+                    "<url><loc>%s</loc><lastmod>%s</lastmod></url>",
+                    StringEscapeUtils.escapeXml11(log.uri().toString()),
+                    log.day()
+                ),
+                ctlg.month(month)
+            ),
+            "</urlset>"
         );
-        for (final Talk talk : this.talks.recent()) {
-            final XML xml = talk.read();
-            for (final String hash : xml.xpath("/talk/archive/log/@id")) {
-                doc.append(TkSitemap.toXml(talk, xml, hash));
+    }
+
+    /**
+     * Does the client have it already?
+     * @param req Request
+     * @param modified When it was modified
+     * @return TRUE if it's not modified since the client got it
+     * @throws IOException If fails
+     */
+    private static boolean fresh(final RqRegex req, final Instant modified)
+        throws IOException {
+        final String since = new RqHeaders.Smart(req)
+            .single("If-Modified-Since", "");
+        boolean fresh = false;
+        if (!since.isEmpty()) {
+            try {
+                fresh = !Instant.from(
+                    DateTimeFormatter.RFC_1123_DATE_TIME.parse(since)
+                ).isBefore(modified);
+            } catch (final DateTimeParseException ex) {
+                fresh = false;
             }
         }
-        return doc.append("</urlset>").toString();
+        return fresh;
     }
 
-    private static String toXml(final Talk talk, final XML xml,
-        final String hash) throws IOException {
-        return String.format(
-            "<url><loc>%s</loc><lastmod>%s</lastmod></url>",
-            StringEscapeUtils.escapeXml11(
-                new Home(xml, hash).uri().toString()
-            ),
-            new Time(talk.updated()).iso()
+    /**
+     * Stream the lines, as they are made, without keeping them.
+     * @param head The first line
+     * @param lines Lines in between
+     * @param tail The last line
+     * @return Stream
+     */
+    private static InputStream stream(final String head,
+        final Iterable<String> lines, final String tail) {
+        final Iterator<String> all = new Joined<String>(
+            new IterableOf<>(head), lines, new IterableOf<>(tail)
+        ).iterator();
+        return new SequenceInputStream(
+            new Enumeration<InputStream>() {
+                @Override
+                public boolean hasMoreElements() {
+                    return all.hasNext();
+                }
+
+                @Override
+                public InputStream nextElement() {
+                    return IOUtils.toInputStream(
+                        all.next(), StandardCharsets.UTF_8
+                    );
+                }
+            }
         );
     }
+
+    /**
+     * The bucket with logs.
+     * @return Bucket
+     */
+    private static Bucket bucket() {
+        return new ReRegion(
+            new Region.Simple(
+                Env.read("Rultor-S3Key"),
+                Env.read("Rultor-S3Secret")
+            )
+        ).bucket(Env.read("Rultor-S3Bucket"));
+    }
 }
@@ -92,9 +92,38 @@ final class TkStatus implements Take {
                 );
             }
         }
+        this.history(msg);
         for (final Throwable error : this.pulse.error()) {
             msg.append(Logger.format("%n%n%[exception]s", error));
         }
         return new RsWithBody(response, msg.toString());
     }
+
+    /**
+     * Print the history of the last day and the last week.
+     * @param msg Where to print
+     */
+    private void history(final StringBuilder msg) {
+        final long now = System.currentTimeMillis();
+        for (final long days : new long[] {1L, 7L}) {
+            long msec = 0L;
+            int total = 0;
+            int count = 0;
+            for (final Tick tick : this.pulse.history(
+                now - TimeUnit.DAYS.toMillis(days), now
+            )) {
+                msec += tick.duration();
+                total = Math.max(total, tick.total());
+                ++count;
+            }
+            if (count > 0) {
+                msg.append(
+                    Logger.format(
+                        "%nLast %d day(s): %[ms]s per cycle, up to %d talks",
+                        days, msec / (long) count, total
+                    )
+                );
+            }
+        }
+    }
 }
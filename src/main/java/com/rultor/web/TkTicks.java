@@ -12,22 +12,40 @@ import com.rultor.spi.Pulse;
 import com.rultor.spi.Tick;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import org.apache.batik.transcoder.TranscoderException;
 import org.apache.batik.transcoder.TranscoderInput;
 import org.apache.batik.transcoder.TranscoderOutput;
 import org.apache.batik.transcoder.image.PNGTranscoder;
+import org.cactoos.list.ListOf;
 import org.takes.Request;
 import org.takes.Response;
 import org.takes.Take;
+import org.takes.rq.RqHeaders;
+import org.takes.rq.RqHref;
+import org.takes.rs.RsEmpty;
 import org.takes.rs.RsWithBody;
+import org.takes.rs.RsWithHeaders;
+import org.takes.rs.RsWithStatus;
 import org.takes.rs.RsWithType;
 import org.w3c.dom.Document;
 import org.xembly.Directives;
 import org.xembly.Xembler;
 
 /**
- * PNG with pulse.
+ * PNG or SVG with pulse.
+ *
+ * <p>The graph is rendered once per generation: when a new tick arrives
+ * or every {@link #SLOT}, since the age of the last tick is printed
+ * on it. The generation is the ETag, so browsers that have it already
+ * get "304 Not Modified". PNG is transcoded by Batik only when it's
+ * requested, SVG is much cheaper and is linked from the home page.</p>
+ *
  * @since 1.50
  */
 final class TkTicks implements Take {
@@ -39,52 +57,90 @@ final class TkTicks implements Take {
         Objects.requireNonNull(TkTicks.class.getResource("pulse.xsl"))
     );
 
+    /**
+     * How long one rendered graph is good, in milliseconds.
+     */
+    private static final long SLOT = TimeUnit.SECONDS.toMillis(10L);
+
     /**
      * Pulse.
      */
     private final transient Pulse pulse;
 
+    /**
+     * The graph of the current generation.
+     */
+    private final transient AtomicReference<TkTicks.Graph> graph;
+
     /**
      * Ctor.
      * @param pls Pulse
      */
     TkTicks(final Pulse pls) {
         this.pulse = pls;
+        this.graph = new AtomicReference<>();
     }
 
     @Override
     public Response act(final Request req) throws IOException {
-        return new RsWithType(
-            new RsWithBody(this.png()),
-            "image/png"
+        final TkTicks.Graph current = this.current();
+        final String etag = String.format("ETag: %s", current.etag());
+        final String cache = String.format(
+            "Cache-Control: public, max-age=%d",
+            TimeUnit.MILLISECONDS.toSeconds(TkTicks.SLOT)
         );
+        final Response response;
+        if (new RqHeaders.Smart(req).single("If-None-Match", "")
+            .equals(current.etag())) {
+            response = new RsWithStatus(
+                new RsWithHeaders(new RsEmpty(), etag, cache),
+                HttpURLConnection.HTTP_NOT_MODIFIED
+            );
+        } else if (new RqHref.Base(req).href().path().endsWith(".svg")) {
+            response = new RsWithType(
+                new RsWithHeaders(
+                    new RsWithBody(current.svg()), etag, cache
+                ),
+                "image/svg+xml"
+            );
+        } else {
+            response = new RsWithType(
+                new RsWithHeaders(
+                    new RsWithBody(current.png()), etag, cache
+                ),
+                "image/png"
+            );
+        }
+        return response;
     }
 
-    private byte[] png() throws IOException {
-        final TranscoderInput input = new TranscoderInput(
-            (Document) TkTicks.PULSE.transform(this.dirs()).inner()
-        );
-        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        final TranscoderOutput output = new TranscoderOutput(baos);
-        final PNGTranscoder transcoder = new PNGTranscoder();
-        transcoder.addTranscodingHint(
-            PNGTranscoder.KEY_WIDTH, 1_000f
-        );
-        transcoder.addTranscodingHint(
-            PNGTranscoder.KEY_HEIGHT, 100f
+    /**
+     * Get the graph of the current generation, rendering it if necessary.
+     * @return Graph
+     */
+    private TkTicks.Graph current() {
+        final List<Tick> ticks = new ListOf<>(this.pulse.ticks());
+        final long now = System.currentTimeMillis();
+        long last = 0L;
+        if (!ticks.isEmpty()) {
+            last = ticks.get(ticks.size() - 1).start();
+        }
+        final String etag = String.format(
+            "\"%x-%x-%x\"", ticks.size(), last, now / TkTicks.SLOT
         );
-        try {
-            transcoder.transcode(input, output);
-        } catch (final TranscoderException ex) {
-            throw new IOException(ex);
+        TkTicks.Graph current = this.graph.get();
+        if (current == null || !current.etag().equals(etag)) {
+            current = new TkTicks.Graph(
+                etag, TkTicks.PULSE.transform(TkTicks.dirs(ticks, now))
+            );
+            this.graph.set(current);
         }
-        return baos.toByteArray();
+        return current;
     }
 
-    private XML dirs() {
-        final long now = System.currentTimeMillis();
+    private static XML dirs(final Iterable<Tick> ticks, final long now) {
         final Directives dirs = new Directives().add("pulse");
-        for (final Tick tick : this.pulse.ticks()) {
+        for (final Tick tick : ticks) {
             dirs.add("tick")
                 .attr("total", Integer.toString(tick.total()))
                 .attr("start", Long.toString(tick.start() - now))
@@ -93,4 +149,89 @@ final class TkTicks implements Take {
         }
         return new XMLDocument(new Xembler(dirs).xmlQuietly());
     }
+
+    /**
+     * Rendered graph.
+     *
+     * @since 2.1
+     */
+    private static final class Graph {
+
+        /**
+         * ETag of it.
+         */
+        private final transient String tag;
+
+        /**
+         * SVG.
+         */
+        private final transient XML xml;
+
+        /**
+         * PNG, when it's transcoded.
+         */
+        private final transient AtomicReference<byte[]> image;
+
+        /**
+         * Ctor.
+         * @param etag ETag
+         * @param svg SVG
+         */
+        Graph(final String etag, final XML svg) {
+            this.tag = etag;
+            this.xml = svg;
+            this.image = new AtomicReference<>();
+        }
+
+        /**
+         * ETag.
+         * @return ETag, in quotes
+         */
+        String etag() {
+            return this.tag;
+        }
+
+        /**
+         * SVG.
+         * @return Bytes
+         */
+        byte[] svg() {
+            return this.xml.toString().getBytes(StandardCharsets.UTF_8);
+        }
+
+        /**
+         * PNG.
+         * @return Bytes
+         * @throws IOException If fails
+         */
+        byte[] png() throws IOException {
+            byte[] png = this.image.get();
+            if (png == null) {
+                png = this.transcode();
+                this.image.set(png);
+            }
+            return png;
+        }
+
+        private byte[] transcode() throws IOException {
+            final TranscoderInput input = new TranscoderInput(
+                (Document) this.xml.inner()
+            );
+            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            final TranscoderOutput output = new TranscoderOutput(baos);
+            final PNGTranscoder transcoder = new PNGTranscoder();
+            transcoder.addTranscodingHint(
+                PNGTranscoder.KEY_WIDTH, 1_000f
+            );
+            transcoder.addTranscodingHint(
+                PNGTranscoder.KEY_HEIGHT, 100f
+            );
+            try {
+                transcoder.transcode(input, output);
+            } catch (final TranscoderException ex) {
+                throw new IOException(ex);
+            }
+            return baos.toByteArray();
+        }
+    }
 }
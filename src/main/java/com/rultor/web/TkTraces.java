@@ -0,0 +1,23 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.web;
+
+import com.rultor.agents.Traces;
+import org.takes.Request;
+import org.takes.Response;
+import org.takes.Take;
+import org.takes.rs.RsText;
+
+/**
+ * Timings of phases of recent requests.
+ * @since 2.1
+ */
+final class TkTraces implements Take {
+
+    @Override
+    public Response act(final Request req) {
+        return new RsText(new Traces().text());
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.web;
+
+import com.jcabi.github.Coordinates;
+import com.jcabi.github.GitHub;
+import com.jcabi.log.Logger;
+import com.rultor.Bell;
+import com.rultor.agents.github.Mention;
+import com.rultor.agents.github.Self;
+import com.rultor.agents.github.qtn.Crew;
+import com.rultor.profiles.Acl;
+import com.rultor.spi.Talks;
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.io.IOUtils;
+import org.takes.Request;
+import org.takes.Response;
+import org.takes.Take;
+import org.takes.rq.RqHeaders;
+import org.takes.rs.RsText;
+import org.takes.rs.RsWithStatus;
+
+/**
+ * GitHub webhook receiver.
+ *
+ * <p>GitHub sends {@code issue_comment} and {@code pull_request} events
+ * here, signed with the shared secret in the {@code X-Hub-Signature-256}
+ * header. When I'm mentioned, the talk is activated and the
+ * {@link Bell} wakes up the routine, without waiting for the
+ * notifications to be polled. Membership events drop the cached
+ * collaborators of the repository. A payload without the expected
+ * attributes is rejected with 400, while unknown events are
+ * ignored.</p>
+ *
+ * @since 2.1
+ */
+final class TkWebhook implements Take {
+
+    /**
+     * HMAC algorithm.
+     */
+    private static final String HMAC = "HmacSHA256";
+
+    /**
+     * Talks.
+     */
+    private final transient Talks talks;
+
+    /**
+     * GitHub client.
+     */
+    private final transient GitHub github;
+
+    /**
+     * Shared secret.
+     */
+    private final transient String secret;
+
+    /**
+     * The bell to ring.
+     */
+    private final transient Bell bell;
+
+    /**
+     * Ctor.
+     * @param tks Talks
+     * @param ghub GitHub client
+     * @param key Shared secret of the webhook
+     * @param bll The bell
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    TkWebhook(final Talks tks, final GitHub ghub, final String key,
+        final Bell bll) {
+        this.talks = tks;
+        this.github = ghub;
+        this.secret = key;
+        this.bell = bll;
+    }
+
+    @Override
+    public Response act(final Request req) throws IOException {
+        final byte[] body = IOUtils.toByteArray(req.body());
+        final RqHeaders.Smart headers = new RqHeaders.Smart(req);
+        final Response response;
+        if (this.signed(body, headers.single("X-Hub-Signature-256", ""))) {
+            Response answer;
+            try (JsonReader reader = Json.createReader(
+                new ByteArrayInputStream(body)
+            )) {
+                answer = new RsText(
+                    this.handle(
+                        headers.single("X-GitHub-Event", ""),
+                        reader.readObject()
+                    )
+                );
+            } catch (final JsonException ex) {
+                Logger.warn(
+                    this, "Malformed GitHub webhook: %s", ex.getMessage()
+                );
+                answer = new RsWithStatus(
+                    new RsText(
+                        String.format("malformed payload: %s", ex.getMessage())
+                    ),
+                    HttpURLConnection.HTTP_BAD_REQUEST
+                );
+            }
+            response = answer;
+        } else {
+            response = new RsWithStatus(
+                new RsText("invalid signature"),
+                HttpURLConnection.HTTP_FORBIDDEN
+            );
+        }
+        return response;
+    }
+
+    /**
+     * Handle the event.
+     * @param event Type of event
+     * @param json Payload
+     * @return Summary of what was done
+     * @throws IOException If fails
+     */
+    private String handle(final String event, final JsonObject json)
+        throws IOException {
+        final String done;
+        if ("issue_comment".equals(event)
+            && "created".equals(json.getString("action", ""))) {
+            done = this.mention(
+                json,
+                TkWebhook.object(json, "issue"),
+                TkWebhook.object(json, "comment")
+            );
+        } else if ("pull_request".equals(event)
+            && "opened".equals(json.getString("action", ""))) {
+            done = this.mention(
+                json,
+                TkWebhook.object(json, "pull_request"),
+                TkWebhook.object(json, "pull_request")
+            );
+        } else if ("member".equals(event)) {
+            final Coordinates coords = TkWebhook.coords(json);
+            new Crew(this.github.repos().get(coords)).flush();
+            done = String.format("collaborators of %s flushed", coords);
+        } else if ("push".equals(event)) {
+            final Coordinates coords = TkWebhook.coords(json);
+            new Acl(coords.toString()).flush();
+            done = String.format("readers of %s flushed", coords);
+        } else if ("ping".equals(event)) {
+            done = "pong";
+        } else {
+            done = String.format("event '%s' ignored", event);
+        }
+        Logger.info(this, "GitHub webhook: %s", done);
+        return done;
+    }
+
+    /**
+     * Activate the talk if I'm mentioned in the text.
+     * @param json Payload of the event
+     * @param issue The issue or pull request
+     * @param text The comment or pull request, with "body" and "user"
+     * @return Summary
+     * @throws IOException If fails
+     */
+    private String mention(final JsonObject json, final JsonObject issue,
+        final JsonObject text) throws IOException {
+        final String self = new Self(this.github).login();
+        final String author = TkWebhook.text(
+            TkWebhook.object(text, "user"), "login"
+        );
+        final String done;
+        if (!self.equalsIgnoreCase(author)
+            && Pattern.compile(
+                String.format("@%s\\b", Pattern.quote(self)),
+                Pattern.CASE_INSENSITIVE
+            ).matcher(text.getString("body", "")).find()) {
+            done = new Mention(
+                TkWebhook.coords(json),
+                TkWebhook.number(issue, "number"),
+                TkWebhook.text(issue, "html_url")
+            ).activate(this.talks);
+            this.bell.ring();
+        } else {
+            done = String.format("@%s not mentioned", self);
+        }
+        return done;
+    }
+
+    /**
+     * Is the body signed with our secret?
+     * @param body The body
+     * @param signature Signature from GitHub, like "sha256=..."
+     * @return TRUE if the signature is valid
+     */
+    private boolean signed(final byte[] body, final String signature) {
+        boolean valid = false;
+        if (!this.secret.isEmpty() && !this.secret.startsWith("${")) {
+            try {
+                final Mac mac = Mac.getInstance(TkWebhook.HMAC);
+                mac.init(
+                    new SecretKeySpec(
+                        this.secret.getBytes(StandardCharsets.UTF_8),
+                        TkWebhook.HMAC
+                    )
+                );
+                valid = MessageDigest.isEqual(
+                    String.format(
+                        "sha256=%s", Hex.encodeHexString(mac.doFinal(body))
+                    ).getBytes(StandardCharsets.US_ASCII),
+                    signature.toLowerCase(Locale.ENGLISH)
+                        .getBytes(StandardCharsets.US_ASCII)
+                );
+            } catch (final NoSuchAlgorithmException | InvalidKeyException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Coordinates of the repository of the event.
+     * @param json Payload of the event
+     * @return Coordinates
+     */
+    private static Coordinates coords(final JsonObject json) {
+        final String name = TkWebhook.text(
+            TkWebhook.object(json, "repository"), "full_name"
+        );
+        if (!name.matches("[^/]+/[^/]+")) {
+            throw new JsonException(
+                String.format("\"%s\" is not a repository", name)
+            );
+        }
+        return new Coordinates.Simple(name);
+    }
+
+    /**
+     * Object in the payload.
+     * @param json Payload, or a part of it
+     * @param name Name of the attribute
+     * @return The object
+     */
+    private static JsonObject object(final JsonObject json,
+        final String name) {
+        final JsonValue value = json.get(name);
+        if (!(value instanceof JsonObject)) {
+            throw new JsonException(
+                String.format("\"%s\" is not an object", name)
+            );
+        }
+        return (JsonObject) value;
+    }
+
+    /**
+     * Text in the payload.
+     * @param json Payload, or a part of it
+     * @param name Name of the attribute
+     * @return The text
+     */
+    private static String text(final JsonObject json, final String name) {
+        final JsonValue value = json.get(name);
+        if (!(value instanceof JsonString)) {
+            throw new JsonException(
+                String.format("\"%s\" is not a string", name)
+            );
+        }
+        return ((JsonString) value).getString();
+    }
+
+    /**
+     * Number in the payload.
+     * @param json Payload, or a part of it
+     * @param name Name of the attribute
+     * @return The number
+     */
+    private static int number(final JsonObject json, final String name) {
+        final JsonValue value = json.get(name);
+        if (!(value instanceof JsonNumber)) {
+            throw new JsonException(
+                String.format("\"%s\" is not a number", name)
+            );
+        }
+        return ((JsonNumber) value).intValue();
+    }
+}
@@ -41,10 +41,10 @@ $(document).ready(
       function () {
         $div.find('img').attr(
           'src',
-          $div.attr('data-href') + '?' + Date.now()
+          $div.attr('data-href') + '?' + Math.floor(Date.now() / 10000)
         );
       },
-      1000
+      5000
     );
   }
 );
@@ -0,0 +1,29 @@
+#!/usr/bin/env bash
+# SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+# SPDX-License-Identifier: MIT
+
+set -e -o pipefail
+
+# Here we clean up Docker images of builds, see docker_when_possible
+# in _head.sh. Images built from "docker.directory" live for a week at
+# most. When the disk is fuller than the limit, the least recently used
+# images are deleted, until the disk is fine again. Images used by
+# running containers can't be deleted, Docker refuses.
+
+limit=80
+used="${HOME}/.rultor/images"
+mkdir -p "${used}"
+
+docker image prune --all --force --filter label=com.rultor.build=yes --filter until=168h
+docker image prune --force
+
+for file in $(ls -1tr "${used}"); do
+  if [ "$(df -P / | awk 'NR == 2 { print $5 }' | tr -d '%')" -le "${limit}" ]; then
+    break
+  fi
+  image=$(cat "${used}/${file}")
+  if docker rmi "${image}" >/dev/null 2>&1; then
+    echo "Image ${image} deleted"
+  fi
+  rm -f "${used:?}/${file}"
+done
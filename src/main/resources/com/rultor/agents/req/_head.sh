@@ -16,7 +16,58 @@ docker --version
 mkdir -p ~/.ssh
 echo -e "Host github.com\n\tStrictHostKeyChecking no\n" > ~/.ssh/config
 chmod 600 ~/.ssh/config
-git clone --recurse-submodules "${head}" repo
+
+# Bare mirrors of remote repositories, shared by all builds on this host,
+# so that a clone only fetches commits that are new since the last build.
+# The least recently used mirrors are deleted when they take more
+# than this many megabytes of disk, unless they are in use right now.
+mirrors="${HOME}/.rultor/mirrors"
+mirrors_limit=20480
+
+function git_mirror {
+  (
+    flock --timeout 600 9 || exit 1
+    if [ -d "$1" ]; then
+      git --git-dir="$1" remote update --prune || exit 1
+    else
+      rm -rf "$1.tmp"
+      git clone --bare "${head}" "$1.tmp" || exit 1
+      git --git-dir="$1.tmp" config remote.origin.fetch '+refs/heads/*:refs/heads/*'
+      mv "$1.tmp" "$1"
+    fi
+    touch "$1"
+  ) 9>"$1.lock" >&2
+}
+
+function git_evict {
+  ls -1dtr "${mirrors}"/*.git 2>/dev/null | while read -r mirror; do
+    if [ "$(du -sm "${mirrors}" | cut -f1)" -le "${mirrors_limit}" ]; then
+      break
+    fi
+    if [ "${mirror}" != "$1" ]; then
+      (
+        flock --nonblock 9 && rm -rf "${mirror}" && echo "Mirror ${mirror} evicted"
+      ) 9>"${mirror}.lock" || true
+    fi
+  done
+}
+
+# Mirrors only pay off on hosts that outlive a talk, which have seen
+# builds before. A fresh instance, started for one talk, clones directly,
+# since nobody would ever use its mirror.
+mirror="${mirrors}/$(echo -n "${head}" | sha1sum | cut -c1-40).git"
+if [ -d "${HOME}/.rultor" ] && [[ "${head}" == *:* ]] \
+  && command -v flock >/dev/null \
+  && mkdir -p "${mirrors}" && git_mirror "${mirror}"; then
+  (
+    flock --shared 9
+    git clone --reference "${mirror}" --dissociate --recurse-submodules "${head}" repo
+  ) 9>"${mirror}.lock"
+  git_evict "${mirror}"
+else
+  git clone --recurse-submodules "${head}" repo
+  mkdir -p "${HOME}/.rultor"
+fi
 cd repo
 git config user.email "gpg@rultor.com"
 git config user.name "Rultor.com"
@@ -47,31 +98,41 @@ set -x
 set -e
 set -o pipefail
 EOT
+# This directory is mounted to the container both as /main and as /home/r,
+# and the user "r" gets the UID of its owner, so that the repo is neither
+# copied nor chowned; only the content of /root, which is not in the
+# home yet, is copied there. If the owner is root, "r" gets a UID of its
+# own, since it must not be root, and the home is chowned to it. With
+# as_root everything the build writes to the home belongs to root, so
+# the directory is chowned back after it
 if [ "${as_root}" = "true" ]; then
   cat <<EOT >> entry.sh
-  mkdir /home/r
-  cp -R ./* /home/r
-  rm -rf repo
   chmod a+x /home/r/script.sh
   /home/r/script.sh
-  mv /home/r/repo .
 EOT
 else
   cat <<EOT >> entry.sh
-  shopt -s dotglob
-  useradd -m -G sudo r
+  owner=\$(stat -c %u /main)
+  if [ "\${owner}" = "0" ]; then
+    useradd -m -G sudo r
+    chown -R r:r /home/r
+  else
+    useradd -m -o -u "\${owner}" -G sudo r
+  fi
   for g in \$(cat /etc/group | awk  -F  ':' '\$3 > 100 { print \$1 }'); do usermod -a -G "\${g}" r; done
   usermod -s /bin/bash r
   echo '%sudo ALL=(ALL) NOPASSWD:ALL' >> /etc/sudoers
-  cp -R /root/* /home/r
-  cp -R ./* /home/r
-  rm -rf repo
-  chown -R r:r /home/r
+  shopt -s dotglob nullglob
+  for item in /root/*; do
+    if [ ! -e "/home/r/\${item##*/}" ]; then
+      cp -R "\${item}" /home/r/
+      chown -R r:r "/home/r/\${item##*/}"
+    fi
+  done
+  chown r:r /home/r ${caches[*]##*:}
   chmod a+x /home/r/script.sh
   cat /home/r/script.sh
   su --login r --command /home/r/script.sh
-  mv /home/r/repo .
-  chown -R "\$(whoami)" repo
 EOT
 fi
 chmod a+x entry.sh
@@ -87,33 +148,82 @@ cd "\${HOME}/repo"
 EOT
 echo "${scripts[@]}" >> script.sh
 
-function docker_when_possible {
-  while true; do
-    load=$(uptime | sed 's/ /\n/g' | tail -n 1)
-    if [ "$(echo "${load}" \> 30 | bc)" -eq 1 ]; then
-      echo "load average is ${load}, too high to run a new Docker container"
-      echo "I will try again in 15 seconds"
-      sleep 15
-    else
-      echo "load average is ${load}, low enough to run a new Docker container"
-      break
+# Volumes with caches of builds, see "docker.cache" in .rultor.yml, shared
+# by all builds of the same command in the repo on this host. Every volume
+# bigger than the quota is deleted, and then the least recently used ones,
+# until all of them fit into the limit, in megabytes. Docker refuses
+# to delete volumes in use. It's done after a build, in background, once
+# in a while, so that no build waits for it.
+caches_used="${HOME}/.rultor/caches"
+caches_evicted="${HOME}/.rultor/caches.log"
+caches_quota=4096
+caches_limit=40960
+
+function caches_evict {
+  local volume size total=0
+  local -A sizes
+  for volume in $(docker volume ls --quiet --filter name=rultor-cache-); do
+    if [[ "${volume}" == rultor-cache-* ]] && [ ! -e "${caches_used}/${volume}" ]; then
+      touch -d @0 "${caches_used}/${volume}"
     fi
   done
+  for volume in $(ls -1tr "${caches_used}"); do
+    if ! docker volume inspect "${volume}" >/dev/null 2>&1; then
+      rm -f "${caches_used:?}/${volume}"
+      continue
+    fi
+    size=$(sudo du -sm "$(docker volume inspect --format '{{.Mountpoint}}' "${volume}")" | cut -f1)
+    if [[ ! "${size}" =~ ^[0-9]+$ ]]; then
+      continue
+    fi
+    sizes[${volume}]=${size}
+    total=$(( total + size ))
+  done
+  for volume in $(ls -1tr "${caches_used}"); do
+    size=${sizes[${volume}]:-0}
+    if [ "${size}" -gt "${caches_quota}" ] || [ "${total}" -gt "${caches_limit}" ]; then
+      if docker volume rm "${volume}" >/dev/null 2>&1; then
+        rm -f "${caches_used:?}/${volume}"
+        total=$(( total - size ))
+        echo "Cache ${volume} of ${size}MB evicted"
+      fi
+    fi
+  done
+}
+
+function docker_when_possible {
+  # The host was chosen by Rultor as the least loaded one, no need to wait
+  echo "load average is $(uptime | sed 's/ /\n/g' | tail -n 1), low enough to run a new Docker container"
   cd ..
   if [ -n "${directory}" ]; then
-    use_image="yegor256/rultor-$(dd if=/dev/urandom bs=10k count=1 2>/dev/null | tr -cd 'a-z0-9' | head -c 8)"
-    docker build "${directory}" -t "${use_image}"
+    # The image is built once for every content of the directory,
+    # and then taken from the cache, until images.sh deletes it
+    use_image="rultor-build:$(cd "${directory}" && find . -type f -exec sha1sum {} + | LC_ALL=C sort | sha1sum | cut -c1-16)"
+    if ! docker image inspect "${use_image}" >/dev/null 2>&1; then
+      docker build "${directory}" -t "${use_image}" --label com.rultor.build=yes
+    fi
   else
     use_image="${image}"
-    docker pull "${use_image}"
+    docker pull "${use_image}" || docker image inspect "${use_image}" >/dev/null
   fi
+  # The time of the last use of the image, for images.sh to evict it
+  mkdir -p "${HOME}/.rultor/images"
+  echo "${use_image}" > "${HOME}/.rultor/images/$(echo -n "${use_image}" | sha1sum | cut -c1-40)"
   if docker ps --filter=status=exited | grep --quiet "\s${container}\s*\$"; then
     docker rm -f "${container}"
   fi
+  mkdir -p "${caches_used}"
+  for cache in "${caches[@]}"; do
+    # The time of the last use of the cache, for caches_evict
+    volume="${cache#--volume=}"
+    touch "${caches_used}/${volume%%:*}"
+  done
   ls -al .
   docker run -t --rm \
     -v "$(pwd):/main" \
     "${vars[@]}" \
+    -v "$(pwd):/home/r" \
+    "${caches[@]}" \
     --hostname=docker \
     --privileged \
     --net=host \
@@ -127,9 +237,12 @@ function docker_when_possible {
     --name="${container}" \
     "${use_image}" \
     /main/entry.sh
-  if [ -n "${directory}" ]; then
-    docker rmi "${use_image}"
+  if [ "${as_root}" = "true" ]; then
+    sudo chown -R "$(whoami)" .
+  fi
+  if [ -z "$(find "${caches_evicted}" -mmin -60 2>/dev/null)" ]; then
+    (caches_evict || echo "Failed to evict caches, ignoring") \
+      >"${caches_evicted}" 2>&1 </dev/null &
   fi
-  sudo chown -R "$(whoami)" repo
   cd repo
 }
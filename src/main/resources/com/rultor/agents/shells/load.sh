@@ -0,0 +1,20 @@
+#!/usr/bin/env bash
+
+# SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+# SPDX-License-Identifier: MIT
+
+# Prints the load of this host in one line: load average, number
+# of CPU cores, total and used memory in megabytes, number of running
+# Docker containers, and the percentage of the root disk in use.
+# Then, one line per running container: its name, and the percentage
+# of CPU and memory it uses.
+
+set -e -o pipefail
+
+load=$(cut -d ' ' -f 1 /proc/loadavg)
+cores=$(nproc)
+memory=$(free -m | awk '/^Mem:/ { print $2, $2 - $7 }')
+containers=$(docker ps --quiet | wc -l)
+disk=$(df -P / | awk 'NR == 2 { print $5 }' | tr -d '%')
+echo "${load} ${cores} ${memory} ${containers} ${disk}"
+docker stats --no-stream --format '{{.Name}} {{.CPUPerc}} {{.MemPerc}}' | tr -d '%'
@@ -96,6 +96,32 @@
       </a>
       <xsl:text>: </xsl:text>
       <xsl:value-of select="title"/>
+      <xsl:if test="code">
+        <xsl:text>, </xsl:text>
+        <xsl:choose>
+          <xsl:when test="code = '0'">
+            <span class="success">
+              <xsl:text>success</xsl:text>
+            </span>
+          </xsl:when>
+          <xsl:otherwise>
+            <span class="failure">
+              <xsl:text>failure, code </xsl:text>
+              <xsl:value-of select="code"/>
+            </span>
+          </xsl:otherwise>
+        </xsl:choose>
+      </xsl:if>
+      <xsl:if test="duration">
+        <xsl:text>, in </xsl:text>
+        <xsl:value-of select="duration"/>
+      </xsl:if>
+      <xsl:if test="ended">
+        <xsl:text>, ended at </xsl:text>
+        <span class="ended">
+          <xsl:value-of select="ended"/>
+        </span>
+      </xsl:if>
     </li>
   </xsl:template>
 </xsl:stylesheet>
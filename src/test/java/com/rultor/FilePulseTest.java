@@ -0,0 +1,77 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor;
+
+import com.rultor.spi.Pulse;
+import com.rultor.spi.Tick;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link FilePulse}.
+ * @since 2.1
+ */
+final class FilePulseTest {
+
+    @Test
+    void keepsTicksAfterRestart(@TempDir final Path dir) {
+        final long now = System.currentTimeMillis();
+        final Pulse pulse = new FilePulse(dir.toFile());
+        pulse.add(new Tick(now - TimeUnit.MINUTES.toMillis(2L), 100L, 1));
+        pulse.add(new Tick(now - TimeUnit.MINUTES.toMillis(1L), 200L, 2));
+        MatcherAssert.assertThat(
+            "Ticks must be loaded from the files",
+            new ListOf<>(new FilePulse(dir.toFile()).ticks()),
+            Matchers.hasSize(2)
+        );
+    }
+
+    @Test
+    void keepsOnlyLastHourInMemory(@TempDir final Path dir) {
+        final long now = System.currentTimeMillis();
+        final Pulse pulse = new FilePulse(dir.toFile());
+        pulse.add(new Tick(now - TimeUnit.HOURS.toMillis(2L), 100L, 1));
+        pulse.add(new Tick(now - TimeUnit.MINUTES.toMillis(1L), 200L, 2));
+        MatcherAssert.assertThat(
+            "Ticks older than an hour must not be kept in memory",
+            new ListOf<>(pulse.ticks()),
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    void mergesOldTicks(@TempDir final Path dir) {
+        final long now = System.currentTimeMillis();
+        final long hour = TimeUnit.HOURS.toMillis(1L);
+        final long start = (now - TimeUnit.DAYS.toMillis(3L)) / hour * hour;
+        final Pulse pulse = new FilePulse(dir.toFile());
+        pulse.add(new Tick(start, 1_000L, 7));
+        pulse.add(new Tick(start + 1L, 3_000L, 1));
+        final List<Tick> ticks = new ListOf<>(
+            pulse.history(now - TimeUnit.DAYS.toMillis(7L), now)
+        );
+        MatcherAssert.assertThat(
+            "Old ticks must be merged into one",
+            ticks,
+            Matchers.hasSize(1)
+        );
+        MatcherAssert.assertThat(
+            "Merged tick must have the average duration",
+            ticks.get(0).duration(),
+            Matchers.equalTo(2_000L)
+        );
+        MatcherAssert.assertThat(
+            "Merged tick must have the maximum of talks",
+            ticks.get(0).total(),
+            Matchers.equalTo(7)
+        );
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents;
+
+import com.rultor.Metrics;
+import com.rultor.spi.Agent;
+import com.rultor.spi.Talk;
+import java.io.IOException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for ${@link MeteredAgent}.
+ * @since 2.1
+ */
+final class MeteredAgentTest {
+
+    @Test
+    void recordsLatency() throws Exception {
+        new MeteredAgent(new MeteredAgentTest.Fine()).execute(
+            new Talk.InFile()
+        );
+        MatcherAssert.assertThat(
+            "Latency must be in the histogram",
+            new Metrics().text(),
+            Matchers.allOf(
+                Matchers.containsString(
+                    "rultor_agent_seconds_bucket{agent=\"Fine\",le=\"+Inf\"} 1"
+                ),
+                Matchers.containsString(
+                    "rultor_agent_seconds_count{agent=\"Fine\"} 1"
+                ),
+                Matchers.not(
+                    Matchers.containsString(
+                        "rultor_agent_failures_total{agent=\"Fine\"}"
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    void countsFailures() {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new MeteredAgent(new MeteredAgentTest.Broken()).execute(
+                new Talk.InFile()
+            )
+        );
+        MatcherAssert.assertThat(
+            "Failure must be counted",
+            new Metrics().text(),
+            Matchers.allOf(
+                Matchers.containsString(
+                    "rultor_agent_failures_total{agent=\"Broken\"} 1"
+                ),
+                Matchers.containsString(
+                    "rultor_agent_seconds_count{agent=\"Broken\"} 1"
+                )
+            )
+        );
+    }
+
+    /**
+     * Agent that does nothing.
+     * @since 2.1
+     */
+    private static final class Fine implements Agent {
+        @Override
+        public void execute(final Talk talk) {
+            // nothing to do
+        }
+    }
+
+    /**
+     * Agent that always fails.
+     * @since 2.1
+     */
+    private static final class Broken implements Agent {
+        @Override
+        public void execute(final Talk talk) throws IOException {
+            throw new IOException("intended");
+        }
+    }
+}
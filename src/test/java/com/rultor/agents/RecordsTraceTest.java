@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import com.rultor.spi.Talk;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.xembly.Directives;
+
+/**
+ * Tests for ${@link RecordsTrace}.
+ * @since 2.1
+ */
+final class RecordsTraceTest {
+
+    @Test
+    void recordsTraceAfterArchiving() throws Exception {
+        final Talk talk = new Talk.InFile();
+        talk.modify(
+            new Directives().xpath("/talk")
+                .add("wire")
+                .add("href").set("http://test").up()
+                .add("github-repo").set("test/archived").up()
+                .add("github-issue").set("1").up().up()
+                .add("daemon").attr("id", "abcd")
+                .add("title").set("merge").up()
+                .add("script").set("test").up()
+                .add("code").set("0").up()
+                .add("started").set("2026-01-01T11:35:09Z").up()
+                .add("ended").set("2026-01-01T12:35:09Z").up().up()
+                .add("trace").attr("id", "77")
+                .add("span").attr("name", "requested")
+                .attr("at", "2026-01-01T11:30:00Z")
+        );
+        talk.modify(new Span("ended"));
+        talk.modify(new Span("reported"));
+        final Agent agent = new RecordsTrace();
+        agent.execute(talk);
+        MatcherAssert.assertThat(
+            "Trace must wait until the daemon is archived",
+            talk.read(),
+            XhtmlMatchers.hasXPath("/talk/trace[@id='77']")
+        );
+        talk.modify(
+            new Directives().xpath("/talk/daemon").remove()
+                .append(new Span("archived"))
+        );
+        agent.execute(talk);
+        MatcherAssert.assertThat(
+            "Trace must be moved out of the talk",
+            talk.read(),
+            XhtmlMatchers.hasXPath("/talk[not(trace)]")
+        );
+        MatcherAssert.assertThat(
+            "Trace must have the reported phase",
+            new Traces().text(),
+            Matchers.containsString("test/archived#77:")
+        );
+        MatcherAssert.assertThat(
+            "Trace must have the archived phase",
+            new Traces().text(),
+            Matchers.containsString(" archived +")
+        );
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import com.jcabi.xml.XMLDocument;
+import com.rultor.spi.Talk;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.xembly.Directives;
+
+/**
+ * Tests for ${@link Traces} and {@link Span}.
+ * @since 2.1
+ */
+final class TracesTest {
+
+    @Test
+    void addsSpanToTrace() throws Exception {
+        final Talk talk = new Talk.InFile();
+        talk.modify(
+            new Directives().xpath("/talk").add("trace").attr("id", "7")
+        );
+        talk.modify(new Span("started"));
+        talk.modify(new Span("started"));
+        MatcherAssert.assertThat(
+            "Span must be added once",
+            talk.read(),
+            XhtmlMatchers.hasXPaths(
+                "/talk/trace[count(span)=1]",
+                "/talk/trace/span[@name='started' and @at]"
+            )
+        );
+    }
+
+    @Test
+    void printsPercentilesAndWaterfall() {
+        new Traces().add(
+            "test/traces",
+            new XMLDocument(
+                String.join(
+                    "",
+                    "<trace id='42'>",
+                    "<span name='requested' at='2026-01-01T00:00:00Z'/>",
+                    "<span name='started' at='2026-01-01T00:00:05Z'/>",
+                    "<span name='reported' at='2026-01-01T00:01:05Z'/>",
+                    "</trace>"
+                )
+            ).nodes("/trace").get(0)
+        );
+        MatcherAssert.assertThat(
+            "Trace must be reported",
+            new Traces().text(),
+            Matchers.allOf(
+                Matchers.containsString("test/traces#42:"),
+                Matchers.containsString(" requested +"),
+                Matchers.containsString(" reported +"),
+                Matchers.containsString("started")
+            )
+        );
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.aws;
+
+import java.time.Instant;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link AwsEc2}.
+ * @since 2.1
+ */
+final class AwsEc2Test {
+
+    /**
+     * AwsEc2 can describe all instances in one call.
+     */
+    @Test
+    void describesInstancesOnce() {
+        final FkEc2 ec2 = new FkEc2();
+        final AwsEc2 aws = ec2.api();
+        final String first = ec2.running(
+            "t2.nano", Instant.now(), "rultor", "yes"
+        );
+        final String second = ec2.running(
+            "t2.nano", Instant.now(), "rultor", "yes"
+        );
+        for (int idx = 0; idx < 3; ++idx) {
+            aws.instance(first);
+            aws.instance(second);
+        }
+        MatcherAssert.assertThat(
+            "Instances should be described only once",
+            ec2.describes(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    /**
+     * AwsEc2 can describe instances again, when EC2 has changed.
+     */
+    @Test
+    void describesAgainAfterChanges() {
+        final FkEc2 ec2 = new FkEc2();
+        final AwsEc2 aws = ec2.api();
+        aws.instances();
+        final String fresh = ec2.running(
+            "t2.micro", Instant.now(), "rultor", "yes"
+        );
+        aws.forget();
+        MatcherAssert.assertThat(
+            "New instance should be seen after forgetting",
+            aws.instance(fresh).isPresent(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * AwsEc2 can share the client.
+     */
+    @Test
+    void sharesClient() {
+        MatcherAssert.assertThat(
+            "The same client should be returned",
+            new AwsEc2("key", "secret").aws(),
+            Matchers.sameInstance(new AwsEc2("key", "secret").aws())
+        );
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.aws;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.mockito.Mockito;
+import software.amazon.awssdk.services.ec2.Ec2Client;
+import software.amazon.awssdk.services.ec2.model.CreateTagsRequest;
+import software.amazon.awssdk.services.ec2.model.CreateTagsResponse;
+import software.amazon.awssdk.services.ec2.model.DeleteTagsRequest;
+import software.amazon.awssdk.services.ec2.model.DeleteTagsResponse;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesRequest;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesResponse;
+import software.amazon.awssdk.services.ec2.model.Filter;
+import software.amazon.awssdk.services.ec2.model.Instance;
+import software.amazon.awssdk.services.ec2.model.InstanceStateName;
+import software.amazon.awssdk.services.ec2.model.Reservation;
+import software.amazon.awssdk.services.ec2.model.RunInstancesRequest;
+import software.amazon.awssdk.services.ec2.model.RunInstancesResponse;
+import software.amazon.awssdk.services.ec2.model.Tag;
+import software.amazon.awssdk.services.ec2.model.TerminateInstancesRequest;
+import software.amazon.awssdk.services.ec2.model.TerminateInstancesResponse;
+import software.amazon.awssdk.services.ec2.paginators.DescribeInstancesIterable;
+
+/**
+ * Fake EC2, in memory.
+ *
+ * <p>Only the calls made by the agents are supported, with the filters
+ * by tags and by state.</p>
+ *
+ * @since 2.1
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+final class FkEc2 implements Ec2Client {
+
+    /**
+     * Instances, by ID.
+     */
+    private final Map<String, Instance> instances;
+
+    /**
+     * Counter of IDs.
+     */
+    private final AtomicInteger counter;
+
+    /**
+     * How many times instances were described.
+     */
+    private final AtomicInteger described;
+
+    /**
+     * Ctor.
+     */
+    FkEc2() {
+        this.instances = new ConcurrentSkipListMap<>();
+        this.counter = new AtomicInteger();
+        this.described = new AtomicInteger();
+    }
+
+    /**
+     * Client that talks to this fake.
+     * @return AWS client
+     */
+    AwsEc2 api() {
+        final AwsEc2 aws = Mockito.mock(
+            AwsEc2.class,
+            Mockito.withSettings()
+                .useConstructor(
+                    String.format("key-%d", System.identityHashCode(this)),
+                    "secret"
+                )
+                .defaultAnswer(Mockito.CALLS_REAL_METHODS)
+        );
+        Mockito.doReturn(this).when(aws).aws();
+        return aws;
+    }
+
+    /**
+     * How many times instances were described.
+     * @return Total
+     */
+    int describes() {
+        return this.described.get();
+    }
+
+    /**
+     * Add a running instance.
+     * @param type Instance type
+     * @param launched When it was launched
+     * @param tags Tags, as key and value pairs
+     * @return ID of the instance
+     */
+    String running(final String type, final Instant launched,
+        final String... tags) {
+        final List<Tag> list = new LinkedList<>();
+        for (int idx = 0; idx < tags.length; idx += 2) {
+            list.add(Tag.builder().key(tags[idx]).value(tags[idx + 1]).build());
+        }
+        final String id = this.add(type, list);
+        this.instances.put(
+            id,
+            this.instances.get(id).toBuilder()
+                .launchTime(launched)
+                .state(st -> st.name(InstanceStateName.RUNNING))
+                .build()
+        );
+        return id;
+    }
+
+    /**
+     * All instances that are not terminated.
+     * @return Instances
+     */
+    Collection<Instance> alive() {
+        return this.instances.values().stream()
+            .filter(
+                instance -> instance.state().name()
+                    != InstanceStateName.TERMINATED
+            )
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public RunInstancesResponse runInstances(final RunInstancesRequest req) {
+        final List<Tag> tags = req.tagSpecifications().stream()
+            .flatMap(spec -> spec.tags().stream())
+            .collect(Collectors.toList());
+        final List<Instance> started = new LinkedList<>();
+        for (int idx = 0; idx < req.maxCount(); ++idx) {
+            started.add(
+                this.instances.get(this.add(req.instanceTypeAsString(), tags))
+            );
+        }
+        return RunInstancesResponse.builder().instances(started).build();
+    }
+
+    @Override
+    public DescribeInstancesIterable describeInstancesPaginator(
+        final DescribeInstancesRequest req) {
+        return new DescribeInstancesIterable(this, req);
+    }
+
+    @Override
+    public DescribeInstancesResponse describeInstances(
+        final DescribeInstancesRequest req) {
+        this.described.incrementAndGet();
+        return DescribeInstancesResponse.builder().reservations(
+            this.instances.values().stream()
+                .filter(
+                    instance -> req.instanceIds().isEmpty()
+                        || req.instanceIds().contains(instance.instanceId())
+                )
+                .filter(
+                    instance -> req.filters().stream().allMatch(
+                        filter -> FkEc2.matches(instance, filter)
+                    )
+                )
+                .map(
+                    instance -> Reservation.builder()
+                        .instances(instance)
+                        .build()
+                )
+                .collect(Collectors.toList())
+        ).build();
+    }
+
+    @Override
+    public TerminateInstancesResponse terminateInstances(
+        final TerminateInstancesRequest req) {
+        for (final String id : req.instanceIds()) {
+            this.instances.computeIfPresent(
+                id,
+                (key, instance) -> instance.toBuilder()
+                    .state(st -> st.name(InstanceStateName.TERMINATED))
+                    .build()
+            );
+        }
+        return TerminateInstancesResponse.builder().build();
+    }
+
+    @Override
+    public CreateTagsResponse createTags(final CreateTagsRequest req) {
+        for (final String id : req.resources()) {
+            this.instances.computeIfPresent(
+                id,
+                (key, instance) -> {
+                    final List<Tag> tags = new LinkedList<>(instance.tags());
+                    for (final Tag tag : req.tags()) {
+                        tags.removeIf(old -> old.key().equals(tag.key()));
+                        tags.add(tag);
+                    }
+                    return instance.toBuilder().tags(tags).build();
+                }
+            );
+        }
+        return CreateTagsResponse.builder().build();
+    }
+
+    @Override
+    public DeleteTagsResponse deleteTags(final DeleteTagsRequest req) {
+        for (final String id : req.resources()) {
+            this.instances.computeIfPresent(
+                id,
+                (key, instance) -> instance.toBuilder().tags(
+                    instance.tags().stream().filter(
+                        old -> req.tags().stream().noneMatch(
+                            tag -> tag.key().equals(old.key())
+                        )
+                    ).collect(Collectors.toList())
+                ).build()
+            );
+        }
+        return DeleteTagsResponse.builder().build();
+    }
+
+    @Override
+    public String serviceName() {
+        return Ec2Client.SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+        // nothing to close
+    }
+
+    /**
+     * Add a pending instance.
+     * @param type Instance type
+     * @param tags Tags
+     * @return ID of the instance
+     */
+    private String add(final String type, final List<Tag> tags) {
+        final int num = this.counter.incrementAndGet();
+        final String id = String.format("i-%08d", num);
+        this.instances.put(
+            id,
+            Instance.builder()
+                .instanceId(id)
+                .instanceType(type)
+                .launchTime(Instant.now())
+                .publicIpAddress(String.format("10.0.0.%d", num))
+                .state(st -> st.name(InstanceStateName.PENDING))
+                .tags(tags)
+                .build()
+        );
+        return id;
+    }
+
+    /**
+     * Does the instance match the filter?
+     * @param instance The instance
+     * @param filter The filter
+     * @return TRUE if it does
+     */
+    private static boolean matches(final Instance instance,
+        final Filter filter) {
+        final boolean matches;
+        if ("instance-state-name".equals(filter.name())) {
+            matches = filter.values().contains(
+                instance.state().nameAsString()
+            );
+        } else if ("tag-key".equals(filter.name())) {
+            matches = instance.tags().stream().anyMatch(
+                tag -> filter.values().contains(tag.key())
+            );
+        } else if (filter.name().startsWith("tag:")) {
+            matches = instance.tags().stream().anyMatch(
+                tag -> tag.key().equals(filter.name().substring(4))
+                    && filter.values().contains(tag.value())
+            );
+        } else {
+            throw new UnsupportedOperationException(filter.name());
+        }
+        return matches;
+    }
+}
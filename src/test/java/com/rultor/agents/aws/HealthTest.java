@@ -0,0 +1,119 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.aws;
+
+import com.jcabi.ssh.Shell;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for ${@link Health}.
+ *
+ * @since 2.1
+ */
+final class HealthTest {
+
+    /**
+     * Health can find a host alive.
+     */
+    @Test
+    void findsHostAlive() {
+        MatcherAssert.assertThat(
+            "Host should be alive",
+            new Health(Runnable::run, 0L).verdict(
+                "i-1", "10.0.0.1", new Shell.Fake(0, "r", "")
+            ),
+            Matchers.equalTo(Health.Verdict.ALIVE)
+        );
+    }
+
+    /**
+     * Health can find a host dead, and stop checking it for a while.
+     * @throws Exception In case of error
+     */
+    @Test
+    void findsHostDead() throws Exception {
+        final Shell shell = Mockito.mock(Shell.class);
+        Mockito.doThrow(new IOException("connection refused")).when(shell)
+            .exec(
+                Mockito.anyString(), Mockito.any(InputStream.class),
+                Mockito.any(OutputStream.class),
+                Mockito.any(OutputStream.class)
+            );
+        final Health health = new Health(Runnable::run, 0L);
+        for (int idx = 1; idx < Health.FAILURES; ++idx) {
+            MatcherAssert.assertThat(
+                "Host should not be dead yet",
+                health.verdict("i-2", "10.0.0.2", shell),
+                Matchers.equalTo(Health.Verdict.UNKNOWN)
+            );
+        }
+        MatcherAssert.assertThat(
+            "Host should be dead",
+            health.verdict("i-2", "10.0.0.2", shell),
+            Matchers.equalTo(Health.Verdict.DEAD)
+        );
+        health.verdict("i-2", "10.0.0.2", shell);
+        Mockito.verify(shell, Mockito.times(Health.FAILURES)).exec(
+            Mockito.anyString(), Mockito.any(InputStream.class),
+            Mockito.any(OutputStream.class), Mockito.any(OutputStream.class)
+        );
+    }
+
+    /**
+     * Health can tell a new instance from a dead one with the same address.
+     * @throws Exception In case of error
+     */
+    @Test
+    void forgetsDeadInstanceAtSameAddress() throws Exception {
+        final Shell shell = Mockito.mock(Shell.class);
+        Mockito.doThrow(new IOException("no route")).when(shell).exec(
+            Mockito.anyString(), Mockito.any(InputStream.class),
+            Mockito.any(OutputStream.class), Mockito.any(OutputStream.class)
+        );
+        final Health health = new Health(Runnable::run, 0L);
+        for (int idx = 0; idx < Health.FAILURES; ++idx) {
+            health.verdict("i-3", "10.0.0.3", shell);
+        }
+        MatcherAssert.assertThat(
+            "New instance should not inherit the verdict of the old one",
+            health.verdict("i-4", "10.0.0.3", new Shell.Fake(0, "r", "")),
+            Matchers.equalTo(Health.Verdict.ALIVE)
+        );
+    }
+
+    /**
+     * Health can give up on a check that hangs.
+     * @throws Exception In case of error
+     */
+    @Test
+    void failsHungCheck() throws Exception {
+        final Shell shell = Mockito.mock(Shell.class);
+        Mockito.doAnswer(
+            invocation -> {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1L));
+                return 0;
+            }
+        ).when(shell).exec(
+            Mockito.anyString(), Mockito.any(InputStream.class),
+            Mockito.any(OutputStream.class), Mockito.any(OutputStream.class)
+        );
+        final Health health = new Health(Runnable::run, 0L, 100L);
+        for (int idx = 0; idx < Health.FAILURES; ++idx) {
+            health.verdict("i-5", "10.0.0.5", shell);
+        }
+        MatcherAssert.assertThat(
+            "Host that hangs should be dead",
+            health.verdict("i-5", "10.0.0.5", shell),
+            Matchers.equalTo(Health.Verdict.DEAD)
+        );
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.aws;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import com.jcabi.ssh.Shell;
+import com.rultor.Time;
+import com.rultor.spi.Talk;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.Executor;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.xembly.Directives;
+
+/**
+ * Tests for ${@link PingsInstance}.
+ *
+ * @since 2.1
+ */
+final class PingsInstanceTest {
+
+    /**
+     * PingsInstance can end the daemon of a dead instance.
+     * @throws Exception In case of error
+     */
+    @Test
+    void endsDaemonOfDeadInstance() throws Exception {
+        final Shell shell = Mockito.mock(Shell.class);
+        Mockito.doThrow(new IOException("timeout")).when(shell).exec(
+            Mockito.anyString(), Mockito.any(InputStream.class),
+            Mockito.any(OutputStream.class), Mockito.any(OutputStream.class)
+        );
+        final Health health = new Health(Runnable::run, 0L);
+        for (int idx = 0; idx < Health.FAILURES; ++idx) {
+            health.verdict("i-dead", "10.0.1.1", shell);
+        }
+        final Talk talk = PingsInstanceTest.talk("i-dead", "10.0.1.1");
+        new PingsInstance(health).execute(talk);
+        MatcherAssert.assertThat(
+            "Daemon of a dead instance should be ended",
+            talk.read(),
+            XhtmlMatchers.hasXPath("/talk/daemon[ended and code='1']")
+        );
+    }
+
+    /**
+     * PingsInstance can leave the daemon alone, when the instance is
+     * not checked yet.
+     * @throws Exception In case of error
+     */
+    @Test
+    void waitsForUnknownInstance() throws Exception {
+        final Talk talk = PingsInstanceTest.talk("i-new", "10.0.1.2");
+        new PingsInstance(
+            new Health(Mockito.mock(Executor.class), 0L)
+        ).execute(talk);
+        MatcherAssert.assertThat(
+            "Daemon of an unknown instance should keep running",
+            talk.read(),
+            XhtmlMatchers.hasXPath("/talk/daemon[not(ended)]")
+        );
+    }
+
+    /**
+     * PingsInstance can leave the daemon alone, when the instance is alive,
+     * even if a dead one had the same address before.
+     * @throws Exception In case of error
+     */
+    @Test
+    void keepsDaemonOfAliveInstance() throws Exception {
+        final Shell shell = Mockito.mock(Shell.class);
+        Mockito.doThrow(new IOException("refused")).when(shell).exec(
+            Mockito.anyString(), Mockito.any(InputStream.class),
+            Mockito.any(OutputStream.class), Mockito.any(OutputStream.class)
+        );
+        final Health health = new Health(Runnable::run, 0L);
+        for (int idx = 0; idx < Health.FAILURES; ++idx) {
+            health.verdict("i-old", "10.0.1.3", shell);
+        }
+        health.verdict("i-alive", "10.0.1.3", new Shell.Fake(0, "r", ""));
+        final Talk talk = PingsInstanceTest.talk("i-alive", "10.0.1.3");
+        new PingsInstance(health).execute(talk);
+        MatcherAssert.assertThat(
+            "Daemon of an alive instance should keep running",
+            talk.read(),
+            XhtmlMatchers.hasXPath("/talk/daemon[not(ended)]")
+        );
+    }
+
+    /**
+     * Make a talk with a running daemon on an instance.
+     * @param instance ID of the instance
+     * @param host Its address
+     * @return Talk
+     * @throws IOException If fails
+     */
+    private static Talk talk(final String instance, final String host)
+        throws IOException {
+        final Talk talk = new Talk.InFile();
+        talk.modify(
+            new Directives().xpath("/talk")
+                .add("daemon").attr("id", "abcd")
+                .add("title").set("merge").up()
+                .add("script").set("ls").up()
+                .add("started").set(new Time().iso()).up()
+                .add("dir").set("/tmp").up()
+                .up()
+                .add("ec2")
+                .add("instance").set(instance).up()
+                .add("host").set(host).up()
+                .up()
+                .add("shell").attr("id", "a1b2c3e4")
+                .add("host").set(host).up()
+                .add("port").set("22").up()
+                .add("login").set("ubuntu").up()
+                .add("key").set("test")
+        );
+        return talk;
+    }
+}
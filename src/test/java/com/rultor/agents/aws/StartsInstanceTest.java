@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.aws;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import com.rultor.spi.Profile;
+import com.rultor.spi.Talk;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.ec2.model.Instance;
+
+/**
+ * Test case for {@link StartsInstance}.
+ * @since 2.1
+ */
+final class StartsInstanceTest {
+
+    /**
+     * StartsInstance can take a warm instance from the pool.
+     * @throws Exception In case of error
+     */
+    @Test
+    void takesWarmInstance() throws Exception {
+        final FkEc2 ec2 = new FkEc2();
+        final String warm = ec2.running(
+            "t2.small", Instant.now(),
+            "rultor", "yes", WarmPool.TAG, "t2.small",
+            WarmPool.READY, "yes"
+        );
+        final Talk talk = new Talk.InFile(
+            "<talk name='abc' number='1' later='false'><wire>",
+            "<href>#</href><github-repo>test/warm</github-repo>",
+            "<github-issue>1</github-issue></wire>",
+            "<daemon id='a1'><title>merge</title><script>ls</script>",
+            "</daemon></talk>"
+        );
+        new StartsInstance(
+            Profile.EMPTY, ec2.api(), "ami-1", "t2.small", "sg-1", "subnet-1"
+        ).execute(talk);
+        MatcherAssert.assertThat(
+            "Warm instance should be given to the talk at once",
+            talk.read(),
+            XhtmlMatchers.hasXPaths(
+                String.format("/talk/ec2[instance='%s']", warm),
+                "/talk/ec2[host='10.0.0.1']"
+            )
+        );
+        MatcherAssert.assertThat(
+            "Warm instance should leave the pool",
+            new WarmPool(ec2.api()).idle(),
+            Matchers.empty()
+        );
+    }
+
+    /**
+     * StartsInstance can count the age of a warm instance from the moment
+     * it was taken, not from its launch.
+     * @throws Exception In case of error
+     */
+    @Test
+    void countsAgeFromTaking() throws Exception {
+        final FkEc2 ec2 = new FkEc2();
+        final String warm = ec2.running(
+            "t2.small",
+            Instant.now().minusMillis(TimeUnit.HOURS.toMillis(2L)),
+            "rultor", "yes", WarmPool.TAG, "t2.small",
+            WarmPool.READY, "yes"
+        );
+        final Talk talk = new Talk.InFile(
+            "<talk name='xyz' number='1' later='false'><wire>",
+            "<href>#</href><github-repo>test/old</github-repo>",
+            "<github-issue>1</github-issue></wire>",
+            "<daemon id='a2'><title>merge</title><script>ls</script>",
+            "</daemon></talk>"
+        );
+        new StartsInstance(
+            Profile.EMPTY, ec2.api(), "ami-1", "t2.small", "sg-1", "subnet-1"
+        ).execute(talk);
+        new ShootsInstance(ec2.api(), TimeUnit.HOURS.toMillis(1L))
+            .execute(talk);
+        MatcherAssert.assertThat(
+            "Recently taken instance should not be shot",
+            ec2.alive().stream()
+                .map(Instance::instanceId)
+                .collect(Collectors.toList()),
+            Matchers.hasItem(warm)
+        );
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.aws;
+
+import com.rultor.agents.shells.PfShell;
+import com.rultor.spi.Profile;
+import com.rultor.spi.Talks;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.ec2.model.Instance;
+
+/**
+ * Test case for {@link WarmsInstances}.
+ * @since 2.1
+ */
+final class WarmsInstancesTest {
+
+    /**
+     * WarmsInstances can fill the pool.
+     * @throws Exception In case of error
+     */
+    @Test
+    void fillsPool() throws Exception {
+        final FkEc2 ec2 = new FkEc2();
+        WarmsInstancesTest.agent(ec2, 2).execute(new Talks.InDir());
+        MatcherAssert.assertThat(
+            "Two warm instances should be launched",
+            new WarmPool(ec2.api()).idle(),
+            Matchers.hasSize(2)
+        );
+    }
+
+    /**
+     * WarmsInstances can retire instances that are idle for too long.
+     * @throws Exception In case of error
+     */
+    @Test
+    void retiresIdleInstances() throws Exception {
+        final FkEc2 ec2 = new FkEc2();
+        final String old = ec2.running(
+            "t2.small",
+            Instant.now().minusMillis(TimeUnit.HOURS.toMillis(2L)),
+            "rultor", "yes", WarmPool.TAG, "t2.small",
+            WarmPool.READY, "yes"
+        );
+        WarmsInstancesTest.agent(ec2, 1).execute(new Talks.InDir());
+        MatcherAssert.assertThat(
+            "Old instance should be replaced with a new one",
+            ec2.alive().stream()
+                .map(Instance::instanceId)
+                .collect(Collectors.toList()),
+            Matchers.allOf(
+                Matchers.hasSize(1),
+                Matchers.not(Matchers.hasItem(old))
+            )
+        );
+    }
+
+    /**
+     * Make an agent.
+     * @param ec2 Fake EC2
+     * @param size Size of the pool
+     * @return The agent
+     */
+    private static WarmsInstances agent(final FkEc2 ec2, final int size) {
+        return new WarmsInstances(
+            ec2.api(),
+            new PfShell(Profile.EMPTY, "none", 22, "ubuntu", ""),
+            Collections.singletonMap("t2.small", size),
+            TimeUnit.HOURS.toMillis(1L),
+            "ami-1", "sg-1", "subnet-1",
+            new Health(Runnable::run, 0L)
+        );
+    }
+}
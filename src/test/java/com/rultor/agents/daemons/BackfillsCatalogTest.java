@@ -0,0 +1,101 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.daemons;
+
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.fake.FkBucket;
+import com.rultor.spi.Talk;
+import com.rultor.spi.Talks;
+import jakarta.json.Json;
+import jakarta.json.JsonException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.xembly.Directives;
+
+/**
+ * Tests for ${@link BackfillsCatalog}.
+ * @since 2.1
+ */
+final class BackfillsCatalogTest {
+
+    @Test
+    void addsOldLogsToCatalog(@TempDir final Path temp) throws Exception {
+        final Talks talks = new Talks.InDir();
+        talks.create("test/backfill", Talk.TEST_NAME);
+        talks.get(Talk.TEST_NAME).modify(
+            new Directives().xpath("/talk")
+                .add("archive")
+                .add("log").attr("id", "a1b2c3").attr("title", "old")
+                .set("s3://test").up()
+                .add("log").attr("id", "d4e5f6").attr("title", "new")
+                .attr("ended", "2025-03-01T12:00:00Z")
+                .set("s3://test")
+        );
+        final Bucket bucket = new FkBucket(temp, "test");
+        final BackfillsCatalog agent = new BackfillsCatalog(bucket, 10);
+        agent.execute(talks);
+        agent.execute(talks);
+        MatcherAssert.assertThat(
+            "Log with the end must be added to its month, once",
+            new ListOf<>(new Catalog(bucket).month(YearMonth.of(2025, 3))),
+            Matchers.hasSize(1)
+        );
+        MatcherAssert.assertThat(
+            "Log without the end must be added to the month of the talk",
+            new ListOf<>(
+                new Catalog(bucket).month(
+                    YearMonth.from(
+                        talks.get(Talk.TEST_NAME).updated()
+                            .atZone(ZoneOffset.UTC)
+                    )
+                )
+            ),
+            Matchers.hasSize(1)
+        );
+    }
+
+    @Test
+    void skipsBrokenLogs(@TempDir final Path temp) throws Exception {
+        final Talk broken = Mockito.mock(Talk.class);
+        Mockito.doReturn(1L).when(broken).number();
+        Mockito.doReturn(Instant.now()).when(broken).updated();
+        Mockito.doThrow(new JsonException("broken")).when(broken).digest();
+        final Talk good = Mockito.mock(Talk.class);
+        Mockito.doReturn(2L).when(good).number();
+        Mockito.doReturn(Instant.now()).when(good).updated();
+        Mockito.doReturn(
+            Json.createObjectBuilder().add(
+                "logs",
+                Json.createArrayBuilder()
+                    .add(Json.createObjectBuilder().add("ended", "today"))
+                    .add(
+                        Json.createObjectBuilder()
+                            .add("id", "d4e5f6")
+                            .add("ended", "2025-03-01T12:00:00Z")
+                    )
+            ).build()
+        ).when(good).digest();
+        final Talks talks = Mockito.mock(Talks.class);
+        Mockito.doReturn(new ListOf<>(good)).when(talks).active();
+        Mockito.doReturn(true).when(talks).exists(Mockito.anyLong());
+        Mockito.doReturn(broken).when(talks).get(1L);
+        Mockito.doReturn(good).when(talks).get(2L);
+        final Bucket bucket = new FkBucket(temp, "test");
+        new BackfillsCatalog(bucket, 10).execute(talks);
+        MatcherAssert.assertThat(
+            "Good log must be added, while broken ones are skipped",
+            new ListOf<>(new Catalog(bucket).month(YearMonth.of(2025, 3))),
+            Matchers.hasSize(1)
+        );
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.daemons;
+
+import com.jcabi.s3.Bucket;
+import com.jcabi.s3.fake.FkBucket;
+import com.rultor.spi.Agent;
+import com.rultor.spi.Talk;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xembly.Directives;
+
+/**
+ * Tests for ${@link CatalogsLogs}.
+ * @since 2.1
+ */
+final class CatalogsLogsTest {
+
+    @Test
+    void addsSavedLogsToCatalog(@TempDir final Path temp)
+        throws Exception {
+        final Talk talk = new Talk.InFile();
+        talk.modify(
+            new Directives().xpath("/talk")
+                .add("archive")
+                .add("log").attr("id", "a1b2c3").attr("title", "old")
+                .set("s3://test").up()
+                .add("log").attr("id", "d4e5f6").attr("title", "new")
+                .attr("ended", "2025-03-01T12:00:00Z")
+                .set("s3://test")
+        );
+        final Bucket bucket = new FkBucket(temp, "test");
+        final Agent agent = new CatalogsLogs(bucket);
+        agent.execute(talk);
+        agent.execute(talk);
+        MatcherAssert.assertThat(
+            "Log with the end must be added to its month",
+            new ListOf<>(new Catalog(bucket).month(YearMonth.of(2025, 3))),
+            Matchers.hasSize(1)
+        );
+        MatcherAssert.assertThat(
+            "Log must be marked as catalogued",
+            talk.read().nodes("/talk/archive/log[@catalogued]"),
+            Matchers.hasSize(1)
+        );
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.daemons;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import org.apache.commons.io.IOUtils;
+import org.cactoos.map.MapEntry;
+import org.cactoos.map.MapOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link Tar}.
+ * @since 2.1
+ */
+final class TarTest {
+
+    @Test
+    void alignsArchiveToBlocks(@TempDir final Path temp) throws Exception {
+        final Path file = temp.resolve("a.txt");
+        Files.write(file, "hello".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "Archive must consist of header, data and two trailing blocks",
+            IOUtils.toByteArray(
+                new Tar(new MapOf<>(new MapEntry<>("a.txt", file))).stream()
+            ).length,
+            Matchers.equalTo(512 * 4)
+        );
+    }
+
+    @Test
+    void writesNameAndContent(@TempDir final Path temp) throws Exception {
+        final Path file = temp.resolve("settings.xml");
+        Files.write(file, "<x/>".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "Archive must contain both the name and the content",
+            new String(
+                IOUtils.toByteArray(
+                    new Tar(
+                        new MapOf<>(new MapEntry<>("settings.xml", file))
+                    ).stream()
+                ),
+                StandardCharsets.US_ASCII
+            ),
+            Matchers.allOf(
+                Matchers.startsWith("settings.xml"),
+                Matchers.containsString("ustar"),
+                Matchers.containsString("<x/>")
+            )
+        );
+    }
+
+    @Test
+    void streamsBigFiles(@TempDir final Path temp) throws Exception {
+        final Path file = temp.resolve("big.bin");
+        Files.write(file, new byte[(1 << 20) + 1]);
+        MatcherAssert.assertThat(
+            "Archive must align a big file to blocks",
+            IOUtils.toByteArray(
+                new Tar(new MapOf<>(new MapEntry<>("big.bin", file))).stream()
+            ).length,
+            Matchers.equalTo(512 * (1 + 2049 + 2))
+        );
+    }
+
+    @Test
+    void writesOnlyTrailerWhenEmpty() throws Exception {
+        MatcherAssert.assertThat(
+            "Empty archive must have only two zero blocks",
+            IOUtils.toByteArray(new Tar(Collections.emptyMap()).stream()),
+            Matchers.equalTo(new byte[512 * 2])
+        );
+    }
+
+    @Test
+    void rejectsLongNames(@TempDir final Path temp) throws Exception {
+        final Path file = temp.resolve("x");
+        Files.write(file, new byte[1]);
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Tar(
+                new MapOf<>(new MapEntry<>("x".repeat(120), file))
+            ).stream()
+        );
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.docker;
+
+import com.jcabi.ssh.Shell;
+import com.rultor.spi.Talks;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for ${@link Images}.
+ * @since 2.1
+ */
+final class ImagesTest {
+
+    /**
+     * Images can order images by the number of repos using them.
+     */
+    @Test
+    void ordersByPopularity() {
+        final Images images = new Images();
+        images.use("test/first", "test/rare:1.0");
+        images.use("test/first", "test/popular:1.0");
+        images.use("test/second", "test/popular:1.0");
+        MatcherAssert.assertThat(
+            "The image used by more repos should go first",
+            images.popular(Integer.MAX_VALUE),
+            Matchers.containsInRelativeOrder(
+                "test/popular:1.0", "test/rare:1.0"
+            )
+        );
+    }
+
+    /**
+     * PullsImages can pull popular images in background.
+     * @throws Exception In case of error
+     */
+    @Test
+    void pullsPopularImages() throws Exception {
+        new Images().use("test/third", "test/pulled:2.0");
+        final Shell shell = Mockito.mock(Shell.class);
+        new PullsImages(shell, Integer.MAX_VALUE).execute(
+            Mockito.mock(Talks.class)
+        );
+        Mockito.verify(shell).exec(
+            Mockito.argThat(
+                cmd -> cmd.contains("docker pull")
+                    && cmd.contains("test/pulled:2.0")
+                    && cmd.endsWith("&")
+            ),
+            Mockito.any(InputStream.class),
+            Mockito.any(OutputStream.class),
+            Mockito.any(OutputStream.class)
+        );
+    }
+}
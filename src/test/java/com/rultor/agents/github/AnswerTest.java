@@ -7,6 +7,7 @@ package com.rultor.agents.github;
 import com.jcabi.github.Comment;
 import com.jcabi.github.Issue;
 import com.jcabi.github.mock.MkGitHub;
+import com.rultor.spi.Talk;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.Date;
@@ -14,6 +15,7 @@ import org.cactoos.list.ListOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
+import org.xembly.Directives;
 
 /**
  * Tests for ${@link Answer}.
@@ -64,6 +66,47 @@ final class AnswerTest {
         );
     }
 
+    /**
+     * Answer can post again, when someone else speaks.
+     * @throws Exception In case of error.
+     */
+    @Test
+    void postsAgainAfterReset() throws Exception {
+        final Issue issue = AnswerTest.issue();
+        issue.comments().post("hey, do it");
+        final Answer answer = new Answer(
+            new Comment.Smart(issue.comments().get(1))
+        );
+        for (int idx = 0; idx < 10; ++idx) {
+            answer.post(true, "again");
+        }
+        ((MkGitHub) issue.repo().github()).relogin("walter")
+            .repos().get(issue.repo().coordinates())
+            .issues().get(issue.number()).comments().post("are you there?");
+        final Talk talk = new Talk.InFile();
+        talk.modify(
+            new Directives().xpath("/talk")
+                .attr("later", "true")
+                .add("wire")
+                .add("href").set("http://test").up()
+                .add("github-repo")
+                .set(issue.repo().coordinates().toString()).up()
+                .add("github-issue")
+                .set(Integer.toString(issue.number())).up()
+        );
+        new Understands(
+            issue.repo().github(), (cmt, home) -> Req.EMPTY
+        ).execute(talk);
+        answer.post(true, "once more");
+        MatcherAssert.assertThat(
+            "Answer must be posted after someone else's comment",
+            new ListOf<>(
+                issue.comments().iterate(Date.from(Instant.EPOCH))
+            ).size(),
+            Matchers.is(8)
+        );
+    }
+
     private static Issue issue() throws IOException {
         return new MkGitHub().randomRepo().issues().create("", "");
     }
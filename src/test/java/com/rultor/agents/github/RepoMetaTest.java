@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.github;
+
+import com.jcabi.github.Repo;
+import com.jcabi.github.mock.MkGitHub;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RepoMeta}.
+ * @since 2.1
+ */
+final class RepoMetaTest {
+
+    @Test
+    void remembersStar() throws Exception {
+        final Repo repo = new MkGitHub().randomRepo();
+        final RepoMeta meta = new RepoMeta(repo);
+        MatcherAssert.assertThat(
+            "New repo must not be starred",
+            meta.starred(),
+            Matchers.is(false)
+        );
+        meta.star();
+        MatcherAssert.assertThat(
+            "Star must be remembered without asking GitHub",
+            new RepoMeta(repo).starred(),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "Star must be actually placed in GitHub",
+            repo.stars().starred(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void readsPrivacy() throws Exception {
+        MatcherAssert.assertThat(
+            "Random repo must not be private",
+            new RepoMeta(new MkGitHub().randomRepo()).isPrivate(),
+            Matchers.is(false)
+        );
+    }
+}
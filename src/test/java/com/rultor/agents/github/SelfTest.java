@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.github;
+
+import com.jcabi.github.GitHub;
+import com.jcabi.github.mock.MkGitHub;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests for {@link Self}.
+ * @since 2.1
+ */
+final class SelfTest {
+
+    @Test
+    void fetchesLogin() throws Exception {
+        MatcherAssert.assertThat(
+            "Login of the authenticated user must be returned",
+            new Self(new MkGitHub("donald")).login(),
+            Matchers.equalTo("donald")
+        );
+    }
+
+    @Test
+    void fetchesLoginOnlyOnce() throws Exception {
+        final GitHub github = Mockito.mock(
+            GitHub.class, Mockito.RETURNS_DEEP_STUBS
+        );
+        Mockito.when(github.users().self().login()).thenReturn("rultor");
+        Mockito.clearInvocations(github);
+        new Self(github).login();
+        new Self(github).login();
+        Mockito.verify(github, Mockito.times(1)).users();
+    }
+
+    @Test
+    void rethrowsRuntimeFailureUnwrapped() throws Exception {
+        final GitHub github = Mockito.mock(
+            GitHub.class, Mockito.RETURNS_DEEP_STUBS
+        );
+        Mockito.when(github.users().self().login())
+            .thenThrow(new IllegalStateException("rate limit"));
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new Self(github).login()
+        );
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.github.qtn;
+
+import com.jcabi.github.Repo;
+import com.jcabi.github.mock.MkGitHub;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for ${@link Crew}.
+ * @since 2.1
+ */
+final class CrewTest {
+
+    /**
+     * Crew can keep collaborators in memory until flushed.
+     * @throws Exception In case of error.
+     */
+    @Test
+    void reloadsCollaboratorsAfterFlush() throws Exception {
+        final Repo repo = new MkGitHub().randomRepo();
+        repo.collaborators().add("first");
+        new Crew(repo).names();
+        repo.collaborators().add("second");
+        MatcherAssert.assertThat(
+            "Collaborators should be taken from memory",
+            new Crew(repo).names(),
+            Matchers.not(Matchers.hasItem("second"))
+        );
+        new Crew(repo).flush();
+        MatcherAssert.assertThat(
+            "Collaborators should be fetched again after the flush",
+            new Crew(repo).names(),
+            Matchers.hasItems("first", "second")
+        );
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.req;
+
+import com.jcabi.github.Comment;
+import com.jcabi.github.Issue;
+import com.jcabi.github.Repo;
+import com.jcabi.github.mock.MkGitHub;
+import com.jcabi.matchers.XhtmlMatchers;
+import com.rultor.spi.Talk;
+import com.rultor.spi.Talks;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.xembly.Directives;
+
+/**
+ * Tests for ${@link AdmitsRequests}.
+ *
+ * @since 2.1
+ */
+final class AdmitsRequestsTest {
+
+    /**
+     * Forget the plan made by the test.
+     */
+    @AfterEach
+    void forget() {
+        new Admission().update(
+            new Admission.Plan(Integer.MAX_VALUE, Integer.MAX_VALUE)
+        );
+    }
+
+    /**
+     * AdmitsRequests can admit a merge before an older deploy.
+     * @throws Exception In case of error.
+     */
+    @Test
+    void admitsMergeFirst() throws Exception {
+        final Repo repo = new MkGitHub().randomRepo();
+        final Talk deploy = AdmitsRequestsTest.talk(
+            repo.issues().create("", ""), "deploy", "2026-01-01T00:00:00Z"
+        );
+        final Talk merge = AdmitsRequestsTest.talk(
+            repo.issues().create("", ""), "merge", "2026-01-02T00:00:00Z"
+        );
+        final Talks talks = Mockito.mock(Talks.class);
+        Mockito.doReturn(Arrays.asList(deploy, merge)).when(talks).active();
+        new AdmitsRequests(repo.github(), 1, 1).execute(talks);
+        final Admission admission = new Admission();
+        MatcherAssert.assertThat(
+            "Merge should be admitted",
+            admission.admit(merge.read()),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "Deploy should wait in the queue",
+            admission.waits(deploy.name()),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "Deploy should have its position in the queue",
+            deploy.read(),
+            XhtmlMatchers.hasXPath("/talk/request/queue[@position='1']")
+        );
+    }
+
+    /**
+     * AdmitsRequests can tell the author about the queue only once.
+     * @throws Exception In case of error.
+     */
+    @Test
+    void postsPositionOnce() throws Exception {
+        final Repo repo = new MkGitHub().randomRepo();
+        final Issue issue = repo.issues().create("", "");
+        final Talk first = AdmitsRequestsTest.talk(
+            repo.issues().create("", ""), "merge", "2026-01-01T00:00:00Z"
+        );
+        final Talk second = AdmitsRequestsTest.talk(
+            issue, "merge", "2026-01-02T00:00:00Z"
+        );
+        final Talks talks = Mockito.mock(Talks.class);
+        Mockito.doReturn(Arrays.asList(first, second)).when(talks).active();
+        final AdmitsRequests agent = new AdmitsRequests(repo.github(), 1, 1);
+        agent.execute(talks);
+        agent.execute(talks);
+        MatcherAssert.assertThat(
+            "Position in the queue should be posted once",
+            issue.comments().iterate(),
+            Matchers.iterableWithSize(1)
+        );
+        MatcherAssert.assertThat(
+            "Position in the queue should be posted",
+            new Comment.Smart(
+                issue.comments().iterate().iterator().next()
+            ).body(),
+            Matchers.containsString("at position 1")
+        );
+    }
+
+    /**
+     * AdmitsRequests can admit a request of another organization, when
+     * one organization uses all its slots.
+     * @throws Exception In case of error.
+     */
+    @Test
+    void skipsOrganizationAtItsLimit() throws Exception {
+        final Repo repo = new MkGitHub().randomRepo();
+        final Talk running = AdmitsRequestsTest.talk(
+            repo.issues().create("", ""), "merge", "2026-01-01T00:00:00Z"
+        );
+        running.modify(
+            new Directives().xpath("/talk").add("daemon").attr("id", "d1")
+                .add("title").set("merge").up()
+                .add("script").set("ls")
+        );
+        final Talk busy = AdmitsRequestsTest.talk(
+            repo.issues().create("", ""), "merge", "2026-01-02T00:00:00Z"
+        );
+        final Repo foreign = new MkGitHub("jeff").randomRepo();
+        final Talk other = AdmitsRequestsTest.talk(
+            foreign.issues().create("", ""), "deploy", "2026-01-03T00:00:00Z"
+        );
+        final Talks talks = Mockito.mock(Talks.class);
+        Mockito.doReturn(Arrays.asList(running, busy, other))
+            .when(talks).active();
+        new AdmitsRequests(repo.github(), 16, 1).execute(talks);
+        final Admission admission = new Admission();
+        MatcherAssert.assertThat(
+            "Request of the organization at its limit should wait",
+            admission.waits(busy.name()),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "Request of another organization should be admitted",
+            admission.admit(other.read()),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * AdmitsRequests can take the request out of the queue, when it's
+     * admitted.
+     * @throws Exception In case of error.
+     */
+    @Test
+    void removesQueueWhenAdmitted() throws Exception {
+        final Repo repo = new MkGitHub().randomRepo();
+        final Talk first = AdmitsRequestsTest.talk(
+            repo.issues().create("", ""), "merge", "2026-01-01T00:00:00Z"
+        );
+        final Talk second = AdmitsRequestsTest.talk(
+            repo.issues().create("", ""), "merge", "2026-01-02T00:00:00Z"
+        );
+        final Talks talks = Mockito.mock(Talks.class);
+        Mockito.doReturn(Arrays.asList(first, second)).when(talks).active();
+        final AdmitsRequests agent = new AdmitsRequests(repo.github(), 1, 1);
+        agent.execute(talks);
+        Mockito.doReturn(Collections.singletonList(second))
+            .when(talks).active();
+        agent.execute(talks);
+        MatcherAssert.assertThat(
+            "Admitted request should leave the queue",
+            second.read(),
+            XhtmlMatchers.hasXPath("/talk/request[not(queue)]")
+        );
+    }
+
+    /**
+     * Make a talk with a waiting request.
+     * @param issue The issue
+     * @param type Type of the request
+     * @param time When it was requested
+     * @return Talk
+     * @throws IOException If fails
+     */
+    private static Talk talk(final Issue issue, final String type,
+        final String time) throws IOException {
+        final String hash = String.format("a%d", issue.number());
+        final Talk talk = new Talk.InFile();
+        talk.modify(
+            new Directives().xpath("/talk")
+                .attr("name", String.format("%s#%d", type, issue.number()))
+                .attr("later", "true")
+                .add("wire")
+                .add("href").set("http://test").up()
+                .add("github-repo").set(issue.repo().coordinates().toString())
+                .up()
+                .add("github-issue").set(Integer.toString(issue.number())).up()
+                .up()
+                .add("request").attr("id", hash)
+                .add("author").set("yegor256").up()
+                .add("type").set(type).up()
+                .add("args").up().up()
+                .add("trace").attr("id", hash)
+                .add("span").attr("name", "requested").attr("at", time)
+        );
+        return talk;
+    }
+}
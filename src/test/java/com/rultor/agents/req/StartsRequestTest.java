@@ -69,6 +69,78 @@ final class StartsRequestTest {
         );
     }
 
+    /**
+     * StartsRequest can mount cache volumes of the repo.
+     * @throws Exception In case of error.
+     */
+    @Test
+    void mountsCaches() throws Exception {
+        final Agent agent = new StartsRequest(
+            new Profile.Fixed(
+                "<p><entry key='merge'><entry key='script'>ls</entry></entry>",
+                "<entry key='docker'><entry key='cache'>",
+                "<item>/home/r/.m2</item><item>../etc</item>",
+                "</entry></entry></p>"
+            )
+        );
+        final Talk talk = new Talk.InFile();
+        talk.modify(
+            new Directives().xpath("/talk")
+                .add("request").attr("id", "abcd")
+                .add("author").set("yegor256").up()
+                .add("type").set("merge").up()
+                .add("args")
+        );
+        agent.execute(talk);
+        MatcherAssert.assertThat(
+            "Only absolute cache directories should be allowed",
+            talk.read(),
+            XhtmlMatchers.hasXPath(
+                "//script[contains(.,'\"../etc\" must be an absolute path')]"
+            )
+        );
+        talk.modify(new Directives().xpath("/talk/daemon").remove());
+        new StartsRequest(
+            new Profile.Fixed(
+                "<p><entry key='merge'><entry key='script'>ls</entry></entry>",
+                "<entry key='docker'><entry key='cache'>",
+                "<item>/home/r/.m2</item>",
+                "</entry></entry></p>"
+            )
+        ).execute(talk);
+        MatcherAssert.assertThat(
+            "Cache volume should be mounted",
+            talk.read(),
+            XhtmlMatchers.hasXPath(
+                "//script[contains(.,'--volume=rultor-cache-')]"
+            )
+        );
+    }
+
+    /**
+     * StartsRequest can give every command caches of its own.
+     * @throws Exception In case of error.
+     */
+    @Test
+    void separatesCachesOfCommands() throws Exception {
+        final Agent agent = new StartsRequest(
+            new Profile.Fixed(
+                "<p><entry key='merge'><entry key='script'>ls</entry></entry>",
+                "<entry key='deploy'><entry key='script'>ls</entry></entry>",
+                "<entry key='docker'><entry key='cache'>",
+                "<item>/home/r/.m2</item>",
+                "</entry></entry></p>"
+            )
+        );
+        MatcherAssert.assertThat(
+            "Merge and deploy should not share the cache",
+            StartsRequestTest.volume(agent, "merge"),
+            Matchers.not(
+                Matchers.equalTo(StartsRequestTest.volume(agent, "deploy"))
+            )
+        );
+    }
+
     /**
      * StartsRequest can start a request.
      * @param temp Temporary folder for talk
@@ -513,4 +585,26 @@ final class StartsRequestTest {
         ).stdout();
         return repo;
     }
+
+    /**
+     * Start a request and find the name of its cache volume.
+     * @param agent The agent
+     * @param type Type of the request
+     * @return Name of the volume
+     * @throws IOException If fails
+     */
+    private static String volume(final Agent agent, final String type)
+        throws IOException {
+        final Talk talk = new Talk.InFile();
+        talk.modify(
+            new Directives().xpath("/talk")
+                .add("request").attr("id", "abcd")
+                .add("author").set("yegor256").up()
+                .add("type").set(type).up()
+                .add("args")
+        );
+        agent.execute(talk);
+        return talk.read().xpath("/talk/daemon/script/text()").get(0)
+            .replaceAll("(?s).*--volume=(rultor-cache-[0-9a-f]+).*", "$1");
+    }
 }
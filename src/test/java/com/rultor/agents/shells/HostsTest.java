@@ -0,0 +1,97 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.shells;
+
+import com.jcabi.immutable.ArrayMap;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Hosts}.
+ * @since 2.1
+ */
+final class HostsTest {
+
+    /**
+     * Hosts can choose the least loaded host.
+     */
+    @Test
+    void choosesLeastLoaded() {
+        final Hosts hosts = new Hosts(
+            new ArrayMap<String, Integer>()
+                .with("busy.example.com", 4)
+                .with("idle.example.com", 4)
+        );
+        hosts.measured(
+            "busy.example.com", Hosts.Load.parse("10.0 8 1000 700 3 50")
+        );
+        hosts.measured(
+            "idle.example.com", Hosts.Load.parse("1.5 8 1000 200 1 30")
+        );
+        MatcherAssert.assertThat(
+            "The idle host should be chosen",
+            hosts.best().get(),
+            Matchers.equalTo("idle.example.com")
+        );
+    }
+
+    /**
+     * Hosts can count containers placed between measurements.
+     */
+    @Test
+    void countsPlacedContainers() {
+        final Hosts hosts = new Hosts(
+            new ArrayMap<String, Integer>().with("small.example.com", 2)
+        );
+        hosts.measured("small.example.com", Hosts.Load.UNKNOWN);
+        hosts.best();
+        hosts.best();
+        MatcherAssert.assertThat(
+            "The host should be full after two containers",
+            hosts.best().isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Hosts can choose nothing when all hosts are saturated.
+     */
+    @Test
+    void choosesNothingWhenSaturated() {
+        final Hosts hosts = new Hosts(
+            new ArrayMap<String, Integer>()
+                .with("full.example.com", 8)
+                .with("down.example.com", 8)
+        );
+        hosts.measured(
+            "full.example.com", Hosts.Load.parse("4.0 4 1000 950 2 10")
+        );
+        hosts.measured("down.example.com", Hosts.Load.DOWN);
+        MatcherAssert.assertThat(
+            "Nothing should be chosen",
+            hosts.best().isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Hosts can count containers that are gone.
+     */
+    @Test
+    void countsReleasedContainers() {
+        final Hosts hosts = new Hosts(
+            new ArrayMap<String, Integer>().with("tiny.example.com", 1)
+        );
+        hosts.measured("tiny.example.com", Hosts.Load.UNKNOWN);
+        hosts.best();
+        hosts.released("tiny.example.com");
+        MatcherAssert.assertThat(
+            "The host should be free again",
+            hosts.best().isPresent(),
+            Matchers.is(true)
+        );
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.shells;
+
+import com.jcabi.immutable.ArrayMap;
+import com.jcabi.ssh.Shell;
+import com.rultor.spi.Talks;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link MeasuresHosts}.
+ * @since 2.1
+ */
+final class MeasuresHostsTest {
+
+    /**
+     * MeasuresHosts can skip hosts that don't answer.
+     * @throws Exception In case of error
+     */
+    @Test
+    void skipsBrokenHosts() throws Exception {
+        final Hosts hosts = new Hosts(
+            new ArrayMap<String, Integer>()
+                .with("alive.example.com", 1)
+                .with("broken.example.com", 4)
+        );
+        new MeasuresHosts(
+            hosts,
+            new ArrayMap<String, Shell>()
+                .with(
+                    "alive.example.com",
+                    new Shell.Fake(0, "0.5 2 100 10 0 5", "")
+                )
+                .with("broken.example.com", new Shell.Fake(1, "", "oops"))
+        ).execute(new Talks.InDir());
+        MatcherAssert.assertThat(
+            "The only alive host should be chosen",
+            hosts.best().get(),
+            Matchers.equalTo("alive.example.com")
+        );
+    }
+}
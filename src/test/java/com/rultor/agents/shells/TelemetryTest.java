@@ -0,0 +1,83 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.agents.shells;
+
+import com.rultor.Metrics;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for ${@link Telemetry}.
+ * @since 2.1
+ */
+final class TelemetryTest {
+
+    /**
+     * Telemetry can publish the load of a host and its containers.
+     */
+    @Test
+    void publishesGauges() {
+        new Telemetry().add(
+            "10.0.0.7", "0.5 2 1000 400 1 75\nbuild_one 12.5 3.0\n"
+        );
+        MatcherAssert.assertThat(
+            "Gauges of the host and the container should be published",
+            new Metrics().text(),
+            Matchers.allOf(
+                Matchers.containsString(
+                    "rultor_host_disk_ratio{host=\"10.0.0.7\"} 0.750000"
+                ),
+                Matchers.containsString(
+                    "rultor_container_cpu_ratio{container=\"build_one\"} 0.125"
+                )
+            )
+        );
+    }
+
+    /**
+     * Telemetry can describe the latest sample and forget the host.
+     */
+    @Test
+    void forgetsHost() {
+        final Telemetry telemetry = new Telemetry();
+        telemetry.add("10.0.0.8", "0.1 4 2000 500 1 10\nbuild_two 50 25\n");
+        MatcherAssert.assertThat(
+            "Container usage should be described",
+            telemetry.latest("10.0.0.8").get().container("build_two").get(),
+            Matchers.equalTo("50% of CPU and 25% of memory")
+        );
+        telemetry.retain(Collections.emptyList());
+        MatcherAssert.assertThat(
+            "The host should be forgotten",
+            telemetry.history("10.0.0.8"),
+            Matchers.empty()
+        );
+        MatcherAssert.assertThat(
+            "Gauges of the container should be removed",
+            new Metrics().text(),
+            Matchers.not(Matchers.containsString("build_two"))
+        );
+    }
+
+    /**
+     * Telemetry can skip containers without numbers.
+     */
+    @Test
+    void skipsContainersWithoutNumbers() {
+        final Telemetry telemetry = new Telemetry();
+        telemetry.add(
+            "10.0.0.9",
+            "0.1 4 2000 500 2 10\nbuild_three -- --\nbuild_four 5 5\n"
+        );
+        MatcherAssert.assertThat(
+            "Container without numbers should be skipped",
+            telemetry.latest("10.0.0.9").get().container("build_three")
+                .isPresent(),
+            Matchers.is(false)
+        );
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.profiles;
+
+import com.jcabi.xml.XMLDocument;
+import com.rultor.spi.Talk;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Acl}.
+ * @since 2.1
+ */
+final class AclTest {
+
+    /**
+     * Acl can remember readers from a profile.
+     * @throws Exception In case of error
+     */
+    @Test
+    void remembersReaders() throws Exception {
+        new Acl("Test/Acl-One").update(
+            new XMLDocument(
+                "<p><entry key='readers'><item>urn:github:1</item></entry></p>"
+            )
+        );
+        MatcherAssert.assertThat(
+            "Readers should be taken from memory",
+            new Acl("test/acl-one").readers(),
+            Matchers.contains("urn:github:1")
+        );
+    }
+
+    /**
+     * Profiles can find readers of a talk, through Acl.
+     * @throws Exception In case of error
+     */
+    @Test
+    void findsReadersOfTalk() throws Exception {
+        new Acl("test/acl-two").update(new XMLDocument("<p/>"));
+        MatcherAssert.assertThat(
+            "Everybody should be able to read a public repo",
+            new Profiles().readers(
+                new Talk.InFile(
+                    "<talk name='abc' number='1' later='false'><wire>",
+                    "<href>#</href><github-repo>test/acl-two</github-repo>",
+                    "<github-issue>1</github-issue></wire></talk>"
+                )
+            ),
+            Matchers.emptyIterable()
+        );
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.spi;
+
+import jakarta.json.JsonObject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.xembly.Directives;
+
+/**
+ * Test case for {@link Digest}.
+ * @since 2.1
+ */
+final class DigestTest {
+
+    /**
+     * Digest can summarize archived logs.
+     * @throws Exception In case of error
+     */
+    @Test
+    void summarizesArchivedLogs() throws Exception {
+        final Talk talk = new Talk.InFile();
+        talk.modify(
+            new Directives()
+                .xpath("/talk").add("wire")
+                .add("href").set("http://example.com/1").up()
+                .add("github-repo").set("test/test").up()
+                .add("github-issue").set("1").up().up()
+                .add("archive")
+                .add("log").attr("id", "abc").attr("title", "old one")
+                .set("s3://test/1").up()
+                .add("log").attr("id", "def").attr("title", "new one")
+                .attr("code", "1").attr("msec", "7000")
+                .attr("ended", "2026-01-01T00:00:00Z")
+                .set("s3://test/2")
+        );
+        final JsonObject json = new Digest(talk.read()).json();
+        MatcherAssert.assertThat(
+            "Href of the wire should be in the digest",
+            json.getString("href"),
+            Matchers.equalTo("http://example.com/1")
+        );
+        MatcherAssert.assertThat(
+            "Both logs should be in the digest",
+            json.getJsonArray("logs").size(),
+            Matchers.equalTo(2)
+        );
+        MatcherAssert.assertThat(
+            "Duration of the new log should be in the digest",
+            json.getJsonArray("logs").getJsonObject(1)
+                .getJsonNumber("msec").longValue(),
+            Matchers.equalTo(7000L)
+        );
+    }
+
+    /**
+     * Digest can be empty.
+     * @throws Exception In case of error
+     */
+    @Test
+    void summarizesEmptyTalk() throws Exception {
+        MatcherAssert.assertThat(
+            "Digest of an empty talk should have no logs",
+            new Talk.InFile().digest().getJsonArray("logs"),
+            Matchers.emptyIterable()
+        );
+    }
+}
@@ -5,11 +5,18 @@
 package com.rultor.web;
 
 import com.jcabi.matchers.XhtmlMatchers;
+import com.rultor.agents.daemons.Outcomes;
+import com.rultor.spi.Talk;
+import com.rultor.spi.Talks;
 import org.cactoos.text.TextOf;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.takes.facets.fork.RqRegex;
+import org.takes.rq.RqFake;
+import org.takes.rq.RqWithHeader;
 import org.takes.rs.RsPrint;
+import org.xembly.Directives;
 
 /**
  * Test case for {@link TkButton}.
@@ -28,7 +35,9 @@ final class TkButtonTest {
             XhtmlMatchers.xhtml(
                 new TextOf(
                     new RsPrint(
-                        new TkButton().act(new RqRegex.Fake("(.*)", "hey"))
+                        new TkButton(new Talks.InDir()).act(
+                            new RqRegex.Fake("(.*)", "hey")
+                        )
                     ).body()
                 ).asString()
             ),
@@ -38,4 +47,109 @@ final class TkButtonTest {
             )
         );
     }
+
+    /**
+     * TkButton can render the latest outcome of the repo.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void rendersLatestOutcome() throws Exception {
+        new Outcomes().add(
+            "test/badge", new Outcomes.Outcome("merge", 0, 1000L)
+        );
+        MatcherAssert.assertThat(
+            "Badge with the outcome should be generated",
+            XhtmlMatchers.xhtml(
+                new TextOf(
+                    new RsPrint(
+                        new TkButton(new Talks.InDir()).act(
+                            new RqRegex.Fake("(.*)", "test/badge")
+                        )
+                    ).body()
+                ).asString()
+            ),
+            XhtmlMatchers.hasXPath(
+                "//svg:text[starts-with(., 'merge passed')]"
+            )
+        );
+    }
+
+    /**
+     * TkButton can respond with 304 when nothing changed.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void respondsNotModified() throws Exception {
+        new Outcomes().add(
+            "test/etag", new Outcomes.Outcome("deploy", 1, 5000L)
+        );
+        final TkButton take = new TkButton(new Talks.InDir());
+        final String etag = new RsPrint(
+            take.act(new RqRegex.Fake("(.*)", "test/etag"))
+        ).printHead().replaceAll("(?s).*ETag: (\"[^\"]+\").*", "$1");
+        MatcherAssert.assertThat(
+            "Same outcome should not be modified",
+            new RsPrint(
+                take.act(
+                    new RqRegex.Fake(
+                        new RqWithHeader(
+                            new RqFake("GET", "/b/test/etag"),
+                            "If-None-Match", etag
+                        ),
+                        "(.*)", "test/etag"
+                    )
+                )
+            ).printHead(),
+            Matchers.containsString("304")
+        );
+    }
+
+    /**
+     * TkButton can load the outcome that ended last, and let it be cached.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void loadsOutcomeThatEndedLast() throws Exception {
+        final Talks talks = new Talks.InDir();
+        TkButtonTest.talk(
+            talks, Talk.TEST_NAME, "merge", 0, "2026-01-02T00:00:00Z"
+        );
+        TkButtonTest.talk(
+            talks, "test-b", "release", 1, "2026-01-03T00:00:00Z"
+        );
+        final RsPrint response = new RsPrint(
+            new TkButton(talks).act(new RqRegex.Fake("(.*)", "test/loaded"))
+        );
+        MatcherAssert.assertThat(
+            "Badge should show the outcome that ended last",
+            XhtmlMatchers.xhtml(response.printBody()),
+            XhtmlMatchers.hasXPath(
+                "//svg:text[starts-with(., 'release failed')]"
+            )
+        );
+        MatcherAssert.assertThat(
+            "Badge should be cacheable for a while",
+            response.printHead(),
+            Matchers.containsString("max-age=")
+        );
+    }
+
+    // @checkstyle ParameterNumberCheck (2 lines)
+    private static void talk(final Talks talks, final String name,
+        final String command, final int code, final String ended)
+        throws Exception {
+        talks.create("test/loaded", name);
+        talks.get(name).modify(
+            new Directives()
+                .xpath("/talk")
+                .push().xpath("wire").remove().pop()
+                .add("wire").add("href").set("http://example.com").up()
+                .add("github-repo").set("test/loaded").up()
+                .add("github-issue").set("1").up().up()
+                .add("archive").add("log").attr("title", command)
+                .attr("id", "a1b2c3").attr("code", Integer.toString(code))
+                .attr("msec", "1000").attr("ended", ended)
+                .set("s3://test")
+        );
+    }
 }
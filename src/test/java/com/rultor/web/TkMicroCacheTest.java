@@ -0,0 +1,125 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.web;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.takes.facets.fork.RqRegex;
+import org.takes.facets.fork.TkRegex;
+import org.takes.rq.RqFake;
+import org.takes.rq.RqWithHeader;
+import org.takes.rs.RsPrint;
+import org.takes.rs.RsText;
+
+/**
+ * Test case for {@link TkMicroCache}.
+ * @since 2.1
+ */
+final class TkMicroCacheTest {
+
+    /**
+     * TkMicroCache can render a page only once.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void rendersOnlyOnce() throws Exception {
+        final AtomicInteger renders = new AtomicInteger();
+        final TkRegex take = new TkMicroCache(
+            req -> new RsText(
+                String.format("rendered %d", renders.incrementAndGet())
+            ),
+            req -> "v1"
+        );
+        for (int idx = 0; idx < 3; ++idx) {
+            take.act(new RqRegex.Fake("(.*)", "/once"));
+        }
+        MatcherAssert.assertThat(
+            "Page should be rendered once",
+            renders.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    /**
+     * TkMicroCache can respond with 304 when the version is the same.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void respondsNotModified() throws Exception {
+        final TkRegex take = new TkMicroCache(
+            req -> new RsText("hello"), req -> "v2"
+        );
+        final String etag = new RsPrint(
+            take.act(new RqRegex.Fake("(.*)", "/same"))
+        ).printHead().replaceAll("(?s).*ETag: (\"[^\"]+\").*", "$1");
+        MatcherAssert.assertThat(
+            "Same version should not be modified",
+            new RsPrint(
+                take.act(
+                    new RqRegex.Fake(
+                        new RqWithHeader(
+                            new RqFake("GET", "/same"), "If-None-Match", etag
+                        ),
+                        "(.*)", "/same"
+                    )
+                )
+            ).printHead(),
+            Matchers.containsString("304")
+        );
+    }
+
+    /**
+     * TkMicroCache can render pages for visitors with cookies.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void rendersForVisitorsWithCookies() throws Exception {
+        final AtomicInteger renders = new AtomicInteger();
+        final TkRegex take = new TkMicroCache(
+            req -> new RsText(
+                String.format("private %d", renders.incrementAndGet())
+            ),
+            req -> "v3"
+        );
+        for (int idx = 0; idx < 2; ++idx) {
+            take.act(
+                new RqRegex.Fake(
+                    new RqWithHeader(
+                        new RqFake("GET", "/cookie"), "Cookie", "PsCookie=x"
+                    ),
+                    "(.*)", "/cookie"
+                )
+            );
+        }
+        MatcherAssert.assertThat(
+            "Page should be rendered for every logged in visitor",
+            renders.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    /**
+     * TkMicroCache can ask for the version only once in a while.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void asksForVersionOnce() throws Exception {
+        final AtomicInteger asked = new AtomicInteger();
+        final TkRegex take = new TkMicroCache(
+            req -> new RsText("versioned"),
+            req -> String.format("v%d", asked.incrementAndGet())
+        );
+        for (int idx = 0; idx < 3; ++idx) {
+            take.act(new RqRegex.Fake("(.*)", "/version"));
+        }
+        MatcherAssert.assertThat(
+            "Version should be asked for once",
+            asked.get(),
+            Matchers.equalTo(1)
+        );
+    }
+}
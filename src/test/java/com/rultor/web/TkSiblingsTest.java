@@ -40,7 +40,9 @@ final class TkSiblingsTest {
                 .add("github-repo").set("yegor256/rultor").up()
                 .add("github-issue").set("555").up().up()
                 .add("archive").add("log").attr("title", "hello, world")
-                .attr("id", "a1b2c3").set("s3://test")
+                .attr("id", "a1b2c3").attr("code", "0").attr("msec", "500")
+                .attr("ended", "2026-01-01T12:35:09Z")
+                .set("s3://test")
         );
         MatcherAssert.assertThat(
             "Response on GET request should contain info",
@@ -67,7 +69,10 @@ final class TkSiblingsTest {
                 "/page/siblings/talk[timeago]",
                 "/page/siblings/talk/archive/log[id and href and title]",
                 "/page/siblings/talk/archive[count(log)=1]",
-                "//log[starts-with(href,'https://')]"
+                "//log[starts-with(href,'https://')]",
+                "//log[code='0' and msec='500' and duration]",
+                "//log[ended='2026-01-01T12:35:09Z']",
+                "/page/siblings/talk[href='http://example.com']"
             )
         );
     }
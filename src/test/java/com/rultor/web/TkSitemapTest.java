@@ -5,15 +5,23 @@
 package com.rultor.web;
 
 import com.jcabi.matchers.XhtmlMatchers;
-import com.rultor.spi.Talk;
-import com.rultor.spi.Talks;
+import com.jcabi.s3.fake.FkBucket;
+import com.rultor.agents.daemons.Catalog;
+import java.net.HttpURLConnection;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
 import org.cactoos.text.TextOf;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
-import org.takes.Take;
+import org.junit.jupiter.api.io.TempDir;
+import org.takes.HttpException;
+import org.takes.facets.fork.RqRegex;
 import org.takes.rq.RqFake;
+import org.takes.rq.RqWithHeader;
 import org.takes.rs.RsPrint;
-import org.xembly.Directives;
 
 /**
  * Test case for {@link TkSitemap}.
@@ -21,35 +29,116 @@ import org.xembly.Directives;
  */
 final class TkSitemapTest {
 
+    /**
+     * Regex of the route.
+     */
+    private static final String ROUTE =
+        "/sitemap(?:/([0-9]{4}-[0-9]{2})\\.xml)?";
+
     /**
      * TkSitemap can render a list.
+     * @param temp Temporary directory
      * @throws Exception If some problem inside
      */
     @Test
-    void rendersListOfTalks() throws Exception {
-        final Talks talks = new Talks.InDir();
-        final Take take = new TkSitemap(talks);
-        talks.create("repo1", Talk.TEST_NAME);
-        talks.get(Talk.TEST_NAME).modify(
-            new Directives()
-                .xpath("/talk").push().xpath("wire").remove().pop()
-                .add("wire").add("href").set("http://example.com").up()
-                .add("github-repo").set("yegor256/rultor").up()
-                .add("github-issue").set("555").up().up()
-                .add("archive").add("log").attr("title", "hello, world")
-                .attr("id", "a1b2c3").set("s3://test")
-        );
+    void rendersListOfTalks(@TempDir final Path temp) throws Exception {
+        final Catalog catalog = new Catalog(new FkBucket(temp, "test"));
+        catalog.add(1L, "a1b2c3");
+        final String month = YearMonth.now(ZoneOffset.UTC).toString();
         MatcherAssert.assertThat(
             "Sitemap should be generated",
             XhtmlMatchers.xhtml(
                 new TextOf(
-                    new RsPrint(take.act(new RqFake())).body()
+                    new RsPrint(
+                        new TkSitemap(() -> catalog).act(
+                            new RqRegex.Fake(
+                                TkSitemapTest.ROUTE,
+                                String.format("/sitemap/%s.xml", month)
+                            )
+                        )
+                    ).body()
                 ).asString()
             ),
-            XhtmlMatchers.hasXPath(
+            XhtmlMatchers.hasXPaths(
                 "/ns1:urlset[count(ns1:url)=1]",
                 "http://www.sitemaps.org/schemas/sitemap/0.9"
             )
         );
     }
+
+    /**
+     * TkSitemap can render an index of months.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void rendersIndex() throws Exception {
+        MatcherAssert.assertThat(
+            "Index should link the current month",
+            new RsPrint(
+                new TkSitemap(
+                    () -> {
+                        throw new IllegalStateException("not needed");
+                    }
+                ).act(new RqRegex.Fake(TkSitemapTest.ROUTE, "/sitemap"))
+            ).printBody(),
+            Matchers.containsString(
+                String.format(
+                    "/sitemap/%s.xml</loc>",
+                    YearMonth.now(ZoneOffset.UTC)
+                )
+            )
+        );
+    }
+
+    /**
+     * TkSitemap can tell that past months are not modified.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void respondsNotModified() throws Exception {
+        MatcherAssert.assertThat(
+            "Past month should not be modified",
+            new RsPrint(
+                new TkSitemap(
+                    () -> {
+                        throw new IllegalStateException("not needed");
+                    }
+                ).act(
+                    new RqRegex.Fake(
+                        new RqWithHeader(
+                            new RqFake("GET", "/sitemap/2026-01.xml"),
+                            "If-Modified-Since",
+                            "Sun, 1 Feb 2026 00:00:00 GMT"
+                        ),
+                        TkSitemapTest.ROUTE,
+                        "/sitemap/2026-01.xml"
+                    )
+                )
+            ).printHead(),
+            Matchers.containsString("304")
+        );
+    }
+
+    /**
+     * TkSitemap can reject a malformed month.
+     */
+    @Test
+    void rejectsMalformedMonth() {
+        MatcherAssert.assertThat(
+            "Malformed month should not be found",
+            Assertions.assertThrows(
+                HttpException.class,
+                () -> new TkSitemap(
+                    () -> {
+                        throw new IllegalStateException("not needed");
+                    }
+                ).act(
+                    new RqRegex.Fake(
+                        TkSitemapTest.ROUTE, "/sitemap/2026-13.xml"
+                    )
+                )
+            ).code(),
+            Matchers.equalTo(HttpURLConnection.HTTP_NOT_FOUND)
+        );
+    }
 }
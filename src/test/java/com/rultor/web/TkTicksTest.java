@@ -10,10 +10,13 @@ import java.io.ByteArrayInputStream;
 import java.util.Arrays;
 import javax.imageio.ImageIO;
 import org.cactoos.bytes.BytesOf;
+import org.cactoos.iterable.Filtered;
+import org.cactoos.list.ListOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.takes.rq.RqFake;
+import org.takes.rq.RqWithHeader;
 import org.takes.rs.RsPrint;
 
 /**
@@ -52,6 +55,13 @@ final class TkTicksTest {
                                         );
                                     }
 
+                                    @Override
+                                    public Iterable<Tick> history(
+                                        final long from, final long till
+                                    ) {
+                                        return this.ticks();
+                                    }
+
                                     @Override
                                     public Iterable<Throwable> error() {
                                         throw new UnsupportedOperationException(
@@ -89,4 +99,50 @@ final class TkTicksTest {
             Matchers.notNullValue()
         );
     }
+
+    /**
+     * TkTicks can render SVG with ETag.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void rendersSvgWithEtag() throws Exception {
+        MatcherAssert.assertThat(
+            "TkTicks should generate SVG with ETag",
+            new RsPrint(
+                new TkTicks(Pulse.EMPTY).act(new RqFake("GET", "/ticks.svg"))
+            ).asString(),
+            Matchers.allOf(
+                Matchers.containsString("Content-Type: image/svg+xml"),
+                Matchers.containsString("ETag: "),
+                Matchers.containsString("<svg")
+            )
+        );
+    }
+
+    /**
+     * TkTicks can respond with 304 when the graph is not changed.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    void respondsNotModified() throws Exception {
+        final TkTicks take = new TkTicks(Pulse.EMPTY);
+        final String etag = new ListOf<>(
+            new Filtered<>(
+                head -> head.startsWith("ETag: "),
+                take.act(new RqFake("GET", "/ticks.svg")).head()
+            )
+        ).get(0).substring("ETag: ".length());
+        MatcherAssert.assertThat(
+            "TkTicks should not render the same graph again",
+            new RsPrint(
+                take.act(
+                    new RqWithHeader(
+                        new RqFake("GET", "/ticks.svg"),
+                        "If-None-Match", etag
+                    )
+                )
+            ).printHead(),
+            Matchers.startsWith("HTTP/1.1 304")
+        );
+    }
 }
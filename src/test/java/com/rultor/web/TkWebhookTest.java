@@ -0,0 +1,199 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2009-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.rultor.web;
+
+import com.jcabi.github.mock.MkGitHub;
+import com.jcabi.matchers.XhtmlMatchers;
+import com.rultor.Bell;
+import com.rultor.spi.Talk;
+import com.rultor.spi.Talks;
+import jakarta.json.Json;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.apache.commons.codec.binary.Hex;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.takes.Request;
+import org.takes.rq.RqFake;
+import org.takes.rq.RqWithHeaders;
+import org.takes.rs.RsPrint;
+
+/**
+ * Test case for {@link TkWebhook}.
+ * @since 2.1
+ */
+final class TkWebhookTest {
+
+    /**
+     * Shared secret.
+     */
+    private static final String SECRET = "s3cr3t";
+
+    @Test
+    void activatesTalkWhenMentioned() throws Exception {
+        final Talks talks = Mockito.mock(Talks.class);
+        final Talk talk = new Talk.InFile();
+        Mockito.when(talks.get(Mockito.anyString())).thenReturn(talk);
+        final Bell bell = new Bell();
+        new TkWebhook(
+            talks, new MkGitHub("rultor"), TkWebhookTest.SECRET, bell
+        ).act(TkWebhookTest.comment("@rultor merge", TkWebhookTest.SECRET));
+        Mockito.verify(talks).create("jeff/test", "jeff/test#7");
+        MatcherAssert.assertThat(
+            "Talk must be wired to the issue",
+            talk.read(),
+            XhtmlMatchers.hasXPaths(
+                "/talk/wire[github-repo='jeff/test' and github-issue='7']",
+                "/talk[@later='true']"
+            )
+        );
+        MatcherAssert.assertThat(
+            "Routine must be woken up",
+            bell.answer(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void ignoresCommentsWithoutMention() throws Exception {
+        final Talks talks = Mockito.mock(Talks.class);
+        final Bell bell = new Bell();
+        new TkWebhook(
+            talks, new MkGitHub("rultor"), TkWebhookTest.SECRET, bell
+        ).act(TkWebhookTest.comment("just a comment", TkWebhookTest.SECRET));
+        Mockito.verifyNoInteractions(talks);
+        MatcherAssert.assertThat(
+            "Routine must not be woken up",
+            bell.answer(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void rejectsWrongSignature() throws Exception {
+        final Talks talks = Mockito.mock(Talks.class);
+        MatcherAssert.assertThat(
+            "Request signed with another secret must be rejected",
+            new RsPrint(
+                new TkWebhook(
+                    talks, new MkGitHub("rultor"), TkWebhookTest.SECRET,
+                    new Bell()
+                ).act(TkWebhookTest.comment("@rultor merge", "wrong"))
+            ).printHead(),
+            Matchers.startsWith(
+                String.format("HTTP/1.1 %d", HttpURLConnection.HTTP_FORBIDDEN)
+            )
+        );
+        Mockito.verifyNoInteractions(talks);
+    }
+
+    @Test
+    void rejectsPayloadWithoutRepository() throws Exception {
+        final Talks talks = Mockito.mock(Talks.class);
+        MatcherAssert.assertThat(
+            "Payload without the repository must be rejected",
+            new RsPrint(
+                new TkWebhook(
+                    talks, new MkGitHub("rultor"), TkWebhookTest.SECRET,
+                    new Bell()
+                ).act(
+                    TkWebhookTest.request(
+                        "member", "{\"action\":\"added\"}",
+                        TkWebhookTest.SECRET
+                    )
+                )
+            ).printHead(),
+            Matchers.startsWith(
+                String.format(
+                    "HTTP/1.1 %d", HttpURLConnection.HTTP_BAD_REQUEST
+                )
+            )
+        );
+    }
+
+    @Test
+    void ignoresUnknownEvent() throws Exception {
+        MatcherAssert.assertThat(
+            "Unknown event must be ignored",
+            new RsPrint(
+                new TkWebhook(
+                    Mockito.mock(Talks.class), new MkGitHub("rultor"),
+                    TkWebhookTest.SECRET, new Bell()
+                ).act(
+                    TkWebhookTest.request(
+                        "star", "{\"action\":\"created\"}",
+                        TkWebhookTest.SECRET
+                    )
+                )
+            ).printBody(),
+            Matchers.containsString("ignored")
+        );
+    }
+
+    /**
+     * Make a request, as GitHub would send it.
+     * @param text Text of the comment
+     * @param secret Secret to sign with
+     * @return Request
+     * @throws Exception If fails
+     */
+    private static Request comment(final String text, final String secret)
+        throws Exception {
+        final String body = Json.createObjectBuilder()
+            .add("action", "created")
+            .add(
+                "repository",
+                Json.createObjectBuilder().add("full_name", "jeff/test")
+            )
+            .add(
+                "issue",
+                Json.createObjectBuilder()
+                    .add("number", 7)
+                    .add("html_url", "https://github.com/jeff/test/issues/7")
+            )
+            .add(
+                "comment",
+                Json.createObjectBuilder()
+                    .add("body", text)
+                    .add(
+                        "user", Json.createObjectBuilder().add("login", "jeff")
+                    )
+            )
+            .build().toString();
+        return TkWebhookTest.request("issue_comment", body, secret);
+    }
+
+    /**
+     * Make a signed request.
+     * @param event Type of the event
+     * @param body Body of the request
+     * @param secret Secret to sign with
+     * @return Request
+     * @throws Exception If fails
+     */
+    private static Request request(final String event, final String body,
+        final String secret) throws Exception {
+        final Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(
+            new SecretKeySpec(
+                secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"
+            )
+        );
+        return new RqWithHeaders(
+            new RqFake("POST", "/hook/github", body),
+            String.format("X-GitHub-Event: %s", event),
+            String.format(
+                "X-Hub-Signature-256: sha256=%s",
+                Hex.encodeHexString(
+                    mac.doFinal(body.getBytes(StandardCharsets.UTF_8))
+                )
+            )
+        );
+    }
+}